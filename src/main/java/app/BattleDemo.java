@@ -1,7 +1,7 @@
 package app;
 
 import entity.*;
-import factory.pokemonFactory;
+import dataaccess.PokemonRepository;
 import interface_adapter.battle.*;
 import use_case.use_move.*;
 import use_case.start_battle.*;
@@ -88,13 +88,11 @@ public class BattleDemo {
 
         try {
             // Add Pikachu
-            pokemonFactory factory1 = new pokemonFactory("pikachu");
-            Pokemon pikachu = factory1.getPokemon();
+            Pokemon pikachu = PokemonRepository.shared().loadAsync("pikachu").join();
             team.addPokemon(pikachu);
 
             // Add Charizard
-            pokemonFactory factory2 = new pokemonFactory("charizard");
-            Pokemon charizard = factory2.getPokemon();
+            Pokemon charizard = PokemonRepository.shared().loadAsync("charizard").join();
             team.addPokemon(charizard);
 
         } catch (Exception e) {
@@ -110,13 +108,11 @@ public class BattleDemo {
 
         try {
             // Add Blastoise
-            pokemonFactory factory1 = new pokemonFactory("blastoise");
-            Pokemon blastoise = factory1.getPokemon();
+            Pokemon blastoise = PokemonRepository.shared().loadAsync("blastoise").join();
             team.addPokemon(blastoise);
 
             // Add Venusaur
-            pokemonFactory factory2 = new pokemonFactory("venusaur");
-            Pokemon venusaur = factory2.getPokemon();
+            Pokemon venusaur = PokemonRepository.shared().loadAsync("venusaur").join();
             team.addPokemon(venusaur);
 
         } catch (Exception e) {
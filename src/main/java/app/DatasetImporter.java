@@ -0,0 +1,84 @@
+package app;
+
+import factory.MoveDefinitionCache;
+import org.json.JSONObject;
+import poke_api.BundledDataset;
+import poke_api.BundledDatasetWriter;
+import poke_api.MoveInfo;
+import poke_api.SpeciesInfo;
+import poke_api.pokemonFetcher;
+import view.TeamSelectionScreen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One-shot tool that snapshots the team selection roster from the PokeAPI into the
+ * bundled dataset, so the game can start without the network.
+ * Usage: DatasetImporter [--if-missing] [output path] (defaults to resources/pokedex.bin)
+ *
+ * The Maven build runs it with {@code --if-missing}: an existing dataset is kept, and if
+ * the PokeAPI can't be reached the build goes on without one and the game falls back to
+ * the API (and its disk cache) at runtime.
+ */
+public class DatasetImporter {
+    public static final String IF_MISSING = "--if-missing";
+
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        boolean ifMissing = arguments.remove(IF_MISSING);
+        Path target = arguments.isEmpty() ? BundledDataset.DEFAULT_PATH : Paths.get(arguments.get(0));
+
+        if (ifMissing && Files.isRegularFile(target)) {
+            System.out.println("Keeping the bundled dataset at " + target);
+            return;
+        }
+        try {
+            importRoster(target);
+        } catch (RuntimeException | IOException e) {
+            if (!ifMissing) {
+                throw e;
+            }
+            System.err.println("Could not build the bundled dataset at " + target + ": " + e.getMessage());
+            System.err.println("Species will be loaded from the PokeAPI instead");
+        }
+    }
+
+    private static void importRoster(Path target) throws IOException {
+        pokemonFetcher fetcher = new pokemonFetcher();
+        MoveDefinitionCache moveCache = new MoveDefinitionCache(fetcher);
+
+        List<String> roster = TeamSelectionScreen.getRosterNames();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        List<SpeciesInfo> species = new ArrayList<>();
+        Map<String, MoveInfo> moves = new LinkedHashMap<>();
+
+        for (String name : roster) {
+            pending.add(fetcher.getPokemonAsync(name).thenCompose(json -> moveCache.getMoves(json)
+                    .thenAccept(speciesMoves -> record(json, speciesMoves, fetcher, species, moves))));
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        } finally {
+            // OkHttp's dispatcher threads would otherwise keep the JVM (and the build) alive for a minute
+            fetcher.client.dispatcher().executorService().shutdown();
+            fetcher.client.connectionPool().evictAll();
+        }
+
+        BundledDatasetWriter.write(target, species, moves.values());
+        System.out.println("Wrote " + species.size() + " species and " + moves.size() + " moves to " + target);
+    }
+
+    private static synchronized void record(JSONObject json, Map<String, MoveInfo> speciesMoves, pokemonFetcher fetcher,
+                                            List<SpeciesInfo> species, Map<String, MoveInfo> moves) {
+        species.add(fetcher.getSpeciesInfo(json));
+        moves.putAll(speciesMoves);
+    }
+}
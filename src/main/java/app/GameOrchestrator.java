@@ -1,38 +1,43 @@
 
 package app;
 
+import dataaccess.AutoSaver;
+import dataaccess.GameJournal;
 import dataaccess.JsonGameRepository;
 import entity.GameState;
-import entity.PokemonTeam;
 
 /**
  * Single source of truth for the entire game.
- * Call updateState() after ANY change → auto-saves instantly.
+ * Call updateState() after ANY change → auto-saves in the background.
+ * Saves go through {@link AutoSaver}, so a burst of updates is written once and the
+ * caller (usually the EDT) never waits on the disk. Call {@link #flush()} when the save
+ * has to be on disk before going on.
+ * With -Dsave.journal=true the game is saved as a {@link GameJournal} instead: each
+ * update appends only what changed, with a full snapshot every so often.
+ * This is the one game of the desktop client; to host many games in one JVM use a
+ * {@link GameSessionManager}.
  */
 public class GameOrchestrator {
 
+    public static final String JOURNAL_PROPERTY = "save.journal";
+    private static final java.nio.file.Path JOURNAL_SNAPSHOT = java.nio.file.Paths.get("resources/autosave.snapshot.json");
+
     private static GameState current;
+    private static AutoSaver saver;
+    private static GameJournal journal;
 
     /**
      * Initializes the game state by loading from save or starting fresh.
      */
     public static void init() {
-        final GameState saved = JsonGameRepository.load();
+        final GameState saved = isJournaled() ? journal().recover() : JsonGameRepository.load();
         System.out.println(saved);
         if (saved != null) {
             current = saved;
             System.out.println("[Auto-Load] Resumed from tower level " + saved.currentTowerLevel());
         }
         else {
-            current = new GameState(
-                    GameState.Screen.TEAM_SELECTION,
-                    GameState.Player.PLAYER1,
-                    new PokemonTeam(),
-                    new PokemonTeam(),
-                    null,
-                    1,
-                    0
-            );
+            current = GameSessionManager.newGameState();
             autoSave();
         }
 
@@ -43,24 +48,24 @@ public class GameOrchestrator {
      */
     public static void forceNewGame() {
         // Delete autosave file and start completely fresh
+        // (after any queued save, or it would write the old game back)
+        flush();
         try {
-            java.nio.file.Files.deleteIfExists(java.nio.file.Paths.get("resources/autosave.json"));
+            java.nio.file.Path saveFile = JsonGameRepository.AUTOSAVE_FILE;
+            java.nio.file.Files.deleteIfExists(saveFile);
+            // load() would fall back to the backup otherwise
+            java.nio.file.Files.deleteIfExists(JsonGameRepository.backupOf(saveFile));
             System.out.println("[New Game] Old save deleted - starting fresh!");
         }
         catch (java.io.IOException exception) {
             System.out.println("file doesn't exist");
         }
+        if (isJournaled()) {
+            journal().reset();
+        }
 
         // Create brand-new empty state
-        current = new GameState(
-                GameState.Screen.TEAM_SELECTION,
-                GameState.Player.PLAYER1,
-                new PokemonTeam(),
-                new PokemonTeam(),
-                null,
-                1,
-                0
-        );
+        current = GameSessionManager.newGameState();
     }
 
     /**
@@ -73,8 +78,50 @@ public class GameOrchestrator {
         autoSave();
     }
 
+    /**
+     * Waits, up to {@link AutoSaver#DEFAULT_FLUSH_TIMEOUT}, until every state passed to
+     * updateState() so far is saved.
+     *
+     * @return true if the save file is up to date
+     */
+    public static boolean flush() {
+        return saver().flush(AutoSaver.DEFAULT_FLUSH_TIMEOUT);
+    }
+
     private static void autoSave() {
-        JsonGameRepository.save(current);
+        saver().submit(current);
+    }
+
+    private static boolean isJournaled() {
+        return Boolean.getBoolean(JOURNAL_PROPERTY);
+    }
+
+    private static synchronized AutoSaver saver() {
+        if (saver == null) {
+            saver = isJournaled() ? AutoSaver.flushedOnExit(AutoSaver.failingOnFalse(journal()::record)) : AutoSaver.shared();
+        }
+        return saver;
+    }
+
+    private static synchronized GameJournal journal() {
+        if (journal == null) {
+            journal = new GameJournal(JOURNAL_SNAPSHOT);
+        }
+        return journal;
+    }
+
+    /**
+     * Moves the run up one tower floor after a won battle, raising the high score when
+     * the new floor is the highest reached.
+     *
+     * @return the updated state
+     */
+    public static GameState advanceTowerLevel() {
+        final int level = current.currentTowerLevel() + 1;
+        updateState(new GameState(current.currentScreen(), current.activeTeamSelector(),
+                current.player1Team(), current.player2Team(), current.battlePhase(),
+                level, Math.max(current.highScore(), level)));
+        return current;
     }
 
     public static GameState getCurrent() {
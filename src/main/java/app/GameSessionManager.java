@@ -0,0 +1,386 @@
+package app;
+
+import dataaccess.JsonGameRepository;
+import entity.GameState;
+import entity.PokemonTeam;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Many games in one JVM, each with its own state and save file.
+ *
+ * {@link GameOrchestrator} is the one-game facade the Swing client uses; this is its
+ * instance-based counterpart for hosting sessions side by side. Sessions are kept in a
+ * concurrent map by id and loaded from {@code <directory>/<id>.sav} on first use (or
+ * started fresh). Each session's state sits in an {@link AtomicReference}, so updates are
+ * compare-and-set and never take a lock shared with other sessions. Teams are changed in
+ * place by the game, so every stored state is also copied, on the caller's thread, and the
+ * background writer only ever sees that copy; storing a state again (even the same object
+ * after changing its teams) always counts as a change. No file is read or
+ * written inside a map operation: a session is put in the map empty and filled in by the
+ * thread that put it there, and an evicted one is written out before it is removed.
+ *
+ * After an update the session is saved in the background by a small shared pool; a
+ * burst of updates to one session is written once. Sessions nobody has touched for the
+ * idle timeout are written out and dropped from memory, and load again on next use.
+ */
+public class GameSessionManager implements Closeable {
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    public static final String SESSION_SUFFIX = ".sav";
+    private static final Pattern SESSION_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final int WRITER_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private final Path directory;
+    private final Duration idleTimeout;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService writers = Executors.newFixedThreadPool(WRITER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "session-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "session-evict");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean closed;
+
+    /**
+     * What a session holds: the state callers see, the copy the writer saves, and how many
+     * times a state has been stored.
+     */
+    private record Stored(GameState state, GameState snapshot, long version) {
+        Stored next(GameState next) {
+            return new Stored(next, next.copy(), version + 1);
+        }
+    }
+
+    /**
+     * One game. {@code stored} is set once {@code loaded} completes, and is null again
+     * once the session has been evicted (its file is up to date by then); whoever still
+     * holds it removes it from the map and asks the map again.
+     */
+    private static final class Session {
+        final String id;
+        final Path file;
+        final CompletableFuture<Void> loaded = new CompletableFuture<>();
+        final AtomicReference<Stored> stored = new AtomicReference<>();
+        final AtomicBoolean saveScheduled = new AtomicBoolean();
+        volatile long lastUsedMillis;
+        // the version the file holds; only read and written while holding the session
+        long writtenVersion;
+
+        Session(String id, Path file, long now) {
+            this.id = id;
+            this.file = file;
+            this.lastUsedMillis = now;
+        }
+    }
+
+    public GameSessionManager(Path directory) {
+        this(directory, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public GameSessionManager(Path directory, Duration idleTimeout) {
+        this(directory, idleTimeout, Clock.systemUTC());
+    }
+
+    GameSessionManager(Path directory, Duration idleTimeout, Clock clock) {
+        this.directory = directory;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        long period = Math.max(1000, idleTimeout.toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The state a fresh game starts in.
+     */
+    public static GameState newGameState() {
+        return new GameState(
+                GameState.Screen.TEAM_SELECTION,
+                GameState.Player.PLAYER1,
+                new PokemonTeam(),
+                new PokemonTeam(),
+                null,
+                1,
+                0
+        );
+    }
+
+    /**
+     * The session's current state, loading it from disk or starting a new game if it
+     * isn't in memory.
+     *
+     * @throws IllegalArgumentException if the id isn't 1-64 letters, digits, '-' or '_'
+     */
+    public GameState get(String id) {
+        while (true) {
+            final Session session = session(id);
+            final Stored stored = session.stored.get();
+            if (stored != null) {
+                session.lastUsedMillis = clock.millis();
+                return stored.state();
+            }
+            discard(session);
+        }
+    }
+
+    /**
+     * Replaces the session's state with {@code next} if it is still {@code expected}
+     * (the same object), and saves it in the background.
+     *
+     * An evicted session comes back as a new object, so a state read before the
+     * eviction no longer matches; read it again and retry, as after any other change.
+     *
+     * @return true if the state was replaced
+     */
+    public boolean compareAndSet(String id, GameState expected, GameState next) {
+        Objects.requireNonNull(next, "next");
+        while (true) {
+            final Session session = session(id);
+            final Stored stored = session.stored.get();
+            if (stored == null) {
+                discard(session);
+                continue;
+            }
+            session.lastUsedMillis = clock.millis();
+            if (stored.state() != expected) {
+                return false;
+            }
+            if (session.stored.compareAndSet(stored, stored.next(next))) {
+                scheduleSave(session);
+                return true;
+            }
+            // changed or evicted since the read; look again
+        }
+    }
+
+    /**
+     * Applies {@code change} to the session's current state until it wins the
+     * compare-and-set. {@code change} may run more than once, so it must not have side
+     * effects.
+     *
+     * @return the state that was stored
+     */
+    public GameState update(String id, UnaryOperator<GameState> change) {
+        while (true) {
+            final Session session = session(id);
+            final Stored stored = session.stored.get();
+            if (stored == null) {
+                discard(session);
+                continue;
+            }
+            session.lastUsedMillis = clock.millis();
+            final GameState next = Objects.requireNonNull(change.apply(stored.state()), "change returned null");
+            if (session.stored.compareAndSet(stored, stored.next(next))) {
+                scheduleSave(session);
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Replaces the session's state, whatever it is, and saves it in the background.
+     */
+    public void set(String id, GameState state) {
+        Objects.requireNonNull(state, "state");
+        update(id, current -> state);
+    }
+
+    public boolean isLoaded(String id) {
+        final Session session = sessions.get(id);
+        return session != null && session.stored.get() != null;
+    }
+
+    /** How many sessions are in memory. */
+    public int loadedCount() {
+        return sessions.size();
+    }
+
+    /** Where a session is saved. */
+    public Path fileOf(String id) {
+        checkId(id);
+        return directory.resolve(id + SESSION_SUFFIX);
+    }
+
+    /**
+     * Writes out and drops every session not used for the idle timeout. Runs on its own
+     * every half timeout; each session is handled on its own, without stopping the others.
+     *
+     * @return how many sessions were dropped
+     */
+    public int evictIdle() {
+        final long idleBefore = clock.millis() - idleTimeout.toMillis();
+        int evicted = 0;
+        for (Session session : sessions.values()) {
+            if (evict(session, idleBefore)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Writes every session with unsaved changes, on the calling thread.
+     *
+     * @return true if all of them were written
+     */
+    public boolean flush() {
+        boolean ok = true;
+        for (Session session : sessions.values()) {
+            if (session.loaded.isDone()) {
+                ok &= persist(session);
+            }
+        }
+        return ok;
+    }
+
+    /**
+     * Writes out and drops every session. The manager can't be used afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        for (Session session : sessions.values()) {
+            evict(session, Long.MAX_VALUE);
+        }
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.err.println("Session saves still running after close");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Session session(String id) {
+        checkId(id);
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("Session manager is closed");
+            }
+            Session session = sessions.get(id);
+            if (session == null) {
+                final Session fresh = new Session(id, directory.resolve(id + SESSION_SUFFIX), clock.millis());
+                session = sessions.putIfAbsent(id, fresh);
+                if (session == null) {
+                    // ours to load; anyone else asking for the id waits on `loaded`, nobody else does
+                    load(fresh);
+                    return fresh;
+                }
+            }
+            try {
+                session.loaded.join();
+                return session;
+            } catch (RuntimeException e) {
+                // the load failed and the session is gone from the map; try again
+                sessions.remove(id, session);
+            }
+        }
+    }
+
+    private void load(Session session) {
+        final GameState saved;
+        try {
+            saved = JsonGameRepository.load(session.file);
+            final GameState state = saved != null ? saved : newGameState();
+            synchronized (session) {
+                // a new game isn't on disk yet
+                session.writtenVersion = saved != null ? 0 : -1;
+                session.stored.set(new Stored(state, state.copy(), 0));
+            }
+            session.loaded.complete(null);
+        } catch (RuntimeException e) {
+            sessions.remove(session.id, session);
+            session.loaded.completeExceptionally(e);
+            throw e;
+        }
+        if (saved == null) {
+            scheduleSave(session);
+        }
+    }
+
+    /** Takes an evicted session out of the map; its file is already written. */
+    private void discard(Session session) {
+        sessions.remove(session.id, session);
+    }
+
+    private boolean evict(Session session, long idleBefore) {
+        if (!session.loaded.isDone() || session.loaded.isCompletedExceptionally()) {
+            return false;
+        }
+        synchronized (session) {
+            if (session.lastUsedMillis > idleBefore) {
+                return false;
+            }
+            final Stored stored = session.stored.get();
+            if (stored == null || !persist(session)) {
+                return false;
+            }
+            // an update that lands during the write keeps the session loaded
+            if (!session.stored.compareAndSet(stored, null)) {
+                return false;
+            }
+        }
+        discard(session);
+        return true;
+    }
+
+    private void scheduleSave(Session session) {
+        if (session.saveScheduled.compareAndSet(false, true)) {
+            try {
+                writers.execute(() -> {
+                    // cleared first, so an update during the write schedules another one
+                    session.saveScheduled.set(false);
+                    persist(session);
+                });
+            } catch (RejectedExecutionException e) {
+                session.saveScheduled.set(false);
+                throw new IllegalStateException("Session manager is closed", e);
+            }
+        }
+    }
+
+    /** Writes the session's current state if the file doesn't have it yet. */
+    private boolean persist(Session session) {
+        synchronized (session) {
+            // always the newest state, so a late write can never put an older one back
+            final Stored stored = session.stored.get();
+            if (stored == null || stored.version() == session.writtenVersion) {
+                return true;
+            }
+            if (!JsonGameRepository.save(stored.snapshot(), session.file)) {
+                System.err.println("Saving session " + session.id + " failed");
+                return false;
+            }
+            session.writtenVersion = stored.version();
+            return true;
+        }
+    }
+
+    private static void checkId(String id) {
+        if (id == null || !SESSION_ID.matcher(id).matches()) {
+            throw new IllegalArgumentException("Not a session id: " + id);
+        }
+    }
+}
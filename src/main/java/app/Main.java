@@ -1,5 +1,8 @@
 package app;
 
+import dataaccess.PokemonRepository;
+import dataaccess.RosterPrefetcher;
+import dataaccess.SpeciesIndex;
 import entity.Battle;
 import entity.GameState;
 import entity.PokemonTeam;
@@ -15,11 +18,18 @@ import use_case.start_battle.*;
 import use_case.use_move.*;
 import interface_adapter.select_team.*;
 import interface_adapter.battle.*;
+import simulation.BattlePolicy;
+import simulation.MonteCarloTreeSearchPolicy;
+import simulation.SearchPolicy;
+import poke_api.BundledDataset;
+import tower.TowerFloors;
+import tower.TowerTeamGenerator;
 import view.*;
 
 import javax.swing.*;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.concurrent.CompletableFuture;
 
 // import for music
 import Music.MusicPlayer;
@@ -29,11 +39,28 @@ public class Main {
 
     public static MusicPlayer battleMusic;
 
+    // run with -Dbattle.computerOpponent=true to have the computer play Player 2's turns
+    public static final String COMPUTER_OPPONENT_PROPERTY = "battle.computerOpponent";
+    // with -Dbattle.opponentPolicy=mcts the computer plays by tree search scaled to the tower level
+    public static final String OPPONENT_POLICY_PROPERTY = "battle.opponentPolicy";
+    // with -Dbattle.tower=true Player 2's team is the generated opponent of the current tower floor,
+    // and winning a battle moves on to the next floor
+    public static final String TOWER_PROPERTY = "battle.tower";
+
+    private static CompletableFuture<TowerFloors> towerFloors;
+
     public static void main(String[] args) {
         // Load or initialize game state
         GameOrchestrator.forceNewGame();  // Start fresh
         GameState state = GameOrchestrator.getCurrent();
 
+        // Warm the species and move caches while the player is still on the first screen
+        RosterPrefetcher.shared().start(TeamSelectionScreen.getRosterNames());
+        if (Boolean.getBoolean(TOWER_PROPERTY)) {
+            // build the tower's species index during team selection, not when the first battle starts
+            towerFloors();
+        }
+
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("Pokémon Battle Game");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -169,6 +196,12 @@ public class Main {
     }
 
     private static void startBattle(JFrame frame, PokemonTeam team1, PokemonTeam team2) {
+        TowerFloors floors = Boolean.getBoolean(TOWER_PROPERTY) ? towerFloors().join() : null;
+        if (floors != null) {
+            // also starts generating the next floors while this battle runs
+            team2 = floors.opponentFor(GameOrchestrator.getCurrent());
+        }
+
         // === CRITICAL: Debug logging to verify teams are different ===
         System.out.println("\n=== STARTING BATTLE ===");
         System.out.println("Team 1 Pokemon:");
@@ -205,7 +238,9 @@ public class Main {
         useMoveViewModel.setBattle(battle);
 
         UseMoveOutputBoundary useMovePresenter = new BattlePresenter(useMoveViewModel);
-        UseMoveInputBoundary useMoveInteractor = new UseMoveInteractor(useMovePresenter);
+        UseMoveInputBoundary useMoveInteractor = Boolean.getBoolean(COMPUTER_OPPONENT_PROPERTY)
+                ? new UseMoveInteractor(useMovePresenter, opponentPolicy())
+                : new UseMoveInteractor(useMovePresenter);
         BattleController battleController = new BattleController(useMoveInteractor);
 
         // === NEW: BattleEndNavigator for Rematch / New Game ===
@@ -220,6 +255,10 @@ public class Main {
                 battleMusic.playMusic();
 
                 resetTeamsForRematch(previousBattle);
+                // in the tower a won battle goes up a floor, a lost one replays the same floor
+                if (Boolean.getBoolean(TOWER_PROPERTY) && previousBattle.getWinner() == previousBattle.getTeam1()) {
+                    GameOrchestrator.advanceTowerLevel();
+                }
 
                 PokemonTeam rematchTeam1 = previousBattle.getTeam1();
                 PokemonTeam rematchTeam2 = previousBattle.getTeam2();
@@ -340,6 +379,36 @@ public class Main {
     }
 
 
+    /**
+     * Tower opponents, built once. Species come from the bundled dataset when there is one,
+     * otherwise from the roster through the repository, whose caches RosterPrefetcher is
+     * already warming. Completes with null (tower off) if no species could be loaded.
+     */
+    private static synchronized CompletableFuture<TowerFloors> towerFloors() {
+        if (towerFloors == null) {
+            BundledDataset dataset = BundledDataset.openDefault();
+            CompletableFuture<SpeciesIndex> species = dataset != null
+                    ? CompletableFuture.completedFuture(SpeciesIndex.fromDataset(dataset))
+                    : SpeciesIndex.loadAsync(PokemonRepository.shared(), TeamSelectionScreen.getRosterNames());
+            towerFloors = species.thenApply(index -> {
+                if (index.size() == 0) {
+                    System.err.println("No species could be loaded, tower mode is off");
+                    return null;
+                }
+                return new TowerFloors(new TowerTeamGenerator(index, System.nanoTime()));
+            });
+        }
+        return towerFloors;
+    }
+
+    /** A new policy per battle: the tree search one keeps state between turns. */
+    private static BattlePolicy opponentPolicy() {
+        if ("mcts".equalsIgnoreCase(System.getProperty(OPPONENT_POLICY_PROPERTY))) {
+            return MonteCarloTreeSearchPolicy.forTowerLevel(GameOrchestrator.getCurrent().currentTowerLevel());
+        }
+        return new SearchPolicy();
+    }
+
     private static class StartBattlePresenter implements StartBattleOutputBoundary {
         private final BattleViewModel viewModel;
 
@@ -0,0 +1,185 @@
+package dataaccess;
+
+import entity.GameState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Write-behind queue for autosaves.
+ *
+ * {@link #submit} copies the state's teams and swaps the copy into a single pending slot,
+ * so the thread that changed the game (usually the EDT) never serializes or touches the
+ * disk, and the writer never sees a team that is being changed.
+ * One background thread writes whatever is in the slot. A burst of updates while a write
+ * is running collapses into one write of the newest state; the states it skipped are
+ * counted as dropped. {@link #flush} waits, up to a limit, until everything submitted
+ * before it is on disk, and the shared instance does that on JVM exit.
+ */
+public class AutoSaver {
+    public static final Duration DEFAULT_FLUSH_TIMEOUT = Duration.ofSeconds(2);
+
+    private static AutoSaver shared;
+
+    private final Consumer<GameState> writer;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<GameState> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final AtomicLong saves = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicLong lastLatencyNanos = new AtomicLong();
+    // whether the newest write threw; flush() reports it
+    private volatile boolean lastWriteFailed;
+
+    /**
+     * @param writer does the actual save; called on the background thread only, one state at a time
+     */
+    public AutoSaver(Consumer<GameState> writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Saver writing through {@link JsonGameRepository#save}, flushed when the JVM exits.
+     */
+    public static synchronized AutoSaver shared() {
+        if (shared == null) {
+            shared = flushedOnExit(failingOnFalse(JsonGameRepository::save));
+        }
+        return shared;
+    }
+
+    /**
+     * Saver that flushes for up to {@link #DEFAULT_FLUSH_TIMEOUT} when the JVM exits.
+     */
+    public static AutoSaver flushedOnExit(Consumer<GameState> writer) {
+        AutoSaver saver = new AutoSaver(writer);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> saver.flush(DEFAULT_FLUSH_TIMEOUT), "autosave-flush"));
+        return saver;
+    }
+
+    /**
+     * Adapts a save that reports failure by returning false into a writer that throws,
+     * so the failure is counted and seen by {@link #flush}.
+     */
+    public static Consumer<GameState> failingOnFalse(Predicate<GameState> save) {
+        return state -> {
+            if (!save.test(state)) {
+                throw new UncheckedIOException(new IOException("Save of tower level "
+                        + state.currentTowerLevel() + " was not written"));
+            }
+        };
+    }
+
+    /**
+     * Queues a copy of the state to be saved and returns immediately. If an older state
+     * is still waiting, it is replaced and never written.
+     */
+    public void submit(GameState state) {
+        // teams are changed in place by the game, so the writer gets its own
+        GameState snapshot = new GameState(state.currentScreen(), state.activeTeamSelector(),
+                state.player1Team().copy(), state.player2Team().copy(),
+                state.battlePhase(), state.currentTowerLevel(), state.highScore());
+        if (pending.getAndSet(snapshot) != null) {
+            dropped.incrementAndGet();
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Waits until every state submitted before this call has been written, or the
+     * timeout passes.
+     *
+     * @return true if everything was written in time and the newest write succeeded
+     */
+    public boolean flush(Duration timeout) {
+        // the executor runs tasks in order, so this starts after any drain already queued
+        Future<?> done = executor.submit(this::writePending);
+        try {
+            done.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return !lastWriteFailed;
+        } catch (TimeoutException e) {
+            System.err.println("Auto-save still writing after " + timeout.toMillis() + " ms");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // writePending doesn't throw
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public Metrics metrics() {
+        return new Metrics(saves.get(), dropped.get(), failures.get(),
+                Duration.ofNanos(lastLatencyNanos.get()), Duration.ofNanos(maxLatencyNanos.get()),
+                Duration.ofNanos(totalLatencyNanos.get()));
+    }
+
+    /**
+     * @param saves        states written
+     * @param dropped      states replaced by a newer one before they were written
+     * @param failures     writes that threw
+     * @param totalLatency time spent writing over all saves
+     */
+    public record Metrics(long saves, long dropped, long failures,
+                          Duration lastLatency, Duration maxLatency, Duration totalLatency) {
+        public Duration averageLatency() {
+            return saves == 0 ? Duration.ZERO : totalLatency.dividedBy(saves);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            writePending();
+            scheduled.set(false);
+            // a submit between the write and the reset saw scheduled == true and didn't queue a drain
+            if (pending.get() == null || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void writePending() {
+        GameState state = pending.getAndSet(null);
+        if (state == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            writer.accept(state);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            lastWriteFailed = true;
+            System.err.println("Auto-save failed: " + e.getMessage());
+            return;
+        }
+        lastWriteFailed = false;
+        long latency = System.nanoTime() - start;
+        saves.incrementAndGet();
+        lastLatencyNanos.set(latency);
+        totalLatencyNanos.addAndGet(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+}
@@ -0,0 +1,467 @@
+package dataaccess;
+
+import entity.BaseLevelStats;
+import entity.GameState;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_case.game_state_persistence.SaveGameInteractor;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Event-sourced save: a snapshot plus an append-only journal of what changed since.
+ *
+ * {@link #record} compares the new state with a private copy of the last recorded one
+ * (the shadow) and appends only the differences as one line of JSON: a screen change, a
+ * Pokemon's new HP, one move's PP, two team members swapping places, and so on. A whole
+ * Pokemon is only written when it joins a team. Every {@code snapshotInterval} lines the
+ * full state is written as a snapshot (in the normal save format, readable by
+ * {@link JsonGameRepository#load}) and the journal is emptied.
+ *
+ * Each line carries a sequence number and the snapshot records the last one it contains,
+ * so a crash between writing the snapshot and emptying the journal replays nothing
+ * twice. A line torn by a crash is ignored on recovery and the journal is compacted
+ * straight away. {@link #replay} walks the states since the snapshot, e.g. to show how
+ * a battle went.
+ */
+public class GameJournal implements Closeable {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 200;
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final String SEQUENCE_KEY = "journalSeq";
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final int snapshotInterval;
+
+    private FileChannel channel;
+    private boolean recovered;
+    // copy of the last recorded state, kept up to date by applying the same events
+    private GameState shadow;
+    private long sequence;
+    private int linesSinceSnapshot;
+
+    public GameJournal(Path snapshotFile) {
+        this(snapshotFile, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * @param snapshotFile     where snapshots go; the journal sits next to it with {@link #JOURNAL_SUFFIX}
+     * @param snapshotInterval journal lines between snapshots
+     */
+    public GameJournal(Path snapshotFile, int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("snapshotInterval must be at least 1");
+        }
+        this.snapshotFile = snapshotFile;
+        this.journalFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + JOURNAL_SUFFIX);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public Path getJournalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Rebuilds the last recorded state from the snapshot and the journal.
+     *
+     * @return the state, or {@code null} if nothing was ever recorded
+     */
+    public synchronized GameState recover() {
+        recovered = true;
+        Replay replay = replay(snapshotFile, journalFile, state -> { });
+        shadow = replay.state;
+        sequence = replay.sequence;
+        linesSinceSnapshot = replay.lines;
+        if (replay.state != null && !replay.clean) {
+            // anything appended after a torn or missing line could never be replayed
+            try {
+                compact(replay.state);
+            } catch (IOException e) {
+                System.err.println("Journal compaction failed: " + e.getMessage());
+                shadow = null;
+            }
+        }
+        return shadow == null ? null : copyOf(shadow);
+    }
+
+    /**
+     * Appends what changed since the last recorded state. The first call after opening
+     * (or after a failed write) writes a full snapshot instead. The state's teams must
+     * not change during the call; {@link AutoSaver#submit} hands over a copy.
+     *
+     * @return true if the state is safely recorded
+     */
+    public synchronized boolean record(GameState state) {
+        if (!recovered) {
+            recover();
+        }
+        try {
+            if (shadow == null) {
+                compact(state);
+                return true;
+            }
+
+            JSONArray events = diff(shadow, state);
+            if (events.isEmpty()) {
+                return true;
+            }
+            JSONObject line = new JSONObject()
+                    .put("seq", sequence + 1)
+                    .put("events", events);
+            append(line.toString() + "\n");
+            sequence++;
+            shadow = apply(shadow, events);
+
+            if (++linesSinceSnapshot >= snapshotInterval) {
+                compact(state);
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Journal write failed: " + e.getMessage());
+            // the journal may end in half a line now; start over from a snapshot next time
+            shadow = null;
+            return false;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the last recorded state now and empties the journal.
+     */
+    public synchronized void compact() {
+        if (shadow == null) {
+            return;
+        }
+        try {
+            compact(shadow);
+        } catch (IOException e) {
+            System.err.println("Journal compaction failed: " + e.getMessage());
+            shadow = null;
+        }
+    }
+
+    /**
+     * Deletes the snapshot, its backup and the journal; the next record starts afresh.
+     */
+    public synchronized void reset() {
+        close();
+        try {
+            Files.deleteIfExists(journalFile);
+            Files.deleteIfExists(snapshotFile);
+            Files.deleteIfExists(JsonGameRepository.backupOf(snapshotFile));
+        } catch (IOException e) {
+            System.err.println("Journal reset failed: " + e.getMessage());
+        }
+        recovered = true;
+        shadow = null;
+        sequence = 0;
+        linesSinceSnapshot = 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Journal close failed: " + e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * Calls {@code listener} with the snapshot and then the state after every journal
+     * line, in order. Each state passed is a separate copy.
+     *
+     * @return the last state, or {@code null} if there is no snapshot
+     */
+    public static GameState replay(Path snapshotFile, Consumer<GameState> listener) {
+        Path journalFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + JOURNAL_SUFFIX);
+        GameState last = replay(snapshotFile, journalFile, listener).state;
+        return last == null ? null : copyOf(last);
+    }
+
+    private record Replay(GameState state, long sequence, int lines, boolean clean) {
+    }
+
+    private static Replay replay(Path snapshotFile, Path journalFile, Consumer<GameState> listener) {
+        JSONObject snapshot = readSnapshot(snapshotFile);
+        if (snapshot == null) {
+            snapshot = readSnapshot(JsonGameRepository.backupOf(snapshotFile));
+        }
+        if (snapshot == null) {
+            return new Replay(null, 0, 0, true);
+        }
+        GameState state = SaveGameInteractor.fromJson(snapshot);
+        long sequence = snapshot.optLong(SEQUENCE_KEY, 0);
+        listener.accept(copyOf(state));
+
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                JSONObject line;
+                try {
+                    line = new JSONObject(text);
+                } catch (RuntimeException e) {
+                    System.err.println("Ignoring torn journal entry after #" + sequence);
+                    return new Replay(state, sequence, lines, false);
+                }
+                long lineSequence = line.getLong("seq");
+                if (lineSequence <= sequence) {
+                    // already in the snapshot
+                    continue;
+                }
+                if (lineSequence != sequence + 1) {
+                    System.err.println("Journal skips from #" + sequence + " to #" + lineSequence + ", stopping there");
+                    return new Replay(state, sequence, lines, false);
+                }
+                state = apply(state, line.getJSONArray("events"));
+                sequence = lineSequence;
+                lines++;
+                listener.accept(copyOf(state));
+            }
+        } catch (NoSuchFileException e) {
+            // snapshot only
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Journal read failed (" + journalFile + "): " + e.getMessage());
+            return new Replay(state, sequence, lines, false);
+        }
+        return new Replay(state, sequence, lines, true);
+    }
+
+    private static JSONObject readSnapshot(Path file) {
+        try {
+            String content = Files.readString(file);
+            JSONObject json = new JSONObject(content);
+            // make sure it is a complete save before trusting it
+            SaveGameInteractor.fromJson(json);
+            return json;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Snapshot read failed (" + file + "): " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void compact(GameState state) throws IOException {
+        JSONObject json = SaveGameInteractor.toJson(state).put(SEQUENCE_KEY, sequence);
+        JsonGameRepository.writeAtomically(snapshotFile, json.toString().getBytes(StandardCharsets.UTF_8));
+        // lines up to `sequence` are in the snapshot now, so a crash before this is harmless
+        FileChannel journal = channel();
+        journal.truncate(0);
+        sync(journal);
+        shadow = copyOf(state);
+        linesSinceSnapshot = 0;
+    }
+
+    private void append(String line) throws IOException {
+        FileChannel journal = channel();
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        sync(journal);
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(journalFile.toAbsolutePath().getParent());
+            channel = FileChannel.open(journalFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private static void sync(FileChannel journal) throws IOException {
+        if (JsonGameRepository.getSyncPolicy() != JsonGameRepository.SyncPolicy.NONE) {
+            journal.force(false);
+        }
+    }
+
+    // ---- events ----
+
+    private static JSONArray diff(GameState before, GameState after) {
+        JSONArray events = new JSONArray();
+        if (before.currentScreen() != after.currentScreen()) {
+            events.put(event("screen").put("v", after.currentScreen().name()));
+        }
+        if (before.activeTeamSelector() != after.activeTeamSelector()) {
+            events.put(event("selector").put("v", after.activeTeamSelector().name()));
+        }
+        if (!Objects.equals(before.battlePhase(), after.battlePhase())) {
+            JSONObject phase = event("phase");
+            if (after.battlePhase() != null) {
+                phase.put("turn", after.battlePhase().currentTurn().name())
+                        .put("p1", after.battlePhase().player1ActiveIndex())
+                        .put("p2", after.battlePhase().player2ActiveIndex());
+            }
+            events.put(phase);
+        }
+        if (before.currentTowerLevel() != after.currentTowerLevel() || before.highScore() != after.highScore()) {
+            events.put(event("tower").put("level", after.currentTowerLevel()).put("high", after.highScore()));
+        }
+        diffTeam(events, 1, before.player1Team(), after.player1Team());
+        diffTeam(events, 2, before.player2Team(), after.player2Team());
+        return events;
+    }
+
+    private static void diffTeam(JSONArray events, int player, PokemonTeam beforeTeam, PokemonTeam afterTeam) {
+        List<Pokemon> before = new ArrayList<>(beforeTeam.getTeam());
+        List<Pokemon> after = afterTeam.getTeam();
+
+        // a switch swaps two members; record that rather than both Pokemon again
+        for (int i = 0; i < Math.min(before.size(), after.size()); i++) {
+            if (sameKind(before.get(i), after.get(i))) {
+                continue;
+            }
+            for (int j = i + 1; j < Math.min(before.size(), after.size()); j++) {
+                if (sameKind(before.get(j), after.get(i)) && sameKind(before.get(i), after.get(j))) {
+                    events.put(event("swap").put("p", player).put("i", i).put("j", j));
+                    Collections.swap(before, i, j);
+                    break;
+                }
+            }
+        }
+
+        if (after.size() < before.size()) {
+            events.put(event("size").put("p", player).put("n", after.size()));
+        }
+        for (int i = 0; i < after.size(); i++) {
+            Pokemon now = after.get(i);
+            if (i >= before.size() || !sameKind(before.get(i), now)) {
+                events.put(event("pokemon").put("p", player).put("i", i)
+                        .put("v", SaveGameInteractor.toJsonPokemon(now)));
+                continue;
+            }
+            Pokemon was = before.get(i);
+            if (was.getCurrentHP() != now.getCurrentHP()) {
+                events.put(event("hp").put("p", player).put("i", i).put("v", now.getCurrentHP()));
+            }
+            List<Move> wasMoves = savedMoves(was);
+            List<Move> nowMoves = savedMoves(now);
+            for (int slot = 0; slot < nowMoves.size(); slot++) {
+                if (wasMoves.get(slot).getCurrentPp() != nowMoves.get(slot).getCurrentPp()) {
+                    events.put(event("pp").put("p", player).put("i", i).put("m", slot)
+                            .put("v", nowMoves.get(slot).getCurrentPp()));
+                }
+            }
+        }
+    }
+
+    private static GameState apply(GameState state, JSONArray events) {
+        GameState.Screen screen = state.currentScreen();
+        GameState.Player selector = state.activeTeamSelector();
+        GameState.BattlePhase phase = state.battlePhase();
+        int level = state.currentTowerLevel();
+        int highScore = state.highScore();
+        List<Pokemon> team1 = new ArrayList<>(state.player1Team().getTeam());
+        List<Pokemon> team2 = new ArrayList<>(state.player2Team().getTeam());
+
+        for (int e = 0; e < events.length(); e++) {
+            JSONObject event = events.getJSONObject(e);
+            List<Pokemon> team = event.optInt("p") == 2 ? team2 : team1;
+            switch (event.getString("e")) {
+                case "screen" -> screen = GameState.Screen.valueOf(event.getString("v"));
+                case "selector" -> selector = GameState.Player.valueOf(event.getString("v"));
+                case "phase" -> phase = event.has("turn")
+                        ? new GameState.BattlePhase(GameState.Turn.valueOf(event.getString("turn")),
+                                event.getInt("p1"), event.getInt("p2"))
+                        : null;
+                case "tower" -> {
+                    level = event.getInt("level");
+                    highScore = event.getInt("high");
+                }
+                case "swap" -> Collections.swap(team, event.getInt("i"), event.getInt("j"));
+                case "size" -> team.subList(event.getInt("n"), team.size()).clear();
+                case "pokemon" -> {
+                    Pokemon pokemon = SaveGameInteractor.fromJsonPokemon(event.getJSONObject("v"));
+                    int index = event.getInt("i");
+                    if (index < team.size()) {
+                        team.set(index, pokemon);
+                    } else {
+                        team.add(pokemon);
+                    }
+                }
+                case "hp" -> team.get(event.getInt("i")).setCurrentHP(event.getInt("v"));
+                case "pp" -> savedMoves(team.get(event.getInt("i"))).get(event.getInt("m")).setCurrentPp(event.getInt("v"));
+                default -> throw new IllegalArgumentException("Unknown journal event " + event.getString("e"));
+            }
+        }
+        return new GameState(screen, selector, teamOf(team1), teamOf(team2), phase, level, highScore);
+    }
+
+    private static JSONObject event(String kind) {
+        return new JSONObject().put("e", kind);
+    }
+
+    /** Same species, stats and moves; HP and PP may differ. */
+    private static boolean sameKind(Pokemon a, Pokemon b) {
+        if (!a.getName().equals(b.getName()) || !a.getTypes().equals(b.getTypes())
+                || !sameStats(a.getBaseStats(), b.getBaseStats())) {
+            return false;
+        }
+        List<Move> x = savedMoves(a);
+        List<Move> y = savedMoves(b);
+        if (x.size() != y.size()) {
+            return false;
+        }
+        for (int slot = 0; slot < x.size(); slot++) {
+            if (!x.get(slot).getMoveName().equals(y.get(slot).getMoveName())
+                    || x.get(slot).getMaxPp() != y.get(slot).getMaxPp()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The moves a save keeps: the non-empty slots, in order, at most MAX_SAVED_MOVES. */
+    private static List<Move> savedMoves(Pokemon pokemon) {
+        List<Move> moves = new ArrayList<>(SaveGameInteractor.MAX_SAVED_MOVES);
+        for (Move move : pokemon.getMoves()) {
+            if (move != null && moves.size() < SaveGameInteractor.MAX_SAVED_MOVES) {
+                moves.add(move);
+            }
+        }
+        return moves;
+    }
+
+    private static boolean sameStats(BaseLevelStats a, BaseLevelStats b) {
+        return a.getMaxHp() == b.getMaxHp() && a.getAttack() == b.getAttack()
+                && a.getDefense() == b.getDefense() && a.getSpecialAttack() == b.getSpecialAttack()
+                && a.getSpecialDefense() == b.getSpecialDefense() && a.getSpeed() == b.getSpeed();
+    }
+
+    private static PokemonTeam teamOf(List<Pokemon> pokemons) {
+        PokemonTeam team = new PokemonTeam();
+        for (Pokemon pokemon : pokemons) {
+            team.addPokemon(pokemon);
+        }
+        return team;
+    }
+
+    private static GameState copyOf(GameState state) {
+        return new GameState(state.currentScreen(), state.activeTeamSelector(),
+                state.player1Team().copy(), state.player2Team().copy(),
+                state.battlePhase(), state.currentTowerLevel(), state.highScore());
+    }
+}
@@ -1,39 +1,129 @@
-
 package dataaccess;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-
-import org.json.JSONObject;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import entity.GameState;
-import use_case.game_state_persistence.SaveGameInteractor;
+import use_case.game_state_persistence.BinarySaveFormat;
+import use_case.game_state_persistence.StreamingSaveCodec;
 
+/**
+ * Reads and writes the save file.
+ *
+ * A save never overwrites the file in place: the new contents go to a temp file in the
+ * same directory, which is synced according to the {@link SyncPolicy} and then renamed
+ * over the save. The save it replaces is kept as {@code <file>.bak}. A crash at any point
+ * leaves either the old or the new save complete on disk, and {@link #load} falls back
+ * to the backup if the save is missing or doesn't parse.
+ *
+ * Saves are pretty-printed JSON unless the {@link SaveFormat} is set to binary
+ * ({@link BinarySaveFormat}). Loading looks at the file's first bytes, so either kind of
+ * file loads whatever the current setting. JSON goes through {@link StreamingSaveCodec}
+ * both ways, so a save is never held in memory as one String or org.json tree.
+ *
+ * Either format can be compressed with a {@link SaveCodec} (gzip or deflate out of the
+ * box, off by default). The codec is recognised by its header on load, and compression
+ * runs inside the same streams.
+ */
 public class JsonGameRepository {
 
-    private static String saveFile = "resources/autosave.json";
+    /**
+     * System property choosing the sync policy: {@code none}, {@code file} or {@code full}.
+     */
+    public static final String SYNC_PROPERTY = "save.fsync";
+    public static final String BACKUP_SUFFIX = ".bak";
+    public static final Path AUTOSAVE_FILE = Paths.get("resources", "autosave.json");
+    /**
+     * System property choosing the format new saves are written in: {@code json} or {@code binary}.
+     */
+    public static final String FORMAT_PROPERTY = "save.format";
+    /**
+     * System property choosing how new saves are compressed: {@code none}, {@code gzip} or {@code deflate}.
+     */
+    public static final String COMPRESSION_PROPERTY = "save.compression";
+
+    /** How new saves are written. */
+    public enum SaveFormat {
+        JSON,
+        BINARY
+    }
+
+    /**
+     * How hard a save pushes its bytes to the disk before it counts as done.
+     */
+    public enum SyncPolicy {
+        /** Leave it to the OS. Fastest; a power cut can lose the last saves. */
+        NONE,
+        /** Sync the new file before renaming it over the save. */
+        FILE,
+        /** Also sync the directory, so the rename itself survives a power cut. */
+        FULL
+    }
+
+    private static final int BINARY_HEADER_SIZE = 4;
+
+    // every codec load() can recognise; NONE isn't one, it is what's left
+    private static final CopyOnWriteArrayList<SaveCodec> codecs =
+            new CopyOnWriteArrayList<>(List.of(StandardSaveCodec.GZIP, StandardSaveCodec.DEFLATE));
+
+    private static volatile SyncPolicy syncPolicy = fromProperty(SYNC_PROPERTY, SyncPolicy.class, SyncPolicy.FILE);
+    private static volatile SaveFormat saveFormat = fromProperty(FORMAT_PROPERTY, SaveFormat.class, SaveFormat.JSON);
+    private static volatile SaveCodec compression =
+            fromProperty(COMPRESSION_PROPERTY, StandardSaveCodec.class, StandardSaveCodec.NONE);
 
     /**
      * Saves the given GameState to the autosave file.
      *
      * @param state the GameState to save
+     * @return true if the save was written
      */
-    public static void save(GameState state) {
+    public static boolean save(GameState state) {
+        return save(state, AUTOSAVE_FILE);
+    }
 
-        final int indentFactor = 4;
+    /**
+     * Saves the given GameState to {@code file}, keeping the previous save as its backup.
+     *
+     * @return true if the save was written
+     */
+    public static boolean save(GameState state, Path file) {
 
         try {
-            // Create parent directory if missing (e.g. "resources" or "test_resources")
-            Files.createDirectories(Paths.get(saveFile).getParent());
-
-            final JSONObject json = SaveGameInteractor.toJson(state);
-            Files.writeString(Paths.get(saveFile), json.toString(indentFactor));
+            final SaveFormat format = saveFormat;
+            final SaveCodec codec = compression;
+            writeAtomically(file, out -> {
+                try (OutputStream compressed = codec.compress(out)) {
+                    write(state, format, compressed);
+                }
+            });
+            return true;
         }
         catch (IOException exception) {
             System.err.println("Auto-save failed: " + exception.getMessage());
             // Optional: e.printStackTrace(); // uncomment during debugging
+            return false;
         }
     }
 
@@ -43,35 +133,264 @@ public class JsonGameRepository {
      * @return the loaded {@link GameState} if a save file exists, or {@code null} if no save file is found
      */
     public static GameState load() {
+        return load(AUTOSAVE_FILE);
+    }
+
+    /**
+     * Loads the game saved in {@code file}, or its backup if the file is missing or damaged.
+     *
+     * @return the loaded state, or {@code null} if neither holds a readable save
+     */
+    public static GameState load(Path file) {
+        final GameState state = readFile(file);
+        if (state != null) {
+            return state;
+        }
+
+        final Path backup = backupOf(file);
+        final GameState fallback = readFile(backup);
+        if (fallback != null && Files.exists(file)) {
+            System.err.println("Save " + file + " is damaged, loaded " + backup + " instead");
+        }
+        return fallback;
+    }
+
+    public static void setSyncPolicy(SyncPolicy policy) {
+        syncPolicy = policy;
+    }
+
+    public static SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    public static void setSaveFormat(SaveFormat format) {
+        saveFormat = format;
+    }
+
+    public static SaveFormat getSaveFormat() {
+        return saveFormat;
+    }
+
+    /**
+     * Compresses new saves with {@code codec}, registering it if it isn't known yet.
+     */
+    public static void setCompression(SaveCodec codec) {
+        if (codec != StandardSaveCodec.NONE) {
+            registerCodec(codec);
+        }
+        compression = codec;
+    }
+
+    public static SaveCodec getCompression() {
+        return compression;
+    }
+
+    /**
+     * Lets load() recognise files written with {@code codec}.
+     */
+    public static void registerCodec(SaveCodec codec) {
+        codecs.addIfAbsent(codec);
+    }
+
+    /**
+     * Writes a save of {@code state} in {@code format} to {@code out}, which is left open.
+     */
+    public static void write(GameState state, SaveFormat format, OutputStream out) throws IOException {
+        if (format == SaveFormat.BINARY) {
+            out.write(BinarySaveFormat.encode(state));
+            return;
+        }
+        final int indentFactor = 4;
+        final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        StreamingSaveCodec.write(state, writer, indentFactor);
+    }
+
+    /**
+     * Reads a save in either format, compressed or not, telling them apart by the header.
+     * {@code in} is left open.
+     *
+     * @return the state, or {@code null} for an empty file
+     * @throws IOException if the save is damaged or not a save
+     */
+    public static GameState read(InputStream in) throws IOException {
+        final BufferedInputStream buffered = new BufferedInputStream(in);
+        final byte[] header = peek(buffered, SaveCodec.HEADER_SIZE);
+        for (SaveCodec codec : codecs) {
+            if (codec.recognizes(header)) {
+                // closed here to free the decompressor's native memory, but not what it reads from
+                final InputStream source = new FilterInputStream(buffered) {
+                    @Override
+                    public void close() {
+                    }
+                };
+                try (InputStream decompressed = codec.decompress(source)) {
+                    return parse(new BufferedInputStream(decompressed));
+                }
+            }
+        }
+        return parse(buffered);
+    }
+
+    private static GameState parse(BufferedInputStream in) throws IOException {
+        if (BinarySaveFormat.isBinary(peek(in, BINARY_HEADER_SIZE))) {
+            // binary saves are small and checksummed as a whole
+            return BinarySaveFormat.decode(in.readAllBytes());
+        }
+        return StreamingSaveCodec.read(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] peek(BufferedInputStream in, int length) throws IOException {
+        in.mark(length);
+        final byte[] header = in.readNBytes(length);
+        in.reset();
+        return header;
+    }
+
+    /** Where the previous save of {@code file} is kept. */
+    public static Path backupOf(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_SUFFIX);
+    }
+
+    /** Streams the new contents of a file. */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    static void writeAtomically(Path file, byte[] bytes) throws IOException {
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces {@code file} with {@code content} via a synced temp file renamed over it,
+     * keeping the current contents as the backup first. {@code file} exists throughout,
+     * so a concurrent load always sees the old save or the new one. Other save formats
+     * write through this too.
+     */
+    static void writeAtomically(Path file, Content content) throws IOException {
+        final Path directory = file.toAbsolutePath().getParent();
+        // Create parent directory if missing (e.g. "resources" or "test_resources")
+        Files.createDirectories(directory);
+
+        final SyncPolicy policy = syncPolicy;
+        final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
         try {
-            // Explicitly handle missing file instead of letting readString() throw
-            if (!Files.exists(Paths.get(saveFile))) {
-                return null;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                final OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                // content may close what it wraps around out (a compressor has to, to
+                // finish), but the channel must stay open until it is synced
+                content.writeTo(new FilterOutputStream(out) {
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        out.write(bytes, offset, length);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        out.flush();
+                    }
+                });
+                out.flush();
+                if (policy != SyncPolicy.NONE) {
+                    channel.force(true);
+                }
             }
 
-            final String content = Files.readString(Paths.get(saveFile));
+            // the save being replaced is complete (it was renamed into place too), so it
+            // becomes the backup
+            if (Files.exists(file)) {
+                keepAsBackup(file, directory);
+            }
+            move(temp, file);
 
-            if (content == null || content.isBlank()) {
-                return null;
+            if (policy == SyncPolicy.FULL) {
+                syncDirectory(directory);
             }
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
 
-            final JSONObject json = new JSONObject(content);
+    private static GameState readFile(Path file) {
+        try {
+            // Explicitly handle missing file instead of letting newInputStream() throw
+            if (!Files.exists(file)) {
+                return null;
+            }
 
-            return SaveGameInteractor.fromJson(json);
+            try (InputStream in = Files.newInputStream(file)) {
+                return read(in);
+            }
 
         }
         catch (NoSuchFileException exception) {
             // File doesn't exist → normal case
         }
         catch (IOException exception) {
-            System.err.println("Auto-load failed (" + saveFile + "): " + exception.getMessage());
+            System.err.println("Auto-load failed (" + file + "): " + exception.getMessage());
+        }
+        catch (RuntimeException exception) {
+            // hand-edited file: the enum lookups throw unchecked
+            System.err.println("Auto-load failed (" + file + "): not a valid save: " + exception.getMessage());
         }
         return null;
     }
 
-    // Used when user selects a file via JFileChooser
-    public static void setSaveFile(String newSaveFile) {
-        saveFile = newSaveFile;
+    /**
+     * Points the backup at the current contents of {@code file}, leaving {@code file} in
+     * place: a hard link where the file system has them, a copy otherwise. Either is made
+     * under a temp name and renamed over the old backup.
+     */
+    private static void keepAsBackup(Path file, Path directory) throws IOException {
+        final Path backup = backupOf(file);
+        final Path temp = Files.createTempFile(directory, backup.getFileName().toString(), ".tmp");
+        try {
+            Files.delete(temp);
+            try {
+                Files.createLink(temp, file);
+            }
+            catch (UnsupportedOperationException | IOException exception) {
+                Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            move(temp, backup);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+        catch (IOException exception) {
+            // some platforms (Windows) can't open a directory; the rename is as durable as it gets there
+        }
+    }
+
+    private static <E extends Enum<E>> E fromProperty(String property, Class<E> type, E fallback) {
+        final String value = System.getProperty(property);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException exception) {
+            System.err.println("Unknown " + property + " value '" + value + "', using "
+                    + fallback.name().toLowerCase(Locale.ROOT));
+            return fallback;
+        }
     }
 
 }
@@ -0,0 +1,79 @@
+package dataaccess;
+
+import entity.Pokemon;
+import factory.MoveDefinitionCache;
+import factory.pokemonFactory;
+import org.json.JSONObject;
+import poke_api.BundledDataset;
+import poke_api.SpeciesInfo;
+import poke_api.pokemonFetcher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asynchronous source of Pokemon species.
+ *
+ * Loading never blocks the caller: the species JSON and its moves are fetched through
+ * OkHttp's dispatcher and the returned future completes once the Pokemon has been built.
+ * Species JSON is kept for the lifetime of the process (with the same single-flight rule
+ * as {@link MoveDefinitionCache}), but every call gets a freshly built Pokemon because
+ * Pokemon and Move objects carry mutable battle state such as HP and PP.
+ *
+ * When a {@link BundledDataset} is available, species it contains are built straight
+ * from the snapshot and never touch the network; anything missing from it falls back to
+ * the API.
+ */
+public class PokemonRepository {
+    private static PokemonRepository shared;
+
+    private final pokemonFetcher fetcher;
+    private final MoveDefinitionCache moveCache;
+    // null when there is no bundled dataset
+    private final BundledDataset dataset;
+    private final pokemonFactory factory = new pokemonFactory();
+    private final ConcurrentHashMap<String, CompletableFuture<JSONObject>> species = new ConcurrentHashMap<>();
+
+    public PokemonRepository(pokemonFetcher fetcher, MoveDefinitionCache moveCache) {
+        this(fetcher, moveCache, null);
+    }
+
+    public PokemonRepository(pokemonFetcher fetcher, MoveDefinitionCache moveCache, BundledDataset dataset) {
+        this.fetcher = fetcher;
+        this.moveCache = moveCache;
+        this.dataset = dataset;
+    }
+
+    public static synchronized PokemonRepository shared() {
+        if (shared == null) {
+            shared = new PokemonRepository(new pokemonFetcher(), MoveDefinitionCache.shared(),
+                    BundledDataset.openDefault());
+        }
+        return shared;
+    }
+
+    /**
+     * Starts loading the species and returns immediately.
+     *
+     * @param name species name or PokeAPI id, e.g. "pikachu"
+     * @return a future for a new Pokemon, completed exceptionally if it could not be loaded
+     */
+    public CompletableFuture<Pokemon> loadAsync(String name) {
+        SpeciesInfo bundled = dataset == null ? null : dataset.species(name);
+        if (bundled != null) {
+            return CompletableFuture.completedFuture(factory.getPokemon(bundled, dataset.movesOf(bundled)));
+        }
+        return speciesJson(name).thenCompose(json ->
+                moveCache.getMoves(json).thenApply(moves -> factory.getPokemon(json, moves)));
+    }
+
+    private CompletableFuture<JSONObject> speciesJson(String name) {
+        CompletableFuture<JSONObject> future = species.computeIfAbsent(name, fetcher::getPokemonAsync);
+        future.whenComplete((json, error) -> {
+            if (error != null) {
+                species.remove(name, future);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,105 @@
+package dataaccess;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms the species and move caches for the team selection roster in the background.
+ *
+ * A small fixed pool of daemon workers takes names off the front of a queue and loads
+ * them through the {@link PokemonRepository}; every worker waits for its species to
+ * finish before taking the next one, so at most {@code parallelism} species are loading
+ * at a time. {@link #prioritize(String)} moves a name to the front of the queue, which
+ * lets the screen pull forward whatever the user is hovering over. Once the queue is
+ * empty the workers exit.
+ */
+public class RosterPrefetcher {
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private static RosterPrefetcher shared;
+
+    private final PokemonRepository repository;
+    private final int parallelism;
+    private final Deque<String> queue = new ArrayDeque<>();
+    private final Set<String> known = new HashSet<>();
+    private ExecutorService workers;
+
+    public RosterPrefetcher(PokemonRepository repository, int parallelism) {
+        this.repository = repository;
+        this.parallelism = parallelism;
+    }
+
+    public static synchronized RosterPrefetcher shared() {
+        if (shared == null) {
+            shared = new RosterPrefetcher(PokemonRepository.shared(), DEFAULT_PARALLELISM);
+        }
+        return shared;
+    }
+
+    /**
+     * Queues the roster in order and starts the workers. Only the first call has any effect.
+     */
+    public synchronized void start(Collection<String> roster) {
+        if (workers != null) {
+            return;
+        }
+        for (String name : roster) {
+            if (known.add(name)) {
+                queue.addLast(name);
+            }
+        }
+
+        workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "roster-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < parallelism; i++) {
+            workers.execute(this::drain);
+        }
+        workers.shutdown();
+    }
+
+    /**
+     * Moves a queued name to the front so it is loaded next. Names that are already
+     * loading or loaded are left alone.
+     */
+    public synchronized void prioritize(String name) {
+        if (queue.remove(name)) {
+            queue.addFirst(name);
+        }
+    }
+
+    /**
+     * Waits for the whole roster to finish loading. Mainly useful for tests.
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        ExecutorService running;
+        synchronized (this) {
+            running = workers;
+        }
+        return running == null || running.awaitTermination(timeout, unit);
+    }
+
+    private synchronized String next() {
+        return queue.pollFirst();
+    }
+
+    private void drain() {
+        String name;
+        while ((name = next()) != null) {
+            try {
+                repository.loadAsync(name).join();
+            } catch (RuntimeException e) {
+                // the on-click load will retry and report it
+                System.err.println("Prefetch failed for " + name + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dataaccess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A compression wrapper around save files. Codecs are told apart on load by the first
+ * bytes of the file, so every codec but {@link StandardSaveCodec#NONE} must write a
+ * recognisable header and {@link #recognizes} must not match plain JSON or a binary save.
+ *
+ * Both directions are streams: a save is compressed while it is written and
+ * decompressed while it is parsed, never buffered whole. Register custom codecs with
+ * {@link JsonGameRepository#registerCodec}.
+ */
+public interface SaveCodec {
+
+    /** Name used to pick the codec, e.g. in {@code -Dsave.compression=gzip}. */
+    String name();
+
+    /**
+     * @param header the first {@link #HEADER_SIZE} bytes of a file, fewer if it is shorter
+     */
+    boolean recognizes(byte[] header);
+
+    /**
+     * Wraps {@code out}; closing the returned stream finishes the compressed data and
+     * closes {@code out}.
+     */
+    OutputStream compress(OutputStream out) throws IOException;
+
+    InputStream decompress(InputStream in) throws IOException;
+
+    /** How many leading bytes {@link #recognizes} gets to look at. */
+    int HEADER_SIZE = 8;
+}
@@ -0,0 +1,425 @@
+package dataaccess;
+
+import entity.GameState;
+import entity.Pokemon;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Named save slots in one directory, with a small index so they can be listed cheaply.
+ *
+ * Each slot is a normal save file ({@code <id>.sav}, written by {@link JsonGameRepository},
+ * so atomic and with a backup). Next to them, {@code index.json} holds one short entry per
+ * slot: its name, when it was saved, the tower level and the names in Player 1's team.
+ * {@link #list} only reads the index, so the load screen can show hundreds of slots
+ * without parsing any of them; the full state is read by {@link #open}. If the index is
+ * lost it is rebuilt from the slot files once. A slot file is written before the index, so
+ * when the index is first read it is checked against the directory listing: slot files it
+ * doesn't mention (the process died in between) are read and added, and entries whose file
+ * is gone are dropped.
+ *
+ * The game used to save to {@code .json} files of the player's choosing, by default in
+ * {@code resources}. When the slots are first set up (there is no index yet) those files
+ * are imported as slots named after the file; the files themselves are left alone.
+ *
+ * Saves to different slots run in parallel; two saves to the same slot are serialized.
+ * Only the index rewrite is shared, and a rewrite that a later one already covers is
+ * skipped.
+ */
+public class SaveSlotManager {
+    public static final Path DEFAULT_DIRECTORY = Paths.get("resources", "saves");
+    public static final String SLOT_SUFFIX = ".sav";
+    public static final String INDEX_FILE = "index.json";
+    /** Where the old save-as dialog put saves. */
+    public static final Path LEGACY_DIRECTORY = Paths.get("resources");
+    public static final String LEGACY_SUFFIX = ".json";
+    private static final int MAX_ID_LENGTH = 64;
+
+    private static SaveSlotManager shared;
+
+    private final Path directory;
+    // null when there are no old saves to import
+    private final Path legacyDirectory;
+    private final Clock clock;
+
+    private final Map<String, SlotInfo> slots = new ConcurrentHashMap<>();
+    private volatile boolean indexLoaded;
+    private final Map<String, Object> slotLocks = new ConcurrentHashMap<>();
+    private final Object indexLock = new Object();
+    // bumped after every change to `slots`; the index on disk includes changes up to indexWritten
+    private final AtomicLong changes = new AtomicLong();
+    private long indexWritten;
+
+    /**
+     * What the load screen shows about a slot.
+     *
+     * @param id          file-safe form of the name
+     * @param name        the name the player gave it
+     * @param savedAt     when it was last written
+     * @param towerLevel  tower level in the save
+     * @param teamPreview names of Player 1's Pokemon, in team order
+     */
+    public record SlotInfo(String id, String name, Instant savedAt, int towerLevel, List<String> teamPreview) {
+        public SlotInfo {
+            teamPreview = List.copyOf(teamPreview);
+        }
+    }
+
+    public SaveSlotManager(Path directory) {
+        this(directory, (Path) null);
+    }
+
+    /**
+     * @param legacyDirectory where to look for old {@code .json} saves to import, or null
+     */
+    public SaveSlotManager(Path directory, Path legacyDirectory) {
+        this(directory, legacyDirectory, Clock.systemUTC());
+    }
+
+    SaveSlotManager(Path directory, Clock clock) {
+        this(directory, null, clock);
+    }
+
+    SaveSlotManager(Path directory, Path legacyDirectory, Clock clock) {
+        this.directory = directory;
+        this.legacyDirectory = legacyDirectory;
+        this.clock = clock;
+    }
+
+    /**
+     * Slots in {@link #DEFAULT_DIRECTORY}, with the old saves in {@link #LEGACY_DIRECTORY}.
+     */
+    public static synchronized SaveSlotManager shared() {
+        if (shared == null) {
+            shared = new SaveSlotManager(DEFAULT_DIRECTORY, LEGACY_DIRECTORY);
+        }
+        return shared;
+    }
+
+    /**
+     * Every slot, most recently saved first. Reads only the index.
+     */
+    public List<SlotInfo> list() {
+        ensureIndexLoaded();
+        List<SlotInfo> list = new ArrayList<>(slots.values());
+        list.sort(Comparator.comparing(SlotInfo::savedAt).reversed().thenComparing(SlotInfo::id));
+        return list;
+    }
+
+    public boolean exists(String name) {
+        ensureIndexLoaded();
+        return slots.containsKey(idFor(name));
+    }
+
+    /**
+     * Saves {@code state} in the slot called {@code name}, replacing what was there.
+     *
+     * @return the slot's new index entry, or {@code null} if the save could not be written
+     * @throws IllegalArgumentException if the name has no letters or digits
+     */
+    public SlotInfo save(String name, GameState state) {
+        ensureIndexLoaded();
+        SlotInfo info = store(name, state, clock.instant());
+        if (info != null) {
+            writeIndex();
+        }
+        return info;
+    }
+
+    /**
+     * Loads the full state saved in a slot.
+     *
+     * @return the state, or {@code null} if the slot doesn't exist or can't be read
+     */
+    public GameState open(String id) {
+        synchronized (lockFor(id)) {
+            return JsonGameRepository.load(slotFile(id));
+        }
+    }
+
+    public void delete(String id) {
+        ensureIndexLoaded();
+        synchronized (lockFor(id)) {
+            try {
+                Files.deleteIfExists(slotFile(id));
+                Files.deleteIfExists(JsonGameRepository.backupOf(slotFile(id)));
+            } catch (IOException e) {
+                System.err.println("Deleting save slot " + id + " failed: " + e.getMessage());
+                return;
+            }
+            slots.remove(id);
+            changes.incrementAndGet();
+        }
+        writeIndex();
+    }
+
+    /**
+     * The slot id a name is stored under: lower case, runs of anything but letters and
+     * digits turned into a single '-'.
+     *
+     * @throws IllegalArgumentException if nothing is left
+     */
+    public static String idFor(String name) {
+        String id = name.strip().toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-|-$", "");
+        if (id.isEmpty()) {
+            throw new IllegalArgumentException("A save name needs at least one letter or digit");
+        }
+        return id.length() > MAX_ID_LENGTH ? id.substring(0, MAX_ID_LENGTH) : id;
+    }
+
+    /** Writes the slot file and its entry in {@code slots}; the index is left to the caller. */
+    private SlotInfo store(String name, GameState state, Instant savedAt) {
+        String id = idFor(name);
+        synchronized (lockFor(id)) {
+            if (!JsonGameRepository.save(state, slotFile(id))) {
+                return null;
+            }
+            SlotInfo info = new SlotInfo(id, name.strip(), savedAt, state.currentTowerLevel(), preview(state));
+            slots.put(id, info);
+            changes.incrementAndGet();
+            return info;
+        }
+    }
+
+    private Path slotFile(String id) {
+        // ids only ever come from idFor, so they can't point outside the directory
+        if (!id.equals(idFor(id))) {
+            throw new IllegalArgumentException("Not a save slot id: " + id);
+        }
+        return directory.resolve(id + SLOT_SUFFIX);
+    }
+
+    private Object lockFor(String id) {
+        return slotLocks.computeIfAbsent(id, key -> new Object());
+    }
+
+    private static List<String> preview(GameState state) {
+        List<String> names = new ArrayList<>();
+        for (Pokemon pokemon : state.player1Team().getTeam()) {
+            names.add(pokemon.getName());
+        }
+        return names;
+    }
+
+    // ---- index ----
+
+    private void ensureIndexLoaded() {
+        if (indexLoaded) {
+            return;
+        }
+        synchronized (indexLock) {
+            if (indexLoaded) {
+                return;
+            }
+            // not the index backup: it could be missing slots saved since
+            Path index = directory.resolve(INDEX_FILE);
+            boolean firstUse = !Files.exists(index) && !Files.exists(JsonGameRepository.backupOf(index));
+            if (readIndex(index)) {
+                reconcileIndex();
+            } else {
+                rebuildIndex();
+            }
+            if (firstUse) {
+                importLegacySaves();
+            }
+            indexLoaded = true;
+        }
+    }
+
+    private boolean readIndex(Path index) {
+        try {
+            JSONArray entries = new JSONObject(Files.readString(index)).getJSONArray("slots");
+            for (int i = 0; i < entries.length(); i++) {
+                JSONObject entry = entries.getJSONObject(i);
+                List<String> team = new ArrayList<>();
+                JSONArray names = entry.getJSONArray("team");
+                for (int n = 0; n < names.length(); n++) {
+                    team.add(names.getString(n));
+                }
+                SlotInfo info = new SlotInfo(entry.getString("id"), entry.getString("name"),
+                        Instant.ofEpochMilli(entry.getLong("savedAt")), entry.getInt("towerLevel"), team);
+                slots.put(info.id(), info);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Save index " + index + " unreadable: " + e.getMessage());
+            slots.clear();
+            return false;
+        }
+    }
+
+    /** Reads every slot file; only needed when the index is missing or damaged. */
+    private void rebuildIndex() {
+        List<Path> files = Files.isDirectory(directory) ? slotFiles() : null;
+        if (files == null) {
+            return;
+        }
+        for (Path file : files) {
+            indexSlotFile(file);
+        }
+        changes.incrementAndGet();
+        writeIndexLocked();
+    }
+
+    /**
+     * Brings a readable index in line with the slot files, going by file names only; just
+     * the files the index has never heard of are read.
+     */
+    private void reconcileIndex() {
+        List<Path> files = slotFiles();
+        if (files == null) {
+            return;
+        }
+        Set<String> onDisk = new HashSet<>();
+        boolean changed = false;
+        for (Path file : files) {
+            String id = idOf(file);
+            onDisk.add(id);
+            if (!slots.containsKey(id)) {
+                changed |= indexSlotFile(file);
+            }
+        }
+        changed |= slots.keySet().retainAll(onDisk);
+        if (changed) {
+            changes.incrementAndGet();
+            writeIndexLocked();
+        }
+    }
+
+    /** The slot files in the directory, or null if it can't be listed. */
+    private List<Path> slotFiles() {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SLOT_SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+            return files;
+        } catch (IOException e) {
+            System.err.println("Listing save slots failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Adds the slot in {@code file} under its file name; false if it can't be read. */
+    private boolean indexSlotFile(Path file) {
+        GameState state = JsonGameRepository.load(file);
+        if (state == null) {
+            return false;
+        }
+        String id = idOf(file);
+        Instant savedAt;
+        try {
+            savedAt = Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            savedAt = clock.instant();
+        }
+        slots.put(id, new SlotInfo(id, id, savedAt, state.currentTowerLevel(), preview(state)));
+        return true;
+    }
+
+    /**
+     * Copies every old save in the legacy directory into a slot of the same name, unless
+     * that slot already exists. The autosave files belong to the game, not the player, and
+     * are skipped.
+     */
+    private void importLegacySaves() {
+        if (legacyDirectory == null || !Files.isDirectory(legacyDirectory)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(legacyDirectory, "*" + LEGACY_SUFFIX)) {
+            for (Path file : stream) {
+                if (!file.getFileName().toString().startsWith("autosave.")) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Listing old saves failed: " + e.getMessage());
+            return;
+        }
+
+        boolean imported = false;
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            String name = fileName.substring(0, fileName.length() - LEGACY_SUFFIX.length());
+            try {
+                if (slots.containsKey(idFor(name))) {
+                    continue;
+                }
+                GameState state = JsonGameRepository.load(file);
+                if (state == null) {
+                    System.err.println("Not importing " + file + ": it isn't a readable save");
+                    continue;
+                }
+                imported |= store(name, state, Files.getLastModifiedTime(file).toInstant()) != null;
+            } catch (IllegalArgumentException | IOException e) {
+                System.err.println("Not importing " + file + ": " + e.getMessage());
+            }
+        }
+        if (imported) {
+            writeIndexLocked();
+        }
+    }
+
+    private static String idOf(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.substring(0, fileName.length() - SLOT_SUFFIX.length());
+    }
+
+    private void writeIndex() {
+        synchronized (indexLock) {
+            writeIndexLocked();
+        }
+    }
+
+    private void writeIndexLocked() {
+        // everything counted in `upTo` was put in `slots` before it was counted
+        long upTo = changes.get();
+        if (upTo <= indexWritten) {
+            return;
+        }
+        JSONArray entries = new JSONArray();
+        for (SlotInfo info : slots.values()) {
+            entries.put(new JSONObject()
+                    .put("id", info.id())
+                    .put("name", info.name())
+                    .put("savedAt", info.savedAt().toEpochMilli())
+                    .put("towerLevel", info.towerLevel())
+                    .put("team", new JSONArray(info.teamPreview())));
+        }
+        JSONObject index = new JSONObject().put("version", 1).put("slots", entries);
+        try {
+            JsonGameRepository.writeAtomically(directory.resolve(INDEX_FILE),
+                    index.toString().getBytes(StandardCharsets.UTF_8));
+            indexWritten = upTo;
+        } catch (IOException e) {
+            System.err.println("Writing the save index failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dataaccess;
+
+import entity.BaseLevelStats;
+import entity.Move;
+import entity.Pokemon;
+import factory.pokemonFactory;
+import poke_api.BundledDataset;
+import poke_api.SpeciesInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Every known species, built once and kept in memory, ranked from weakest to strongest
+ * by base stat total.
+ *
+ * Each species is held as a fully built prototype Pokemon, so handing one out is a
+ * {@link Pokemon#copy()}: no JSON, no dataset lookups and no move behaviour wiring. Species
+ * without a single usable move are left out, since they could only pass in battle.
+ * The index is immutable and may be shared between threads.
+ */
+public final class SpeciesIndex {
+    // sorted by base stat total, weakest first
+    private final Pokemon[] prototypes;
+    private final int[] baseStatTotals;
+
+    public SpeciesIndex(Collection<Pokemon> species) {
+        List<Pokemon> usable = new ArrayList<>();
+        for (Pokemon pokemon : species) {
+            if (hasUsableMove(pokemon)) {
+                usable.add(fresh(pokemon));
+            }
+        }
+        usable.sort(Comparator.comparingInt(SpeciesIndex::statTotal)
+                .thenComparing(Pokemon::getName));
+        this.prototypes = usable.toArray(new Pokemon[0]);
+        this.baseStatTotals = new int[prototypes.length];
+        for (int i = 0; i < prototypes.length; i++) {
+            baseStatTotals[i] = statTotal(prototypes[i]);
+        }
+    }
+
+    /**
+     * Indexes every species in the bundled snapshot.
+     */
+    public static SpeciesIndex fromDataset(BundledDataset dataset) {
+        pokemonFactory factory = new pokemonFactory();
+        List<Pokemon> species = new ArrayList<>();
+        for (SpeciesInfo info : dataset.allSpecies()) {
+            species.add(factory.getPokemon(info, dataset.movesOf(info)));
+        }
+        return new SpeciesIndex(species);
+    }
+
+    /**
+     * Loads the named species through the repository and indexes the ones that load;
+     * failures are logged and skipped.
+     */
+    public static CompletableFuture<SpeciesIndex> loadAsync(PokemonRepository repository, Collection<String> names) {
+        List<CompletableFuture<Pokemon>> loads = names.stream()
+                .map(name -> repository.loadAsync(name).exceptionally(error -> {
+                    System.err.println("Leaving " + name + " out of the species index: " + error.getMessage());
+                    return null;
+                }))
+                .toList();
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> new SpeciesIndex(loads.stream()
+                        .map(CompletableFuture::join)
+                        .filter(pokemon -> pokemon != null)
+                        .toList()));
+    }
+
+    public int size() {
+        return prototypes.length;
+    }
+
+    /**
+     * A new Pokemon of the species at {@code rank}, with full HP and PP.
+     *
+     * @param rank 0 for the weakest species, {@link #size()} - 1 for the strongest
+     */
+    public Pokemon create(int rank) {
+        return prototypes[rank].copy();
+    }
+
+    public String name(int rank) {
+        return prototypes[rank].getName();
+    }
+
+    public int baseStatTotal(int rank) {
+        return baseStatTotals[rank];
+    }
+
+    private static int statTotal(Pokemon pokemon) {
+        BaseLevelStats stats = pokemon.getBaseStats();
+        return stats.getMaxHp() + stats.getAttack() + stats.getDefense()
+                + stats.getSpecialAttack() + stats.getSpecialDefense() + stats.getSpeed();
+    }
+
+    private static Pokemon fresh(Pokemon pokemon) {
+        Pokemon copy = pokemon.copy();
+        copy.setCurrentHP(copy.getBaseStats().getMaxHp());
+        for (Move move : copy.getMoves()) {
+            if (move != null) {
+                move.resetPp();
+            }
+        }
+        return copy;
+    }
+
+    private static boolean hasUsableMove(Pokemon pokemon) {
+        for (Move move : pokemon.getMoves()) {
+            if (move != null && move.getMaxPp() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
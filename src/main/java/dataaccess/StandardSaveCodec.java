@@ -0,0 +1,88 @@
+package dataaccess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The codecs the JDK provides. Saves repeat the same key names for every move of every
+ * Pokemon, so either compressor shrinks a JSON save several times over.
+ */
+public enum StandardSaveCodec implements SaveCodec {
+    /** Stored as is. */
+    NONE {
+        @Override
+        public boolean recognizes(byte[] header) {
+            return false;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) {
+            return in;
+        }
+    },
+
+    /** gzip: magic bytes 1f 8b. */
+    GZIP {
+        @Override
+        public boolean recognizes(byte[] header) {
+            return header.length >= 2 && (header[0] & 0xFF) == 0x1F && (header[1] & 0xFF) == 0x8B;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+    },
+
+    /** Deflate in the zlib wrapper, which gives it a checkable two-byte header and a checksum. */
+    DEFLATE {
+        @Override
+        public boolean recognizes(byte[] header) {
+            if (header.length < 2) {
+                return false;
+            }
+            int cmf = header[0] & 0xFF;
+            int flags = header[1] & 0xFF;
+            // method 8 (deflate), window at most 32 KB, header checksum
+            return (cmf & 0x0F) == 8 && (cmf >> 4) <= 7 && ((cmf << 8) | flags) % 31 == 0;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    // DeflaterOutputStream doesn't free a Deflater it was given
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+}
@@ -2,11 +2,15 @@ package entity;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class Battle {
     private final PokemonTeam team1;
     private final PokemonTeam team2;
     private final Map<Pokemon, BattleStats> battleStatsMap = new HashMap<>();
+    // Every random roll in this battle comes from here, so a seed replays the whole battle
+    private final RandomGenerator random;
 
     // ADD THESE THREE FIELDS TO IMPLEMENT THE LOGIC FOR use_case 2:
     private boolean isTeam1Turn = true;
@@ -14,8 +18,13 @@ public class Battle {
     private PokemonTeam winner = null;
 
     public Battle(PokemonTeam team1, PokemonTeam team2) {
+        this(team1, team2, new SplittableRandom());
+    }
+
+    public Battle(PokemonTeam team1, PokemonTeam team2, RandomGenerator random) {
         this.team1 = team1;
         this.team2 = team2;
+        this.random = random;
 
         for(Pokemon pokemon : team1.getTeam()){
             battleStatsMap.put(pokemon, pokemon.createBattleStats());
@@ -125,6 +134,7 @@ public class Battle {
     public boolean isTeam1Turn() { return isTeam1Turn; }
     public boolean isBattleOngoing() { return battleOngoing; }
     public PokemonTeam getWinner() { return winner; }
+    public RandomGenerator getRandom() { return random; }
     public Map<Pokemon, BattleStats> getBattleStatsMap() {
         return battleStatsMap;
     }
@@ -3,21 +3,39 @@ package entity;
 //Current code for this class was generated by ChatGPT. Scroll below for my initial
 //implementation.
 
-import java.util.EnumMap;
-import java.util.Map;
-
 public class BattleStats {
 
+    private static final int MIN_STAGE = -6;
+    private static final int MAX_STAGE = 6;
+    private static final int STAT_COUNT = StatType.values().length;
+    private static final int ACCURACY = StatType.ACCURACY.ordinal();
+    private static final int EVASION = StatType.EVASION.ordinal();
+
+    // Stage multipliers for -6..+6, indexed by stage + 6
+    private static final float[] STAT_STAGE_MULTIPLIERS = new float[MAX_STAGE - MIN_STAGE + 1];
+    private static final float[] ACCURACY_STAGE_MULTIPLIERS = new float[MAX_STAGE - MIN_STAGE + 1];
+    private static final float[] EVASION_STAGE_MULTIPLIERS = new float[MAX_STAGE - MIN_STAGE + 1];
+
+    static {
+        for (int stage = MIN_STAGE; stage <= MAX_STAGE; stage++) {
+            STAT_STAGE_MULTIPLIERS[stage - MIN_STAGE] = statStageMultiplier(stage);
+            ACCURACY_STAGE_MULTIPLIERS[stage - MIN_STAGE] = accuracyStageMultiplier(stage);
+            EVASION_STAGE_MULTIPLIERS[stage - MIN_STAGE] = evasionStageMultiplier(stage);
+        }
+    }
+
     private final BaseLevelStats baseStats;
 
+    // All three arrays are indexed by StatType.ordinal() so reads never box
+
     // Current effective stats in battle
-    private final Map<StatType, Float> currentStats = new EnumMap<>(StatType.class);
+    private final float[] currentStats = new float[STAT_COUNT];
 
     // Stage modifiers for stats (-6 to +6)
-    private final Map<StatType, Integer> statStages = new EnumMap<>(StatType.class);
+    private final int[] statStages = new int[STAT_COUNT];
 
     // Base values mapped by StatType for generic calculation
-    private final Map<StatType, Float> baseStatValues = new EnumMap<>(StatType.class);
+    private final float[] baseStatValues = new float[STAT_COUNT];
 
     public BattleStats(BaseLevelStats baseStats) {
         this.baseStats = baseStats;
@@ -29,17 +47,13 @@ public class BattleStats {
     // -------------------- Initialization -------------------- //
 
     private void initializeBaseStats() {
-        baseStatValues.put(StatType.ATTACK, (float) baseStats.getAttack());
-        baseStatValues.put(StatType.DEFENSE, (float) baseStats.getDefense());
-        baseStatValues.put(StatType.SPECIAL_ATTACK, (float) baseStats.getSpecialAttack());
-        baseStatValues.put(StatType.SPECIAL_DEFENSE, (float) baseStats.getSpecialDefense());
-        baseStatValues.put(StatType.SPEED, (float) baseStats.getSpeed());
-        baseStatValues.put(StatType.ACCURACY, 1f); // neutral multiplier
-        baseStatValues.put(StatType.EVASION, 1f);  // neutral multiplier
-
-        for (StatType stat : StatType.values()) {
-            statStages.put(stat, 0); // all stages start at 0
-        }
+        baseStatValues[StatType.ATTACK.ordinal()] = baseStats.getAttack();
+        baseStatValues[StatType.DEFENSE.ordinal()] = baseStats.getDefense();
+        baseStatValues[StatType.SPECIAL_ATTACK.ordinal()] = baseStats.getSpecialAttack();
+        baseStatValues[StatType.SPECIAL_DEFENSE.ordinal()] = baseStats.getSpecialDefense();
+        baseStatValues[StatType.SPEED.ordinal()] = baseStats.getSpeed();
+        baseStatValues[ACCURACY] = 1f; // neutral multiplier
+        baseStatValues[EVASION] = 1f;  // neutral multiplier
     }
 
     // -------------------- Stage Modification -------------------- //
@@ -49,16 +63,17 @@ public class BattleStats {
      * Automatically recalculates the effective stat.
      */
     public void modifyStat(StatType stat, int stageChange) {
-        int newStage = clampStage(statStages.get(stat) + stageChange);
-        statStages.put(stat, newStage);
-        recalcStat(stat, newStage);
+        int index = stat.ordinal();
+        int newStage = clampStage(statStages[index] + stageChange);
+        statStages[index] = newStage;
+        recalcStat(index, newStage);
     }
 
     /** Resets all non-HP stats and stages */
     public void resetBattleModifiers() {
-        for (StatType stat : StatType.values()) {
-            statStages.put(stat, 0);
-            recalcStat(stat, 0);
+        for (int index = 0; index < STAT_COUNT; index++) {
+            statStages[index] = 0;
+            recalcStat(index, 0);
         }
     }
 
@@ -67,51 +82,59 @@ public class BattleStats {
     /** Recalculates a stat based on its stage. While all these calculations
      * are relatively simple and straightforward, dividing them ensures that we
      * cans easily alter how stats are calcualte down the road*/
-    private void recalcStat(StatType stat, int stage) {
-        float baseValue = baseStatValues.get(stat);
-
+    private void recalcStat(int index, int stage) {
         // Accuracy and Evasion are multipliers only, others scale with base value
-        if (stat == StatType.ACCURACY)  {
-            currentStats.put(stat, accuracyStageMultiplier(stage));
-        } else if (stat == StatType.EVASION) {
-            currentStats.put(stat, evasionStageMultiplier(stage));
+        if (index == ACCURACY) {
+            currentStats[index] = ACCURACY_STAGE_MULTIPLIERS[stage - MIN_STAGE];
+        } else if (index == EVASION) {
+            currentStats[index] = EVASION_STAGE_MULTIPLIERS[stage - MIN_STAGE];
         }
         else {
-            currentStats.put(stat, baseValue * statStageMultiplier(stage));
+            currentStats[index] = baseStatValues[index] * STAT_STAGE_MULTIPLIERS[stage - MIN_STAGE];
         }
     }
 
     /** Converts stage (-6 to +6) to multiplier */
-    private float statStageMultiplier(int stage) {
+    private static float statStageMultiplier(int stage) {
         if (stage >= 0) return (2f + stage) / 2f;
         else return 2f / (2f - stage);
     }
 
-    private float accuracyStageMultiplier(int stage) {
+    private static float accuracyStageMultiplier(int stage) {
         if (stage >= 0) return (3f + stage) / 3f;
         else return 3f / (3f - stage);
     }
 
-    private float evasionStageMultiplier(int stage) {
+    private static float evasionStageMultiplier(int stage) {
         if (stage >= 0) return 3f / (3f + stage);
         else return (3f - stage) / 3f;
     }
 
 
+    /**
+     * The factor a stat is multiplied by at {@code stage}, from the same tables the
+     * instances use. Lets code that keeps stages elsewhere reproduce the exact values.
+     */
+    public static float stageMultiplier(StatType stat, int stage) {
+        if (stat == StatType.ACCURACY) return ACCURACY_STAGE_MULTIPLIERS[stage - MIN_STAGE];
+        if (stat == StatType.EVASION) return EVASION_STAGE_MULTIPLIERS[stage - MIN_STAGE];
+        return STAT_STAGE_MULTIPLIERS[stage - MIN_STAGE];
+    }
+
     /** Clamp stage to [-6, 6] */
     private int clampStage(int stage) {
-        return Math.max(-6, Math.min(6, stage));
+        return Math.max(MIN_STAGE, Math.min(MAX_STAGE, stage));
     }
 
 
     // -------------------- Current Stat Access -------------------- //
 
     public float getStat(StatType stat) {
-        return currentStats.get(stat);
+        return currentStats[stat.ordinal()];
     }
 
     public int getStage(StatType stat) {
-        return statStages.get(stat);
+        return statStages[stat.ordinal()];
     }
 }
 
@@ -45,6 +45,15 @@ public record GameState(
         int highScore
 ) {
 
+    /**
+     * The same state with its own copies of both teams. The game changes teams in place, so
+     * anything that works on a state on another thread (a background save) needs this.
+     */
+    public GameState copy() {
+        return new GameState(currentScreen, activeTeamSelector, player1Team.copy(), player2Team.copy(),
+                battlePhase, currentTowerLevel, highScore);
+    }
+
     /** The three main screens in the game. */
     public enum Screen {
         TEAM_SELECTION,
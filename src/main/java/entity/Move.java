@@ -4,12 +4,15 @@ import entity.moveyStuff.MoveBehaviour;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class Move {
     private final String moveName;
     private final int movePower;
     private final String moveDescription;
     private final String moveType;
+    // moveType resolved once at construction; null if it isn't one of the 18 battle types
+    private final PokemonType pokemonType;
     private final int maxPp;
     private int currentPp;
     private final int moveAccuracy;
@@ -23,6 +26,7 @@ public class Move {
         this.moveName = moveName;
         this.moveDescription = moveDescription;
         this.moveType = moveType;
+        this.pokemonType = PokemonType.fromName(moveType);
         this.maxPp = pp;
         this.currentPp = maxPp;
         this.moveAccuracy = moveAccuracy;
@@ -32,10 +36,10 @@ public class Move {
     }
 
     public void useMove(PokemonTeam userTeam, PokemonTeam targetTeam,
-                        BattleStats userStats, BattleStats targetStats) {
+                        BattleStats userStats, BattleStats targetStats, RandomGenerator random) {
 
         for (MoveBehaviour behavior : moveBehaviours) {
-            behavior.execute(this, userTeam, targetTeam, userStats, targetStats);
+            behavior.execute(this, userTeam, targetTeam, userStats, targetStats, random);
         }
         currentPp -= 1;
 
@@ -61,6 +65,10 @@ public class Move {
         return moveType;
     }
 
+    public PokemonType getPokemonType() {
+        return pokemonType;
+    }
+
     public int getMaxPp() {
         return maxPp;
     }
@@ -73,11 +81,29 @@ public class Move {
         return moveClass;
     }
 
+    public List<MoveBehaviour> getMoveBehaviours() {
+        return moveBehaviours;
+    }
+
     public void resetPp() {this.currentPp = maxPp;}
 
+    public void setCurrentPp(int currentPp) {this.currentPp = currentPp;}
+
+    /**
+     * Independent copy with the same PP left. Behaviours hold no battle state, so the
+     * copy shares them.
+     */
+    public Move copy() {
+        Move copy = new Move(moveName, moveType, maxPp, moveDescription, moveClass, moveAccuracy,
+                moveBehaviours, movePower);
+        copy.currentPp = currentPp;
+        return copy;
+    }
+
     public Move(String moveName, String moveType, int maxPp, String moveDescription, String moveClass, int moveAccuracy, int currentPp) {
         this.moveName = moveName;
         this.moveType = moveType;
+        this.pokemonType = PokemonType.fromName(moveType);
         this.maxPp = maxPp;
         this.moveDescription = moveDescription;
         this.moveClass = moveClass;
@@ -17,6 +17,9 @@ public class Pokemon {
     private int currentHP;
     private BaseLevelStats baseStats;
     private final List<String> types;
+    // types resolved once so damage calculation never goes through strings; secondary may be null
+    private final PokemonType primaryType;
+    private final PokemonType secondaryType;
     private Move[] moves;
     private final String frontSpriteUrl;
     private final String backSpriteUrl;
@@ -33,6 +36,8 @@ public class Pokemon {
         this.baseStats = stats;
         this.currentHP = stats.getMaxHp();
         this.types = types;
+        this.primaryType = types.isEmpty() ? null : PokemonType.fromName(types.get(0));
+        this.secondaryType = types.size() < 2 ? null : PokemonType.fromName(types.get(1));
         this.frontSpriteUrl = frontSpriteUrl;
         this.backSpriteUrl = backSpriteUrl;
     }
@@ -65,6 +70,14 @@ public class Pokemon {
         return types;
     }
 
+    public PokemonType getPrimaryType() {
+        return primaryType;
+    }
+
+    public PokemonType getSecondaryType() {
+        return secondaryType;
+    }
+
     public Move[] getMoves() {
         return moves;
     }
@@ -80,4 +93,18 @@ public class Pokemon {
     public void setMoves(Move[] moves) { this.moves = moves; }
 
     public void setCurrentHP(int currentHP) { this.currentHP = currentHP; }
+
+    /**
+     * Deep copy for simulations: HP and every move's PP are copied, base stats and
+     * types are immutable and shared.
+     */
+    public Pokemon copy() {
+        Pokemon copy = new Pokemon(name, baseStats, types, frontSpriteUrl, backSpriteUrl);
+        copy.currentHP = currentHP;
+        copy.moves = new Move[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            copy.moves[i] = moves[i] == null ? null : moves[i].copy();
+        }
+        return copy;
+    }
 }
\ No newline at end of file
@@ -68,6 +68,17 @@ public class PokemonTeam {
         Collections.swap(pokemons, 0, newIndex);
     }
 
+    /**
+     * Deep copy of the team in its current order, see {@link Pokemon#copy()}.
+     */
+    public PokemonTeam copy() {
+        PokemonTeam copy = new PokemonTeam();
+        for (Pokemon pokemon : pokemons) {
+            copy.pokemons.add(pokemon.copy());
+        }
+        return copy;
+    }
+
 }
 
 /* My version of the code, which is for the most part identical to the final
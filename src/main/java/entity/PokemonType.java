@@ -1,6 +1,8 @@
 package entity;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 public enum PokemonType {
@@ -94,19 +96,60 @@ public enum PokemonType {
             "fire", 0.5, "poison", 0.5, "steel", 0.5
     ));
 
+    // Only read while the matrix below is built
     private final Map<String, Double> effectiveness;
 
+    // EFFECTIVENESS[attacking.ordinal()][defending.ordinal()], filled from the maps above
+    private static final double[][] EFFECTIVENESS = new double[values().length][values().length];
+
+    static {
+        for (PokemonType attacking : values()) {
+            double[] row = EFFECTIVENESS[attacking.ordinal()];
+            Arrays.fill(row, 1.0);
+            for (Map.Entry<String, Double> entry : attacking.effectiveness.entrySet()) {
+                row[valueOf(entry.getKey().toUpperCase()).ordinal()] = entry.getValue();
+            }
+        }
+    }
+
     PokemonType(Map<String, Double> effectiveness) {
         this.effectiveness = effectiveness;
     }
 
+    /**
+     * Resolves an API type name such as "fire" without throwing.
+     * Returns null for null or for names that aren't one of the 18 battle types.
+     */
+    public static PokemonType fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Multiplier against a Pokemon with the given types. Either may be null (no second
+     * type, or a type we don't know), which counts as neutral.
+     */
+    public double getEffectivenessAgainst(PokemonType primary, PokemonType secondary) {
+        double[] row = EFFECTIVENESS[ordinal()];
+        double modifier = primary == null ? 1.0 : row[primary.ordinal()];
+        return secondary == null ? modifier : modifier * row[secondary.ordinal()];
+    }
 
     //Add STAB modifier if you have time
     public double getEffectivenessAgainst(List<String> targetTypes) {
         double modifier = 1.0;
         for (String targetType : targetTypes) {
-            // Use getOrDefault to return 1.0 (neutral) if matchup not found
-            modifier *= effectiveness.getOrDefault(targetType, 1.0);
+            PokemonType type = fromName(targetType);
+            // unknown types are neutral
+            if (type != null) {
+                modifier *= EFFECTIVENESS[ordinal()][type.ordinal()];
+            }
         }
         return modifier;
     }
@@ -35,6 +35,11 @@ public class MoveBuilder {
         return this;
     }
 
+    public MoveBuilder setMoveClass(String moveClass) {
+        this.moveClass = moveClass;
+        return this;
+    }
+
     public MoveBuilder setMoveAccuracy(int moveAccuracy) {
         this.moveAccuracy = moveAccuracy;
         return this;
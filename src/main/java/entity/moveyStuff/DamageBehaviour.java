@@ -2,6 +2,8 @@ package entity.moveyStuff;
 
 import entity.*;
 
+import java.util.random.RandomGenerator;
+
 
 // Damage move behaviour framework was generated by ChatGPT
 public abstract class DamageBehaviour implements MoveBehaviour {
@@ -11,7 +13,8 @@ public abstract class DamageBehaviour implements MoveBehaviour {
                         PokemonTeam userTeam,
                         PokemonTeam targetTeam,
                         BattleStats userBattleStats,
-                        BattleStats targetBattleStats) {
+                        BattleStats targetBattleStats,
+                        RandomGenerator random) {
         double damage = getBaseDamage(move, userTeam, targetTeam, userBattleStats, targetBattleStats)
                     * getTypeModifier(move, targetTeam);
         targetTeam.getActivePokemon().takeDamage((int)Math.round(damage));
@@ -30,8 +33,12 @@ public abstract class DamageBehaviour implements MoveBehaviour {
     }*/
 
     private static double getTypeModifier(Move move, PokemonTeam targetTeam) {
-        return PokemonType.valueOf(move.getMoveType().toUpperCase())  // ← ADD .toUpperCase()
-                .getEffectivenessAgainst(targetTeam.getActivePokemon().getTypes());
+        PokemonType moveType = move.getPokemonType();
+        if (moveType == null) {
+            return 1.0;
+        }
+        Pokemon target = targetTeam.getActivePokemon();
+        return moveType.getEffectivenessAgainst(target.getPrimaryType(), target.getSecondaryType());
     }
 
     abstract int getBaseDamage(Move move,
@@ -3,20 +3,21 @@ import entity.BattleStats;
 import entity.Move;
 import entity.PokemonTeam;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class ForceSwitchBehaviour implements MoveBehaviour {
     public void execute(Move move,
                  PokemonTeam userTeam,
                  PokemonTeam targetTeam,
                  BattleStats userBattleStats,
-                 BattleStats targetBattleStats){
-        targetTeam.switchActivePokemon(getIndexOfNewActivePokemon(targetTeam));
+                 BattleStats targetBattleStats,
+                 RandomGenerator random){
+        targetTeam.switchActivePokemon(getIndexOfNewActivePokemon(targetTeam, random));
     }
 
     //Move can only be called in battle so enemy team must have at least one Pokemon
-    private int getIndexOfNewActivePokemon(PokemonTeam targetTeam) {
+    private int getIndexOfNewActivePokemon(PokemonTeam targetTeam, RandomGenerator random) {
         if(targetTeam.getTeam().size()==1) return 0;
-        else return new Random().nextInt(1, targetTeam.getTeam().size());
+        else return random.nextInt(1, targetTeam.getTeam().size());
     }
 }
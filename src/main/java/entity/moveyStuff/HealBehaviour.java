@@ -4,6 +4,8 @@ import entity.BattleStats;
 import entity.Move;
 import entity.PokemonTeam;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Behavior for moves that heal the user Pokemon.
  * Examples: Recover, Synthesis, Roost
@@ -32,11 +34,16 @@ public class HealBehaviour implements MoveBehaviour {
                         PokemonTeam userTeam,
                         PokemonTeam targetTeam,
                         BattleStats userBattleStats,
-                        BattleStats targetBattleStats) {
+                        BattleStats targetBattleStats,
+                        RandomGenerator random) {
 
         int maxHp = userTeam.getActivePokemon().getBaseStats().getMaxHp();
         int healAmount = (int) Math.ceil(maxHp * healPercentage);
 
         userTeam.getActivePokemon().heal(healAmount);
     }
-}
\ No newline at end of file
+
+    public double getHealPercentage() {
+        return healPercentage;
+    }
+}
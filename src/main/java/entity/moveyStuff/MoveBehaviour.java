@@ -5,6 +5,8 @@ import entity.Move;
 import entity.Pokemon;
 import entity.PokemonTeam;
 
+import java.util.random.RandomGenerator;
+
 /* This is an interface that will be used for a strategy
 design pattern. The number of possible behaviours will be around 14 to account
 for all the differnt types listed in the API. See below for greater detail.
@@ -66,9 +68,14 @@ category.
 
  */
 public interface MoveBehaviour {
+    /**
+     * @param random the battle's random stream; every roll a behaviour makes must come from
+     *               here so a battle can be replayed from its seed
+     */
     void execute(Move move,
                  PokemonTeam userTeam,
                  PokemonTeam targetTeam,
                  BattleStats userBattleStats,
-                 BattleStats targetBattleStats);
+                 BattleStats targetBattleStats,
+                 RandomGenerator random);
 }
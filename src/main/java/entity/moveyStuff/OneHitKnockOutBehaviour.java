@@ -4,6 +4,8 @@ import entity.BattleStats;
 import entity.Move;
 import entity.PokemonTeam;
 
+import java.util.random.RandomGenerator;
+
 public class OneHitKnockOutBehaviour extends DamageBehaviour {
 
     @Override
@@ -11,8 +13,9 @@ public class OneHitKnockOutBehaviour extends DamageBehaviour {
                         PokemonTeam userTeam,
                         PokemonTeam targetTeam,
                         BattleStats userBattleStats,
-                        BattleStats targetBattleStats) {
-        super.execute(move, userTeam, targetTeam, userBattleStats, targetBattleStats);
+                        BattleStats targetBattleStats,
+                        RandomGenerator random) {
+        super.execute(move, userTeam, targetTeam, userBattleStats, targetBattleStats, random);
     }
 
     @Override
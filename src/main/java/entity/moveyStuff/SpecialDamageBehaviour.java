@@ -5,14 +5,17 @@ import entity.Move;
 import entity.PokemonTeam;
 import entity.StatType;
 
+import java.util.random.RandomGenerator;
+
 public class SpecialDamageBehaviour extends DamageBehaviour {
     @Override
     public void execute(Move move,
                         PokemonTeam userTeam,
                         PokemonTeam targetTeam,
                         BattleStats userBattleStats,
-                        BattleStats targetBattleStats) {
-        super.execute(move, userTeam, targetTeam, userBattleStats, targetBattleStats);
+                        BattleStats targetBattleStats,
+                        RandomGenerator random) {
+        super.execute(move, userTeam, targetTeam, userBattleStats, targetBattleStats, random);
     }
 
     @Override
@@ -5,6 +5,8 @@ import entity.Move;
 import entity.PokemonTeam;
 import entity.StatType;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Behavior for moves that modify stats (buff/debuff).
  * Examples: Swords Dance (raises Attack), Tail Whip (lowers Defense)
@@ -32,7 +34,8 @@ public class StatModifierBehaviour implements MoveBehaviour {
                         PokemonTeam userTeam,
                         PokemonTeam targetTeam,
                         BattleStats userBattleStats,
-                        BattleStats targetBattleStats) {
+                        BattleStats targetBattleStats,
+                        RandomGenerator random) {
 
         if (targetsSelf) {
             userBattleStats.modifyStat(statToModify, stageChange);
@@ -40,4 +43,16 @@ public class StatModifierBehaviour implements MoveBehaviour {
             targetBattleStats.modifyStat(statToModify, stageChange);
         }
     }
-}
\ No newline at end of file
+
+    public StatType getStatToModify() {
+        return statToModify;
+    }
+
+    public int getStageChange() {
+        return stageChange;
+    }
+
+    public boolean isTargetsSelf() {
+        return targetsSelf;
+    }
+}
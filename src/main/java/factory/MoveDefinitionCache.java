@@ -0,0 +1,61 @@
+package factory;
+
+import org.json.JSONObject;
+import poke_api.MoveInfo;
+import poke_api.pokemonFetcher;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of move definitions, keyed by move name.
+ *
+ * Moves such as "tackle" are learned by dozens of species, so without this every species
+ * would download and parse the same move again. The cache stores the in-flight future
+ * rather than the finished value, which means two species asking for the same move at the
+ * same time share a single request (single-flight). Failed lookups are dropped so the
+ * next caller retries them.
+ */
+public class MoveDefinitionCache {
+    private static MoveDefinitionCache shared;
+
+    private final pokemonFetcher fetcher;
+    private final ConcurrentHashMap<String, CompletableFuture<MoveInfo>> moves = new ConcurrentHashMap<>();
+
+    public MoveDefinitionCache(pokemonFetcher fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    public static synchronized MoveDefinitionCache shared() {
+        if (shared == null) {
+            shared = new MoveDefinitionCache(new pokemonFetcher());
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the move definition, fetching it from {@code url} only if no other caller
+     * has already started to.
+     */
+    public CompletableFuture<MoveInfo> get(String name, String url) {
+        CompletableFuture<MoveInfo> future = moves.computeIfAbsent(name, key -> fetcher.getMoveAsync(url));
+        future.whenComplete((move, error) -> {
+            if (error != null) {
+                moves.remove(name, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Resolves every move the species can learn through this cache.
+     */
+    public CompletableFuture<Map<String, MoveInfo>> getMoves(JSONObject pokemon) {
+        return fetcher.getPokemonMovesAsync(pokemon, this::get);
+    }
+
+    public int size() {
+        return moves.size();
+    }
+}
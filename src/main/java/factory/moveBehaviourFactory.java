@@ -20,22 +20,28 @@ public class moveBehaviourFactory {
             case "net-good-stats":
                 throw new IllegalArgumentException("This damage category has not been implemented");
             case "heal":
-                throw new IllegalArgumentException("This damage category has not been implemented");
+                // the API's meta.healing is not kept yet, so every heal restores the default half
+                moveBehaviours.add(new HealBehaviour());
+                break;
             case "damage+ailment":
+                // secondary effect not implemented yet, the damage part still applies
                 moveBehaviours.add(getDamageClassBehaviour(moveDamageClass));
-                throw new IllegalArgumentException("This damage category has not been implemented");
+                break;
             case "swagger":
                 moveBehaviours.add(getDamageClassBehaviour(moveDamageClass));
                 throw new IllegalArgumentException("This damage category has not been implemented");
             case "damage+lower":
+                // secondary effect not implemented yet, the damage part still applies
                 moveBehaviours.add(getDamageClassBehaviour(moveDamageClass));
-                throw new IllegalArgumentException("This damage category has not been implemented");
+                break;
             case "damage+raise":
+                // secondary effect not implemented yet, the damage part still applies
                 moveBehaviours.add(getDamageClassBehaviour(moveDamageClass));
-                throw new IllegalArgumentException("This damage category has not been implemented");
+                break;
             case "damage+heal":
+                // secondary effect not implemented yet, the damage part still applies
                 moveBehaviours.add(getDamageClassBehaviour(moveDamageClass));
-                throw new IllegalArgumentException("This damage category has not been implemented");
+                break;
             case "ohko":
                 moveBehaviours.add(new OneHitKnockOutBehaviour());
                 break;
@@ -48,6 +54,8 @@ public class moveBehaviourFactory {
                 break;
             case "unique":
                 throw new IllegalArgumentException("This damage category has not been implemented");
+            default:
+                throw new IllegalArgumentException("Unknown move category: " + moveCategory);
         }
         return moveBehaviours;
     }
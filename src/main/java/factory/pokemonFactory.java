@@ -1,69 +1,66 @@
 package factory;
 import java.util.*;
-import java.io.IOException;
 
 import entity.builder.MoveBuilder;
 import entity.moveyStuff.MoveBehaviour;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import poke_api.MoveInfo;
+import poke_api.SpeciesInfo;
 import poke_api.pokemonFetcher;
 import entity.*;
 /**
- * Factory that creates a real Pokemon from the PokeAPI.
- * Usage: new pokemonFactory("pikachu").getPokemon()
+ * Factory that turns PokeAPI species JSON and its resolved moves into a Pokemon.
+ * It does no I/O of its own; use {@link dataaccess.PokemonRepository} to fetch the data.
+ * Usage: PokemonRepository.shared().loadAsync("pikachu")
  */
 public class pokemonFactory {
     private final int pokemonMaxMoves = 10;
+    // Only used for its JSON field helpers, never to make requests
     private final pokemonFetcher pokemonFetcher;
-    private final JSONObject pokemonJSONObject;
     private final moveBehaviourFactory moveBehaviourFactory;
-    private final String pokeid;
 
-    public pokemonFactory(String pokeid){
-        this.pokeid = pokeid;
+    public pokemonFactory(){
         this.pokemonFetcher = new pokemonFetcher();
-        this.pokemonJSONObject = pokemonFetcher.getPokemon(pokeid);
         this.moveBehaviourFactory = new moveBehaviourFactory();
     }
 
     /**
-     * Creates and returns a fully built Pokemon with stats + 4 moves.
+     * Creates and returns a fully built Pokemon with stats + up to 10 moves.
+     *
+     * @param pokemonJSONObject species JSON from the pokemon endpoint
+     * @param moveMap the species' moves, keyed by move name
      */
-    public Pokemon getPokemon() {
-        // Get Pokemon name
-        String name = pokemonFetcher.getPokemonName(pokemonJSONObject);
-
-        // Get types and convert String[] to List<String>
-        String[] typesArray = pokemonFetcher.getPokemonType(pokemonJSONObject);
-        List<String> types = Arrays.asList(typesArray);
-
-        // Get stats from API - note: API returns "special-attack" and "special-defense" with hyphens
-        Map<String, Object> statsMap = pokemonFetcher.getPokemonStats(pokemonJSONObject);
+    public Pokemon getPokemon(JSONObject pokemonJSONObject, Map<String, MoveInfo> moveMap) {
+        return getPokemon(pokemonFetcher.getSpeciesInfo(pokemonJSONObject), moveMap);
+    }
 
+    /**
+     * Creates and returns a fully built Pokemon with stats + up to 10 moves.
+     *
+     * @param species species summary, either parsed from the API or read from the bundled dataset
+     * @param moveMap the species' moves, keyed by move name
+     */
+    public Pokemon getPokemon(SpeciesInfo species, Map<String, MoveInfo> moveMap) {
         // Build BaseLevelStats using builder pattern
         BaseLevelStats baseStats = new BaseLevelStats.BaseLevelStatsBuilder()
-            .maxHp((Integer) statsMap.get("hp"))
-            .attack((Integer) statsMap.get("attack"))
-            .defense((Integer) statsMap.get("defense"))
-            .specialAttack((Integer) statsMap.get("special-attack"))
-            .specialDefense((Integer) statsMap.get("special-defense"))
-            .speed((Integer) statsMap.get("speed"))
+            .maxHp(species.getHp())
+            .attack(species.getAttack())
+            .defense(species.getDefense())
+            .specialAttack(species.getSpecialAttack())
+            .specialDefense(species.getSpecialDefense())
+            .speed(species.getSpeed())
             .build();
 
-        // Get sprite URLs
-        String[] sprites = pokemonFetcher.getPokemonSprite(pokemonJSONObject);
-        String frontSpriteUrl = sprites[0];
-        String backSpriteUrl = sprites[1];
-
         // Create Pokemon with proper constructor including sprite URLs
-        Pokemon pokemon = new Pokemon(name, baseStats, types, frontSpriteUrl, backSpriteUrl);
+        Pokemon pokemon = new Pokemon(species.getName(), baseStats, new ArrayList<>(species.getTypes()),
+                species.getFrontSpriteUrl(), species.getBackSpriteUrl());
 
         // Set moves (up to 10)
-        List<Move> moves = movesFactory();
+        List<Move> moves = movesFactory(moveMap);
         Move[] movesArray = pokemon.getMoves();
         int movesToAdd = Math.min(pokemonMaxMoves, moves.size());
         for (int i = 0; i < movesToAdd; i++) {
@@ -73,50 +70,63 @@ public class pokemonFactory {
         return pokemon;
     }
 
-    private List<Move> movesFactory() {
+    private List<Move> movesFactory(Map<String, MoveInfo> moveMap) {
         List<Move> moveList = new ArrayList<>();
 
-        try {
-            HashMap<String, HashMap<String, Object>> moveMap = pokemonFetcher.getPokemonMoves(pokemonJSONObject);
-
-            // Iterate through moves (limit to first 10 for team selection)
-            int count = 0;
-            for (Map.Entry<String, HashMap<String, Object>> entry : moveMap.entrySet()) {
-                if (count >= pokemonMaxMoves) break;
-
-                String moveName = entry.getKey();
-                HashMap<String, Object> moveInfo = entry.getValue();
-
-                String moveType = (String) moveInfo.get("type");
-                int pp = (Integer) moveInfo.get("pp");
-                Object powerObj = moveInfo.get("power");
-                int power = powerObj != null ? (Integer) powerObj : 0;
-
-                // Note: Description not available in current API response structure
-                // You may need to fetch it separately or use a default
-                String description = "A Pokemon move"; // Placeholder
-
-                // Get move behaviors - default to physical damage for now
-                // In a full implementation, you'd fetch move category/class from API
-                List<MoveBehaviour> behaviours = moveBehaviourFactory.getMoveBehaviours("damage", "physical");
-
-                Move move = new MoveBuilder()
-                    .setMoveName(moveName)
-                    .setMoveType(moveType)
-                    .setPp(pp)
-                    .setMoveDescription(description)
-                    .setMovePower(power)
-                    .setMoveAccuracy(100) // Default accuracy, may need to fetch from API
-                    .setMoveBehaviours(behaviours)
-                    .createMove();
-
-                moveList.add(move);
-                count++;
+        // Iterate through moves (limit to first 10 usable ones for team selection)
+        for (Map.Entry<String, MoveInfo> entry : moveMap.entrySet()) {
+            if (moveList.size() >= pokemonMaxMoves) break;
+
+            String moveName = entry.getKey();
+            MoveInfo moveInfo = entry.getValue();
+
+            String moveType = moveInfo.getType();
+            int pp = moveInfo.getPp();
+            Integer powerObj = moveInfo.getPower();
+            int power = powerObj != null ? powerObj : 0;
+            // null accuracy means the move never misses
+            Integer accuracyObj = moveInfo.getAccuracy();
+            int accuracy = accuracyObj != null ? accuracyObj : 100;
+
+            // Note: Description not available in current API response structure
+            // You may need to fetch it separately or use a default
+            String description = "A Pokemon move"; // Placeholder
+
+            String category = moveCategory(moveInfo);
+            String damageClass = moveInfo.getDamageClass() != null ? moveInfo.getDamageClass() : "physical";
+            List<MoveBehaviour> behaviours;
+            try {
+                behaviours = moveBehaviourFactory.getMoveBehaviours(category, damageClass);
+            } catch (IllegalArgumentException e) {
+                // Moves whose effect we can't simulate yet are left out of the move set
+                continue;
             }
-        } catch (IOException e) {
-            System.err.println("Error fetching moves: " + e.getMessage());
+
+            Move move = new MoveBuilder()
+                .setMoveName(moveName)
+                .setMoveType(moveType)
+                .setPp(pp)
+                .setMoveDescription(description)
+                .setMoveClass(damageClass)
+                .setMovePower(power)
+                .setMoveAccuracy(accuracy)
+                .setMoveBehaviours(behaviours)
+                .createMove();
+
+            moveList.add(move);
         }
 
         return moveList;
     }
+
+    /**
+     * meta.category from the move JSON. A few moves have no meta at all; treat those as
+     * plain damage when they have power, otherwise as a status effect we don't support.
+     */
+    private static String moveCategory(MoveInfo moveInfo) {
+        if (moveInfo.getCategory() != null) {
+            return moveInfo.getCategory();
+        }
+        return moveInfo.getPower() != null ? "damage" : "unique";
+    }
 }
@@ -27,4 +27,12 @@ public class BattleController {
         UseMoveInputData inputData = new UseMoveInputData(battle, move, moveIndex);
         useMoveInteractor.execute(inputData);
     }
+
+    /**
+     * Give a computer-controlled Player 2 its turn, e.g. after Player 1 switched
+     * @param battle The current battle
+     */
+    public void playOpponentTurn(Battle battle) {
+        useMoveInteractor.playOpponentTurn(battle);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,257 @@
+package poke_api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of the species and move snapshot written by {@link BundledDatasetWriter}.
+ *
+ * The file is memory-mapped and read with absolute gets, so opening it costs nothing beyond
+ * checking the header and a lookup is a binary search over fixed-size records; no JSON is
+ * parsed and nothing is copied until a {@link SpeciesInfo} or {@link MoveInfo} is returned.
+ * Lookups are safe to call from any thread. Misses return null, like the rest of this package.
+ */
+public final class BundledDataset {
+    public static final Path DEFAULT_PATH = Paths.get("resources", "pokedex.bin");
+
+    // "PKDX"
+    static final int MAGIC = 0x504B4458;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 9 * 4;
+    static final int SPECIES_RECORD_SIZE = 44;
+    static final int MOVE_RECORD_SIZE = 28;
+
+    private final ByteBuffer buffer;
+    private final int speciesCount;
+    private final int moveCount;
+    private final int speciesTable;
+    private final int speciesNames;
+    private final int moveTable;
+    private final int moveNames;
+    private final int moveLists;
+
+    private BundledDataset(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a bundled Pokedex dataset");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported dataset version " + version + ", expected " + VERSION);
+        }
+        this.buffer = buffer;
+        this.speciesCount = buffer.getInt(8);
+        this.moveCount = buffer.getInt(12);
+        this.speciesTable = buffer.getInt(16);
+        this.speciesNames = buffer.getInt(20);
+        this.moveTable = buffer.getInt(24);
+        this.moveNames = buffer.getInt(28);
+        this.moveLists = buffer.getInt(32);
+    }
+
+    public static BundledDataset open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BundledDataset(mapped);
+        }
+    }
+
+    /**
+     * Opens {@link #DEFAULT_PATH}, or returns null if there is no usable dataset there.
+     */
+    public static BundledDataset openDefault() {
+        if (!Files.isRegularFile(DEFAULT_PATH)) {
+            return null;
+        }
+        try {
+            return open(DEFAULT_PATH);
+        } catch (IOException e) {
+            System.err.println("Ignoring bundled dataset " + DEFAULT_PATH + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public int speciesCount() {
+        return speciesCount;
+    }
+
+    public int moveCount() {
+        return moveCount;
+    }
+
+    public SpeciesInfo species(String name) {
+        int index = findByName(name, speciesNames, speciesCount, speciesTable, SPECIES_RECORD_SIZE);
+        return index < 0 ? null : readSpecies(index);
+    }
+
+    public SpeciesInfo species(int id) {
+        int index = findById(id, speciesTable, speciesCount, SPECIES_RECORD_SIZE);
+        return index < 0 ? null : readSpecies(index);
+    }
+
+    public MoveInfo move(String name) {
+        int index = findByName(name, moveNames, moveCount, moveTable, MOVE_RECORD_SIZE);
+        return index < 0 ? null : readMove(index);
+    }
+
+    public MoveInfo move(int id) {
+        int index = findById(id, moveTable, moveCount, MOVE_RECORD_SIZE);
+        return index < 0 ? null : readMove(index);
+    }
+
+    /**
+     * Every species in the snapshot, in id order.
+     */
+    public List<SpeciesInfo> allSpecies() {
+        List<SpeciesInfo> all = new ArrayList<>(speciesCount);
+        for (int i = 0; i < speciesCount; i++) {
+            all.add(readSpecies(i));
+        }
+        return all;
+    }
+
+    /**
+     * The species' moves keyed by name, in the same order the API lists them.
+     */
+    public Map<String, MoveInfo> movesOf(SpeciesInfo species) {
+        Map<String, MoveInfo> moves = new LinkedHashMap<>();
+        int index = findById(species.getId(), speciesTable, speciesCount, SPECIES_RECORD_SIZE);
+        if (index < 0) {
+            return moves;
+        }
+        int record = speciesTable + index * SPECIES_RECORD_SIZE;
+        int start = buffer.getInt(record + 36);
+        int count = buffer.getInt(record + 40);
+        for (int i = 0; i < count; i++) {
+            MoveInfo move = readMove(buffer.getInt(moveLists + (start + i) * 4));
+            moves.put(move.getName(), move);
+        }
+        return moves;
+    }
+
+    private SpeciesInfo readSpecies(int index) {
+        int record = speciesTable + index * SPECIES_RECORD_SIZE;
+        List<String> types = new ArrayList<>(2);
+        String primary = readString(buffer.getInt(record + 8));
+        String secondary = readString(buffer.getInt(record + 12));
+        if (primary != null) {
+            types.add(primary);
+        }
+        if (secondary != null) {
+            types.add(secondary);
+        }
+
+        int start = buffer.getInt(record + 36);
+        int count = buffer.getInt(record + 40);
+        List<String> moveNames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int move = moveTable + buffer.getInt(moveLists + (start + i) * 4) * MOVE_RECORD_SIZE;
+            moveNames.add(readString(buffer.getInt(move + 4)));
+        }
+
+        return new SpeciesInfo(
+                buffer.getInt(record),
+                readString(buffer.getInt(record + 4)),
+                types,
+                buffer.getShort(record + 16),
+                buffer.getShort(record + 18),
+                buffer.getShort(record + 20),
+                buffer.getShort(record + 22),
+                buffer.getShort(record + 24),
+                buffer.getShort(record + 26),
+                readString(buffer.getInt(record + 28)),
+                readString(buffer.getInt(record + 32)),
+                moveNames);
+    }
+
+    private MoveInfo readMove(int index) {
+        int record = moveTable + index * MOVE_RECORD_SIZE;
+        short power = buffer.getShort(record + 12);
+        short accuracy = buffer.getShort(record + 14);
+        return new MoveInfo(
+                buffer.getInt(record),
+                readString(buffer.getInt(record + 4)),
+                readString(buffer.getInt(record + 8)),
+                power < 0 ? null : (int) power,
+                accuracy < 0 ? null : (int) accuracy,
+                buffer.getShort(record + 16),
+                readString(buffer.getInt(record + 20)),
+                readString(buffer.getInt(record + 24)));
+    }
+
+    private String readString(int offset) {
+        if (offset < 0) {
+            return null;
+        }
+        int length = Short.toUnsignedInt(buffer.getShort(offset));
+        byte[] utf8 = new byte[length];
+        buffer.get(offset + 2, utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private int findById(int id, int table, int count, int recordSize) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = buffer.getInt(table + mid * recordSize);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Binary search over a name index, comparing the query's UTF-8 bytes against the
+     * string table in place so no candidate names are decoded.
+     */
+    private int findByName(String name, int nameIndex, int count, int table, int recordSize) {
+        if (name == null) {
+            return -1;
+        }
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int record = buffer.getInt(nameIndex + mid * 4);
+            int cmp = compareName(buffer.getInt(table + record * recordSize + 4), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return record;
+            }
+        }
+        return -1;
+    }
+
+    private int compareName(int offset, byte[] key) {
+        int length = Short.toUnsignedInt(buffer.getShort(offset));
+        int shared = Math.min(length, key.length);
+        for (int i = 0; i < shared; i++) {
+            int cmp = Byte.toUnsignedInt(buffer.get(offset + 2 + i)) - Byte.toUnsignedInt(key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - key.length;
+    }
+}
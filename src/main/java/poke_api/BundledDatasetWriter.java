@@ -0,0 +1,196 @@
+package poke_api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Writes species and moves into the binary format read by {@link BundledDataset}.
+ *
+ * Layout (all integers big-endian, every offset is absolute from the start of the file):
+ * <pre>
+ * header        magic "PKDX", version, species count, move count, then the offsets of
+ *               the five sections below
+ * species table fixed-size species records sorted by id
+ * species names species record indices sorted by name
+ * move table    fixed-size move records sorted by id
+ * move names    move record indices sorted by name
+ * move lists    move record indices, one run per species in API order
+ * strings       u16 length + UTF-8 bytes; records refer to them by offset, -1 for null
+ * </pre>
+ */
+public final class BundledDatasetWriter {
+
+    private BundledDatasetWriter() {
+    }
+
+    /**
+     * Writes the dataset to {@code target}, replacing any previous file atomically.
+     * Any move a species lists that is missing from {@code moves} is left out of its move list.
+     */
+    public static void write(Path target, Collection<SpeciesInfo> species, Collection<MoveInfo> moves) throws IOException {
+        List<SpeciesInfo> speciesById = new ArrayList<>(species);
+        speciesById.sort(Comparator.comparingInt(SpeciesInfo::getId).thenComparing(SpeciesInfo::getName));
+        List<MoveInfo> movesById = new ArrayList<>(moves);
+        movesById.sort(Comparator.comparingInt(MoveInfo::getId).thenComparing(MoveInfo::getName));
+
+        Map<String, Integer> moveIndex = new HashMap<>();
+        for (int i = 0; i < movesById.size(); i++) {
+            moveIndex.put(movesById.get(i).getName(), i);
+        }
+
+        // Resolve each species' move list up front so the section size is known
+        List<int[]> moveLists = new ArrayList<>(speciesById.size());
+        int moveListLength = 0;
+        for (SpeciesInfo info : speciesById) {
+            int[] list = info.getMoveNames().stream()
+                    .filter(moveIndex::containsKey)
+                    .mapToInt(moveIndex::get)
+                    .toArray();
+            moveLists.add(list);
+            moveListLength += list.length;
+        }
+
+        int speciesTable = BundledDataset.HEADER_SIZE;
+        int speciesNames = speciesTable + speciesById.size() * BundledDataset.SPECIES_RECORD_SIZE;
+        int moveTable = speciesNames + speciesById.size() * 4;
+        int moveNames = moveTable + movesById.size() * BundledDataset.MOVE_RECORD_SIZE;
+        int moveListSection = moveNames + movesById.size() * 4;
+        int stringSection = moveListSection + moveListLength * 4;
+
+        StringTable strings = new StringTable(stringSection);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(BundledDataset.MAGIC);
+        out.writeInt(BundledDataset.VERSION);
+        out.writeInt(speciesById.size());
+        out.writeInt(movesById.size());
+        out.writeInt(speciesTable);
+        out.writeInt(speciesNames);
+        out.writeInt(moveTable);
+        out.writeInt(moveNames);
+        out.writeInt(moveListSection);
+
+        int moveListStart = 0;
+        for (int i = 0; i < speciesById.size(); i++) {
+            SpeciesInfo info = speciesById.get(i);
+            List<String> types = info.getTypes();
+            out.writeInt(info.getId());
+            out.writeInt(strings.ref(info.getName()));
+            out.writeInt(strings.ref(types.isEmpty() ? null : types.get(0)));
+            out.writeInt(strings.ref(types.size() < 2 ? null : types.get(1)));
+            out.writeShort(info.getHp());
+            out.writeShort(info.getAttack());
+            out.writeShort(info.getDefense());
+            out.writeShort(info.getSpecialAttack());
+            out.writeShort(info.getSpecialDefense());
+            out.writeShort(info.getSpeed());
+            out.writeInt(strings.ref(info.getFrontSpriteUrl()));
+            out.writeInt(strings.ref(info.getBackSpriteUrl()));
+            out.writeInt(moveListStart);
+            out.writeInt(moveLists.get(i).length);
+            moveListStart += moveLists.get(i).length;
+        }
+        for (int index : sortedByName(speciesById.stream().map(SpeciesInfo::getName).toList())) {
+            out.writeInt(index);
+        }
+
+        for (MoveInfo move : movesById) {
+            out.writeInt(move.getId());
+            out.writeInt(strings.ref(move.getName()));
+            out.writeInt(strings.ref(move.getType()));
+            out.writeShort(move.getPower() == null ? -1 : move.getPower());
+            out.writeShort(move.getAccuracy() == null ? -1 : move.getAccuracy());
+            out.writeShort(move.getPp());
+            out.writeShort(0);
+            out.writeInt(strings.ref(move.getDamageClass()));
+            out.writeInt(strings.ref(move.getCategory()));
+        }
+        for (int index : sortedByName(movesById.stream().map(MoveInfo::getName).toList())) {
+            out.writeInt(index);
+        }
+
+        for (int[] list : moveLists) {
+            for (int index : list) {
+                out.writeInt(index);
+            }
+        }
+        strings.writeTo(out);
+        out.flush();
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Record indices ordered by the unsigned UTF-8 bytes of their names, which is the
+     * order the reader's binary search compares in.
+     */
+    private static int[] sortedByName(List<String> names) {
+        byte[][] encoded = names.stream().map(name -> name.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+        return IntStream.range(0, names.size())
+                .boxed()
+                .sorted((a, b) -> Arrays.compareUnsigned(encoded[a], encoded[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Deduplicated strings, laid out in first-use order after {@code base}.
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> offsets = new LinkedHashMap<>();
+        private int next;
+
+        StringTable(int base) {
+            this.next = base;
+        }
+
+        int ref(String value) throws IOException {
+            if (value == null) {
+                return -1;
+            }
+            Integer existing = offsets.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            int length = value.getBytes(StandardCharsets.UTF_8).length;
+            if (length > 0xFFFF) {
+                throw new IOException("String too long for the dataset: " + value.substring(0, 32) + "...");
+            }
+            int offset = next;
+            offsets.put(value, offset);
+            next += 2 + length;
+            return offset;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            for (String value : offsets.keySet()) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(utf8.length);
+                out.write(utf8);
+            }
+        }
+    }
+}
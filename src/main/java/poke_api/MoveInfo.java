@@ -0,0 +1,69 @@
+package poke_api;
+
+/**
+ * Immutable summary of a single move as returned by the PokeAPI move endpoint.
+ * Only the fields the factory layer needs are kept so the raw JSON can be
+ * discarded as soon as the response has been parsed.
+ */
+public class MoveInfo {
+    private final int id;
+    private final String name;
+    private final String type;
+    // null for status moves
+    private final Integer power;
+    // null for moves that never miss
+    private final Integer accuracy;
+    private final int pp;
+    // "physical", "special" or "status"
+    private final String damageClass;
+    // meta.category, e.g. "damage" or "ohko"; null when the API has no meta for the move
+    private final String category;
+
+    public MoveInfo(String name, String type, Integer power, int pp) {
+        this(0, name, type, power, null, pp, null, null);
+    }
+
+    public MoveInfo(int id, String name, String type, Integer power, Integer accuracy, int pp,
+                    String damageClass, String category) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.power = power;
+        this.accuracy = accuracy;
+        this.pp = pp;
+        this.damageClass = damageClass;
+        this.category = category;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Integer getPower() {
+        return power;
+    }
+
+    public Integer getAccuracy() {
+        return accuracy;
+    }
+
+    public int getPp() {
+        return pp;
+    }
+
+    public String getDamageClass() {
+        return damageClass;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+}
@@ -0,0 +1,206 @@
+package poke_api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of raw PokeAPI response bodies.
+ *
+ * Every entry lives in its own file named after the SHA-256 of the request URL, so a
+ * lookup is a single file read and no index has to be kept in sync. The file's modified
+ * time records when it was downloaded (used for the TTL) and its access time records
+ * when it was last served (used for LRU eviction once the size cap is exceeded).
+ *
+ * In offline mode the cache is the only data source: expired entries are still served
+ * and a miss fails immediately instead of falling through to the network.
+ */
+public class ResponseCache {
+    public static final Path DEFAULT_DIRECTORY = Paths.get("resources", "cache", "pokeapi");
+    public static final Duration DEFAULT_TTL = Duration.ofDays(30);
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    // -Dpokeapi.offline=true starts the game without touching the network
+    public static final String OFFLINE_PROPERTY = "pokeapi.offline";
+
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private static ResponseCache shared;
+
+    private final Path directory;
+    private final Duration ttl;
+    private final long maxBytes;
+    private final boolean offline;
+    private final Clock clock;
+
+    // -1 until the directory has been scanned once
+    private final AtomicLong sizeOnDisk = new AtomicLong(-1);
+
+    public ResponseCache(Path directory, Duration ttl, long maxBytes, boolean offline) {
+        this(directory, ttl, maxBytes, offline, Clock.systemUTC());
+    }
+
+    ResponseCache(Path directory, Duration ttl, long maxBytes, boolean offline, Clock clock) {
+        this.directory = directory;
+        this.ttl = ttl;
+        this.maxBytes = maxBytes;
+        this.offline = offline;
+        this.clock = clock;
+    }
+
+    /**
+     * Process-wide cache in {@link #DEFAULT_DIRECTORY}, shared by every default fetcher.
+     */
+    public static synchronized ResponseCache shared() {
+        if (shared == null) {
+            shared = new ResponseCache(DEFAULT_DIRECTORY, DEFAULT_TTL, DEFAULT_MAX_BYTES,
+                    Boolean.getBoolean(OFFLINE_PROPERTY));
+        }
+        return shared;
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Returns the cached body for the URL, or {@code null} on a miss or an expired entry.
+     */
+    public String get(String url) {
+        Path entry = entryFor(url);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+            Instant fetchedAt = attributes.lastModifiedTime().toInstant();
+            if (!offline && fetchedAt.plus(ttl).isBefore(clock.instant())) {
+                return null;
+            }
+
+            String body = Files.readString(entry, StandardCharsets.UTF_8);
+            touch(entry);
+            return body;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Cache read failed for " + url + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores a response body, evicting least recently used entries if the cache grows
+     * past its size cap. Failures are logged and ignored: the cache is an optimisation.
+     */
+    public void put(String url, String body) {
+        Path entry = entryFor(url);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.createDirectories(directory);
+            // make sure the running total is known before this write changes it
+            currentSize();
+            long previousSize = Files.exists(entry) ? Files.size(entry) : 0;
+
+            // write next to the entry and rename so readers never see half a file
+            Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            touch(entry);
+
+            if (sizeOnDisk.addAndGet(bytes.length - previousSize) > maxBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            System.err.println("Cache write failed for " + url + ": " + e.getMessage());
+        }
+    }
+
+    private long currentSize() throws IOException {
+        long size = sizeOnDisk.get();
+        if (size < 0) {
+            long total = 0;
+            for (Path entry : listEntries()) {
+                total += Files.size(entry);
+            }
+            sizeOnDisk.compareAndSet(-1, total);
+            size = sizeOnDisk.get();
+        }
+        return size;
+    }
+
+    private synchronized void evict() throws IOException {
+        List<Path> entries = listEntries();
+        List<BasicFileAttributes> attributes = new ArrayList<>(entries.size());
+        long total = 0;
+        for (Path entry : entries) {
+            BasicFileAttributes attr = Files.readAttributes(entry, BasicFileAttributes.class);
+            attributes.add(attr);
+            total += attr.size();
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(i -> attributes.get(i).lastAccessTime()));
+
+        for (int i : order) {
+            if (total <= maxBytes) {
+                break;
+            }
+            Files.deleteIfExists(entries.get(i));
+            total -= attributes.get(i).size();
+        }
+        sizeOnDisk.set(total);
+    }
+
+    private List<Path> listEntries() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return entries;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + ENTRY_SUFFIX)) {
+            for (Path entry : stream) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private void touch(Path entry) throws IOException {
+        Files.getFileAttributeView(entry, BasicFileAttributeView.class)
+                .setTimes(null, FileTime.from(clock.instant()), null);
+    }
+
+    Path entryFor(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(url.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + ENTRY_SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to ship SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package poke_api;
+
+import java.util.List;
+
+/**
+ * Immutable summary of a species: everything {@code pokemonFactory} needs to build a
+ * Pokemon, without the rest of the (large) PokeAPI species document. Moves are listed by
+ * name and resolved separately so they can be shared between species.
+ */
+public class SpeciesInfo {
+    private final int id;
+    private final String name;
+    private final List<String> types;
+    private final int hp;
+    private final int attack;
+    private final int defense;
+    private final int specialAttack;
+    private final int specialDefense;
+    private final int speed;
+    private final String frontSpriteUrl;
+    private final String backSpriteUrl;
+    private final List<String> moveNames;
+
+    public SpeciesInfo(int id, String name, List<String> types,
+                       int hp, int attack, int defense, int specialAttack, int specialDefense, int speed,
+                       String frontSpriteUrl, String backSpriteUrl, List<String> moveNames) {
+        this.id = id;
+        this.name = name;
+        this.types = List.copyOf(types);
+        this.hp = hp;
+        this.attack = attack;
+        this.defense = defense;
+        this.specialAttack = specialAttack;
+        this.specialDefense = specialDefense;
+        this.speed = speed;
+        this.frontSpriteUrl = frontSpriteUrl;
+        this.backSpriteUrl = backSpriteUrl;
+        this.moveNames = List.copyOf(moveNames);
+    }
+
+    public int getId() {return id;}
+    public String getName() {return name;}
+    public List<String> getTypes() {return types;}
+    public int getHp() {return hp;}
+    public int getAttack() {return attack;}
+    public int getDefense() {return defense;}
+    public int getSpecialAttack() {return specialAttack;}
+    public int getSpecialDefense() {return specialDefense;}
+    public int getSpeed() {return speed;}
+    public String getFrontSpriteUrl() {return frontSpriteUrl;}
+    public String getBackSpriteUrl() {return backSpriteUrl;}
+    public List<String> getMoveNames() {return moveNames;}
+}
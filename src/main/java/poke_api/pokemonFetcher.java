@@ -1,5 +1,8 @@
 package poke_api;
 
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -8,19 +11,76 @@ import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
 
 
 public class pokemonFetcher {
 
-    public final OkHttpClient client = new OkHttpClient();
+    // Upper bound on requests in flight at once so a 100+ move species doesn't flood the API
+    public static final int MAX_CONCURRENT_REQUESTS = 8;
+
+    public static final String POKEMON_URL = "https://pokeapi.co/api/v2/pokemon/";
+
+    // Shared so every fetcher reuses one connection pool and one dispatcher
+    private static final OkHttpClient SHARED_CLIENT = clientBuilder().build();
+
+    public final OkHttpClient client;
     public final int pokemonMaxMoves = 4;
+    // null when responses should not be cached
+    private final ResponseCache cache;
+
+    public pokemonFetcher() {
+        this(SHARED_CLIENT, ResponseCache.shared());
+    }
+
+    public pokemonFetcher(OkHttpClient client) {
+        this(client, null);
+    }
+
+    public pokemonFetcher(OkHttpClient client, ResponseCache cache) {
+        this.client = client;
+        this.cache = cache;
+    }
+
+    /**
+     * Builder preconfigured with the bounded dispatcher used by the async fetch path.
+     */
+    public static OkHttpClient.Builder clientBuilder() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_CONCURRENT_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_CONCURRENT_REQUESTS);
+        return new OkHttpClient.Builder().dispatcher(dispatcher);
+    }
 
     public JSONObject getPokemon(String id) {
         // Private class just to get the raw pokemon response object
         // other classes will use this JSON object to get more information
+        try {
+            return new JSONObject(fetchBody(POKEMON_URL + id));
+        } catch (IOException e) {
+            System.out.println("IOexception" + e);
+            return new JSONObject();
+        }
+    }
+
+    /**
+     * Non-blocking version of {@link #getPokemon(String)}. Unlike the blocking call, a failed
+     * request completes the future exceptionally instead of yielding an empty object.
+     */
+    public CompletableFuture<JSONObject> getPokemonAsync(String id) {
+        return fetchBodyAsync(POKEMON_URL + id).thenApply(JSONObject::new);
+    }
+
+    private String fetchBody(String url) throws IOException {
+        String cached = cachedBody(url);
+        if (cached != null) {
+            return cached;
+        }
 
         Request request = new Request.Builder()
-                .url("https://pokeapi.co/api/v2/pokemon/" + id)
+                .url(url)
                 .build();
         try (Response response = client.newCall(request).execute()) {
 
@@ -29,62 +89,178 @@ public class pokemonFetcher {
             }
 
             String body = response.body().string();
-            return new JSONObject(body);
+            if (cache != null) {
+                cache.put(url, body);
+            }
+            return body;
+        }
+    }
 
+    private CompletableFuture<String> fetchBodyAsync(String url) {
+        String cached;
+        try {
+            cached = cachedBody(url);
         } catch (IOException e) {
-            System.out.println("IOexception" + e);
-            return new JSONObject();
+            return CompletableFuture.failedFuture(e);
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        Request request = new Request.Builder()
+                .url(url)
+                .build();
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    if (!response.isSuccessful()) {
+                        throw new IOException("Unexpected code " + response);
+                    }
+                    String body = response.body().string();
+                    if (cache != null) {
+                        cache.put(url, body);
+                    }
+                    future.complete(body);
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
             }
+        });
+        return future;
+    }
+
+    /**
+     * Looks the URL up in the disk cache. In offline mode a miss is an error so callers
+     * fail straight away instead of waiting on a connection that will never succeed.
+     */
+    private String cachedBody(String url) throws IOException {
+        if (cache == null) {
+            return null;
+        }
+        String body = cache.get(url);
+        if (body == null && cache.isOffline()) {
+            throw new IOException("Offline and no cached response for " + url);
         }
+        return body;
+    }
 
     public String getPokemonName(JSONObject pokemon) {
         return pokemon.getString("name");
     }
 
-    public HashMap<String, HashMap<String, Object>> getPokemonMoves(JSONObject pokemon) throws IOException {
+    public Map<String, MoveInfo> getPokemonMoves(JSONObject pokemon) {
+        return getPokemonMovesAsync(pokemon).join();
+    }
+
+    /**
+     * Fetches every move listed on the species concurrently. Requests are queued on the
+     * client's dispatcher, which caps how many are in flight at once, so loading a species
+     * costs roughly one round trip instead of one per move. A move that fails to load is
+     * reported on System.err with its name and URL and left out of the result, so one bad
+     * move doesn't cost the whole species.
+     */
+    public CompletableFuture<Map<String, MoveInfo>> getPokemonMovesAsync(JSONObject pokemon) {
+        return getPokemonMovesAsync(pokemon, (name, url) -> getMoveAsync(url));
+    }
+
+    /**
+     * Same as {@link #getPokemonMovesAsync(JSONObject)} but asks {@code moveLoader} for each
+     * (move name, move url) pair, so callers can put a shared cache in front of the fetch.
+     */
+    public CompletableFuture<Map<String, MoveInfo>> getPokemonMovesAsync(
+            JSONObject pokemon, BiFunction<String, String, CompletableFuture<MoveInfo>> moveLoader) {
         JSONArray moves = pokemon.getJSONArray("moves");
-        HashMap<String, HashMap<String, Object>> move = new HashMap<>(pokemonMaxMoves);
+        List<CompletableFuture<MoveInfo>> pending = new ArrayList<>(moves.length());
 
         for (int i = 0; i < moves.length(); i++) {
-
             JSONObject moveEntry = moves.getJSONObject(i);
             JSONObject moveObject = moveEntry.getJSONObject("move");
+            String name = moveObject.getString("name");
             String url = moveObject.getString("url");
 
-            Request request = new Request.Builder()
-                    .url(url)
-                    .build();
+            pending.add(moveLoader.apply(name, url).exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                System.err.println("Move " + name + " failed to load from " + url + ": " + cause);
+                return null;
+            }));
+        }
 
-            try  (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    throw new IOException("Unexpected code " + response);
-                }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    // keep the order the API lists the moves in
+                    Map<String, MoveInfo> move = new LinkedHashMap<>();
+                    for (CompletableFuture<MoveInfo> future : pending) {
+                        MoveInfo moveInfo = future.join();
+                        if (moveInfo != null) {
+                            move.put(moveInfo.getName(), moveInfo);
+                        }
+                    }
+                    return move;
+                });
+    }
 
-                String body = response.body().string();
-                JSONObject json = new JSONObject(body);
+    public CompletableFuture<MoveInfo> getMoveAsync(String url) {
+        return fetchBodyAsync(url).thenApply(body -> parseMove(new JSONObject(body)));
+    }
 
-                HashMap<String, Object> moveInfo = new HashMap<>();
-                int pp = json.getInt("pp");
-                String name = json.getString("name");
+    private MoveInfo parseMove(JSONObject json) {
+        int id = json.optInt("id");
+        int pp = json.getInt("pp");
+        String name = json.getString("name");
 
-                // nul for status moves
-                Integer power = json.isNull("power") ? null : json.getInt("power");
+        // nul for status moves
+        Integer power = json.isNull("power") ? null : json.getInt("power");
+        // nul for moves that always hit
+        Integer accuracy = json.isNull("accuracy") ? null : json.getInt("accuracy");
 
-                JSONObject typeObject = json.getJSONObject("type");
-                String type = typeObject.getString("name");
+        JSONObject typeObject = json.getJSONObject("type");
+        String type = typeObject.getString("name");
 
-                moveInfo.put("type", type);
-                moveInfo.put("power", power);
-                moveInfo.put("pp", pp);
+        JSONObject damageClassObject = json.optJSONObject("damage_class");
+        String damageClass = damageClassObject == null ? null : damageClassObject.getString("name");
 
-                move.put(name, moveInfo);
+        // meta is nul for a handful of moves, so category can be missing too
+        JSONObject meta = json.optJSONObject("meta");
+        JSONObject categoryObject = meta == null ? null : meta.optJSONObject("category");
+        String category = categoryObject == null ? null : categoryObject.getString("name");
 
-            } catch (IOException e1) {
-                System.out.println("IOexception" + e1);
-            }
+        return new MoveInfo(id, name, type, power, accuracy, pp, damageClass, category);
+    }
+
+    /**
+     * Pulls the fields the factory needs out of a species document.
+     */
+    public SpeciesInfo getSpeciesInfo(JSONObject pokemon) {
+        Map<String, Object> stats = getPokemonStats(pokemon);
+        String[] sprites = getPokemonSprite(pokemon);
 
+        JSONArray moves = pokemon.getJSONArray("moves");
+        List<String> moveNames = new ArrayList<>(moves.length());
+        for (int i = 0; i < moves.length(); i++) {
+            moveNames.add(moves.getJSONObject(i).getJSONObject("move").getString("name"));
         }
-        return move;
+
+        return new SpeciesInfo(
+                pokemon.optInt("id"),
+                getPokemonName(pokemon),
+                Arrays.asList(getPokemonType(pokemon)),
+                (Integer) stats.get("hp"),
+                (Integer) stats.get("attack"),
+                (Integer) stats.get("defense"),
+                (Integer) stats.get("special-attack"),
+                (Integer) stats.get("special-defense"),
+                (Integer) stats.get("speed"),
+                sprites[0],
+                sprites[1],
+                moveNames);
     }
 
     public String[] getPokemonType(JSONObject pokemon) {
@@ -0,0 +1,28 @@
+package simulation;
+
+/**
+ * What a {@link BattlePolicy} wants to do with its turn.
+ *
+ * @param action what kind of turn this is
+ * @param index the move slot for {@link Action#MOVE}, the team slot for {@link Action#SWITCH},
+ *              unused for {@link Action#PASS}
+ */
+public record BattleDecision(Action action, int index) {
+
+    public enum Action { MOVE, SWITCH, PASS }
+
+    private static final BattleDecision PASS = new BattleDecision(Action.PASS, -1);
+
+    public static BattleDecision useMove(int moveIndex) {
+        return new BattleDecision(Action.MOVE, moveIndex);
+    }
+
+    public static BattleDecision switchTo(int teamIndex) {
+        return new BattleDecision(Action.SWITCH, teamIndex);
+    }
+
+    /** Only for when the active Pokemon has no move with PP left. */
+    public static BattleDecision pass() {
+        return PASS;
+    }
+}
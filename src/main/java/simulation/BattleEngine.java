@@ -0,0 +1,123 @@
+package simulation;
+
+import entity.Battle;
+import entity.BattleStats;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Runs a battle to completion with no presenters, view models or UI.
+ *
+ * The rules are the same ones {@code UseMoveInteractor} applies turn by turn: the sides
+ * alternate, a move runs its behaviours through {@link Move#useMove}, a fainted Pokemon
+ * is replaced by the next healthy one, and the battle ends when one team has nothing
+ * left. The teams passed in are mutated (HP, PP, team order), so callers that want to
+ * reuse them should pass copies.
+ *
+ * An engine holds no per-battle state and may be shared. Every random roll in a battle,
+ * both the policies' and the move behaviours', comes from the generator passed to
+ * {@link #run}, so the same seed replays the same battle.
+ */
+public class BattleEngine {
+    public static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final int maxTurns;
+
+    public BattleEngine() {
+        this(DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * @param maxTurns the battle is called with no winner after this many turns, which
+     *                 only happens when both sides run out of PP or keep passing
+     */
+    public BattleEngine(int maxTurns) {
+        this.maxTurns = maxTurns;
+    }
+
+    public BattleResult run(PokemonTeam team1, PokemonTeam team2,
+                            BattlePolicy policy1, BattlePolicy policy2, RandomGenerator random) {
+        Battle battle = new Battle(team1, team2, random);
+        int[] damageDealt = new int[2];
+        // switching reorders the teams, so knockouts are credited against the starting order
+        List<Pokemon> startingOrder1 = List.copyOf(team1.getTeam());
+        List<Pokemon> startingOrder2 = List.copyOf(team2.getTeam());
+        int[] knockOuts1 = new int[startingOrder1.size()];
+        int[] knockOuts2 = new int[startingOrder2.size()];
+
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            boolean team1Turn = battle.isTeam1Turn();
+            BattleDecision decision = (team1Turn ? policy1 : policy2).decide(battle, random);
+
+            switch (decision.action()) {
+                case MOVE -> {
+                    Pokemon attacker = battle.getCurrentTurnPokemon();
+                    Pokemon defender = battle.getOpponentPokemon();
+                    int damage = useMove(battle, decision.index());
+                    damageDealt[team1Turn ? 0 : 1] += damage;
+                    if (damage > 0 && defender.getCurrentHP() <= 0) {
+                        if (team1Turn) {
+                            knockOuts1[slotOf(startingOrder1, attacker)]++;
+                        } else {
+                            knockOuts2[slotOf(startingOrder2, attacker)]++;
+                        }
+                    }
+                }
+                case SWITCH -> battle.getCurrentTurnTeam().switchActivePokemon(decision.index());
+                case PASS -> { }
+            }
+
+            if (battle.checkBattleEnd()) {
+                BattleResult.Winner winner = battle.getWinner() == team1
+                        ? BattleResult.Winner.TEAM1 : BattleResult.Winner.TEAM2;
+                return new BattleResult(winner, turn, damageDealt[0], damageDealt[1], knockOuts1, knockOuts2);
+            }
+            battle.switchTurn();
+        }
+        return new BattleResult(BattleResult.Winner.NONE, maxTurns, damageDealt[0], damageDealt[1],
+                knockOuts1, knockOuts2);
+    }
+
+    private static int slotOf(List<Pokemon> startingOrder, Pokemon pokemon) {
+        for (int i = 0; i < startingOrder.size(); i++) {
+            if (startingOrder.get(i) == pokemon) return i;
+        }
+        throw new IllegalStateException(pokemon.getName() + " is not on the team");
+    }
+
+    /**
+     * @return true if the slot holds a move that can still be used
+     */
+    public static boolean isUsable(Move move) {
+        return move != null && move.getCurrentPp() > 0;
+    }
+
+    /**
+     * Applies one move for the side whose turn it is and returns the damage it dealt.
+     */
+    private static int useMove(Battle battle, int moveIndex) {
+        Pokemon attacker = battle.getCurrentTurnPokemon();
+        Move move = attacker.getMoves()[moveIndex];
+        if (!isUsable(move)) {
+            throw new IllegalArgumentException(attacker.getName() + " can't use move slot " + moveIndex);
+        }
+
+        Pokemon defender = battle.getOpponentPokemon();
+        PokemonTeam defenderTeam = battle.getOpponentTeam();
+        BattleStats attackerStats = battle.getBattleStatsMap().get(attacker);
+        BattleStats defenderStats = battle.getBattleStatsMap().get(defender);
+
+        int defenderHpBefore = defender.getCurrentHP();
+        move.useMove(battle.getCurrentTurnTeam(), defenderTeam, attackerStats, defenderStats, battle.getRandom());
+        int damage = defenderHpBefore - defender.getCurrentHP();
+
+        if (defender.getCurrentHP() <= 0) {
+            battle.handleFaintedPokemon(defenderTeam);
+        }
+        return damage;
+    }
+}
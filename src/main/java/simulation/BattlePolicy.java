@@ -0,0 +1,14 @@
+package simulation;
+
+import entity.Battle;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Chooses a side's action each turn. The side to move is {@link Battle#getCurrentTurnTeam()}.
+ * Policies must not change the battle themselves; {@link BattleEngine} applies the decision.
+ */
+public interface BattlePolicy {
+
+    BattleDecision decide(Battle battle, RandomGenerator random);
+}
@@ -0,0 +1,18 @@
+package simulation;
+
+/**
+ * Outcome of one headless battle.
+ *
+ * @param winner which side won, or {@link Winner#NONE} if the turn limit was reached
+ * @param turns number of turns taken, counting both sides
+ * @param team1DamageDealt total HP team 1 took off team 2
+ * @param team2DamageDealt total HP team 2 took off team 1
+ * @param team1KnockOuts knockouts scored by each of team 1's Pokemon, indexed by its slot
+ *                       when the battle started
+ * @param team2KnockOuts the same for team 2
+ */
+public record BattleResult(Winner winner, int turns, int team1DamageDealt, int team2DamageDealt,
+                           int[] team1KnockOuts, int[] team2KnockOuts) {
+
+    public enum Winner { TEAM1, TEAM2, NONE }
+}
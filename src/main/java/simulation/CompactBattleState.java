@@ -0,0 +1,598 @@
+package simulation;
+
+import entity.Battle;
+import entity.BattleStats;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import entity.PokemonType;
+import entity.StatType;
+import entity.moveyStuff.ForceSwitchBehaviour;
+import entity.moveyStuff.HealBehaviour;
+import entity.moveyStuff.MoveBehaviour;
+import entity.moveyStuff.OneHitKnockOutBehaviour;
+import entity.moveyStuff.PhysicalDamageBehaviour;
+import entity.moveyStuff.SpecialDamageBehaviour;
+import entity.moveyStuff.StatModifierBehaviour;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Everything that changes during a battle, packed into one {@code int[]}, for search and
+ * simulation code that needs to copy or rewind a battle millions of times.
+ *
+ * The state holds the side to move and, for both teams, the team order (which Pokemon
+ * is active), every Pokemon's HP, stat stages and the PP of every move slot. Names,
+ * base stats, types and what each move does never change in a battle, so they are read
+ * once into a shared immutable model. {@link #copy()} therefore only clones the array,
+ * whose length depends on the team sizes and not on how far the battle has gone.
+ *
+ * The rules are the ones {@link BattleEngine} applies to a {@link Battle}, down to the
+ * float stat maths and the order of random rolls, so with the same generator a state and
+ * a battle play out identically. Every {@code apply*} call can be reverted with
+ * {@link #undo()}, which restores the previous array exactly; the log it keeps belongs
+ * to this instance and is not carried over by {@link #copy()}.
+ *
+ * Pokemon are identified by their slot, their index in the team when the state was
+ * created. Side 0 is team 1, side 1 is team 2.
+ */
+public final class CompactBattleState {
+    private static final int STAT_COUNT = StatType.values().length;
+    private static final int MIN_STAGE = -6;
+    private static final int MAX_STAGE = 6;
+
+    private static final int SIDE_TO_MOVE = 0;
+    private static final int HEADER_SIZE = 1;
+
+    private final Model model;
+    private final int[] data;
+
+    // (index, previous value) pairs, and where each applied action's entries start
+    private int[] undoLog = new int[32];
+    private int undoSize;
+    private int[] frames = new int[8];
+    private int frameCount;
+
+    private CompactBattleState(Model model, int[] data) {
+        this.model = model;
+        this.data = data;
+    }
+
+    /**
+     * Captures the battle as it is now, including HP, PP, stages and whose turn it is.
+     */
+    public static CompactBattleState of(Battle battle) {
+        List<Pokemon> team1 = battle.getTeam1().getTeam();
+        List<Pokemon> team2 = battle.getTeam2().getTeam();
+        Model model = new Model(team1, team2);
+        int[] data = new int[model.size];
+        data[SIDE_TO_MOVE] = battle.isTeam1Turn() ? 0 : 1;
+        List<List<Pokemon>> sides = List.of(team1, team2);
+        for (int side = 0; side < 2; side++) {
+            List<Pokemon> team = sides.get(side);
+            for (int slot = 0; slot < team.size(); slot++) {
+                Pokemon pokemon = team.get(slot);
+                data[model.orderIndex(side, slot)] = slot;
+                data[model.hpIndex(side, slot)] = pokemon.getCurrentHP();
+                BattleStats stats = battle.getBattleStatsMap().get(pokemon);
+                for (StatType stat : StatType.values()) {
+                    data[model.stageIndex(side, slot, stat.ordinal())] = stats == null ? 0 : stats.getStage(stat);
+                }
+                Move[] moves = pokemon.getMoves();
+                for (int move = 0; move < moves.length; move++) {
+                    data[model.ppIndex(side, slot, move)] = moves[move] == null ? 0 : moves[move].getCurrentPp();
+                }
+            }
+        }
+        return new CompactBattleState(model, data);
+    }
+
+    /**
+     * A fresh battle between the two teams as they are now, team 1 to move.
+     */
+    public static CompactBattleState of(PokemonTeam team1, PokemonTeam team2) {
+        return of(new Battle(team1, team2));
+    }
+
+    /**
+     * Independent copy of the current position. Only the array is cloned; the undo log
+     * starts empty.
+     */
+    public CompactBattleState copy() {
+        return new CompactBattleState(model, data.clone());
+    }
+
+    // -------------------- Actions -------------------- //
+
+    /**
+     * The side to move uses the move in {@code moveSlot} of its active Pokemon.
+     *
+     * @return the HP the move took off the opposing side
+     * @throws IllegalArgumentException if the slot is empty or out of PP
+     */
+    public int applyMove(int moveSlot, RandomGenerator random) {
+        return applyMove(moveSlot, random, 0);
+    }
+
+    /**
+     * Like {@link #applyMove(int, RandomGenerator)}, but every random roll is taken from
+     * {@code outcome}, a number in [0, {@link #chanceOutcomes(int)}). Each outcome is as
+     * likely as the others, so searches can enumerate them instead of sampling.
+     */
+    public int applyMoveOutcome(int moveSlot, int outcome) {
+        return applyMove(moveSlot, null, outcome);
+    }
+
+    /**
+     * How many equally likely ways the move in {@code moveSlot} of the side to move can
+     * play out; 1 for moves that roll nothing.
+     */
+    public int chanceOutcomes(int moveSlot) {
+        int side = sideToMove();
+        int outcomes = 1;
+        for (Effect effect : model.effects[side][active(side)][moveSlot]) {
+            if (effect.kind == FORCE_SWITCH) {
+                outcomes *= Math.max(1, model.teamSize[1 - side] - 1);
+            }
+        }
+        return outcomes;
+    }
+
+    private int applyMove(int moveSlot, RandomGenerator random, int outcome) {
+        int side = sideToMove();
+        int user = active(side);
+        if (!isUsable(moveSlot)) {
+            throw new IllegalArgumentException(model.names[side][user] + " can't use move slot " + moveSlot);
+        }
+        beginFrame();
+
+        int targetSide = 1 - side;
+        // like Battle, stat effects stick to whoever was active when the move started
+        int defender = active(targetSide);
+        int defenderHpBefore = hp(targetSide, defender);
+        for (Effect effect : model.effects[side][user][moveSlot]) {
+            switch (effect.kind) {
+                case PHYSICAL, SPECIAL, ONE_HIT_KNOCK_OUT -> damage(side, user, targetSide, defender, moveSlot, effect.kind);
+                case HEAL -> {
+                    int index = model.hpIndex(side, user);
+                    set(index, Math.min(model.maxHp[side][user], data[index] + effect.amount));
+                }
+                case STAT -> {
+                    int stageSide = effect.targetsSelf ? side : targetSide;
+                    int stageSlot = effect.targetsSelf ? user : defender;
+                    int index = model.stageIndex(stageSide, stageSlot, effect.stat);
+                    set(index, Math.max(MIN_STAGE, Math.min(MAX_STAGE, data[index] + effect.amount)));
+                }
+                case FORCE_SWITCH -> {
+                    int size = model.teamSize[targetSide];
+                    int position = 0;
+                    if (size > 1 && random != null) {
+                        position = random.nextInt(1, size);
+                    } else if (size > 1) {
+                        position = 1 + outcome % (size - 1);
+                        outcome /= size - 1;
+                    }
+                    swapToFront(targetSide, position);
+                }
+            }
+        }
+        int ppIndex = model.ppIndex(side, user, moveSlot);
+        set(ppIndex, data[ppIndex] - 1);
+
+        int damage = defenderHpBefore - hp(targetSide, defender);
+        if (hp(targetSide, defender) <= 0) {
+            replaceFainted(targetSide);
+        }
+        endTurn();
+        return damage;
+    }
+
+    /**
+     * The side to move swaps the Pokemon at {@code teamPosition} (in the current team
+     * order, as {@link PokemonTeam#switchActivePokemon} takes it) to the front.
+     */
+    public void applySwitch(int teamPosition) {
+        int side = sideToMove();
+        if (teamPosition < 0 || teamPosition >= model.teamSize[side]) {
+            throw new IllegalArgumentException("Invalid switch index.");
+        }
+        beginFrame();
+        swapToFront(side, teamPosition);
+        endTurn();
+    }
+
+    /** The side to move does nothing. */
+    public void applyPass() {
+        beginFrame();
+        endTurn();
+    }
+
+    public int apply(BattleDecision decision, RandomGenerator random) {
+        return switch (decision.action()) {
+            case MOVE -> applyMove(decision.index(), random);
+            case SWITCH -> {
+                applySwitch(decision.index());
+                yield 0;
+            }
+            case PASS -> {
+                applyPass();
+                yield 0;
+            }
+        };
+    }
+
+    /**
+     * Reverts the most recent {@code apply*} call that hasn't been undone yet.
+     *
+     * @throws IllegalStateException if there is nothing to undo
+     */
+    public void undo() {
+        if (frameCount == 0) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        int start = frames[--frameCount];
+        while (undoSize > start) {
+            int previous = undoLog[--undoSize];
+            int index = undoLog[--undoSize];
+            data[index] = previous;
+        }
+    }
+
+    /** Number of applied actions {@link #undo()} can still revert. */
+    public int undoDepth() {
+        return frameCount;
+    }
+
+    private void damage(int side, int user, int targetSide, int defender, int moveSlot, int kind) {
+        // damage lands on whoever is active now, but the defence stat is the original defender's
+        int target = active(targetSide);
+        int baseDamage;
+        if (kind == ONE_HIT_KNOCK_OUT) {
+            baseDamage = model.maxHp[targetSide][target];
+        } else {
+            boolean physical = kind == PHYSICAL;
+            float attack = stat(side, user, physical ? StatType.ATTACK : StatType.SPECIAL_ATTACK);
+            float defence = stat(targetSide, defender, physical ? StatType.DEFENSE : StatType.SPECIAL_DEFENSE);
+            baseDamage = (int) (2 * model.power[side][user][moveSlot] * (attack / defence) / 50 + 2);
+        }
+        double damage = baseDamage * typeModifier(model.moveTypes[side][user][moveSlot], targetSide, target);
+        int index = model.hpIndex(targetSide, target);
+        set(index, Math.max(0, data[index] - (int) Math.round(damage)));
+    }
+
+    private double typeModifier(PokemonType moveType, int targetSide, int target) {
+        if (moveType == null) {
+            return 1.0;
+        }
+        return moveType.getEffectivenessAgainst(model.primaryTypes[targetSide][target],
+                model.secondaryTypes[targetSide][target]);
+    }
+
+    private float stat(int side, int slot, StatType stat) {
+        return model.baseStats[side][slot][stat.ordinal()]
+                * BattleStats.stageMultiplier(stat, stage(side, slot, stat));
+    }
+
+    /** Same as {@link Battle#handleFaintedPokemon}: the first healthy Pokemon in team order comes in. */
+    private void replaceFainted(int side) {
+        if (hp(side, active(side)) > 0) {
+            return;
+        }
+        for (int position = 0; position < model.teamSize[side]; position++) {
+            if (hp(side, data[model.orderIndex(side, position)]) > 0) {
+                swapToFront(side, position);
+                return;
+            }
+        }
+    }
+
+    private void swapToFront(int side, int position) {
+        int front = model.orderIndex(side, 0);
+        int other = model.orderIndex(side, position);
+        int slot = data[other];
+        set(other, data[front]);
+        set(front, slot);
+    }
+
+    private void endTurn() {
+        if (!isOver()) {
+            set(SIDE_TO_MOVE, 1 - data[SIDE_TO_MOVE]);
+        }
+    }
+
+    private void beginFrame() {
+        if (frameCount == frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+        frames[frameCount++] = undoSize;
+    }
+
+    private void set(int index, int value) {
+        if (data[index] == value) {
+            return;
+        }
+        if (undoSize + 2 > undoLog.length) {
+            undoLog = Arrays.copyOf(undoLog, undoLog.length * 2);
+        }
+        undoLog[undoSize++] = index;
+        undoLog[undoSize++] = data[index];
+        data[index] = value;
+    }
+
+    // -------------------- Queries -------------------- //
+
+    /** 0 if team 1 is to move, 1 for team 2. */
+    public int sideToMove() {
+        return data[SIDE_TO_MOVE];
+    }
+
+    /** Slot of the side's active Pokemon. */
+    public int active(int side) {
+        return data[model.orderIndex(side, 0)];
+    }
+
+    /** Slot of the Pokemon at {@code position} in the side's current team order. */
+    public int slotAt(int side, int position) {
+        return data[model.orderIndex(side, position)];
+    }
+
+    public int hp(int side, int slot) {
+        return data[model.hpIndex(side, slot)];
+    }
+
+    public int maxHp(int side, int slot) {
+        return model.maxHp[side][slot];
+    }
+
+    public int pp(int side, int slot, int moveSlot) {
+        return data[model.ppIndex(side, slot, moveSlot)];
+    }
+
+    public int stage(int side, int slot, StatType stat) {
+        return data[model.stageIndex(side, slot, stat.ordinal())];
+    }
+
+    public int teamSize(int side) {
+        return model.teamSize[side];
+    }
+
+    public int moveSlots() {
+        return model.moveSlots;
+    }
+
+    public String name(int side, int slot) {
+        return model.names[side][slot];
+    }
+
+    /** Power of a move as the game reads it, 0 for status moves and empty slots. */
+    public int movePower(int side, int slot, int moveSlot) {
+        return model.power[side][slot][moveSlot];
+    }
+
+    /** True if the active Pokemon of the side to move can use this move slot. */
+    public boolean isUsable(int moveSlot) {
+        int side = sideToMove();
+        return moveSlot >= 0 && moveSlot < model.moveSlots
+                && model.present[side][active(side)][moveSlot]
+                && pp(side, active(side), moveSlot) > 0;
+    }
+
+    public boolean isOver() {
+        return winner() != BattleResult.Winner.NONE;
+    }
+
+    /** Decided the same way as {@link Battle#checkBattleEnd()}; NONE while both teams can fight. */
+    public BattleResult.Winner winner() {
+        if (!hasRemainingPokemon(0)) return BattleResult.Winner.TEAM2;
+        if (!hasRemainingPokemon(1)) return BattleResult.Winner.TEAM1;
+        return BattleResult.Winner.NONE;
+    }
+
+    private boolean hasRemainingPokemon(int side) {
+        for (int slot = 0; slot < model.teamSize[side]; slot++) {
+            if (hp(side, slot) > 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * True if the battle is in this position right now: same side to move and, team
+     * position by team position, the same Pokemon with the same HP, stages and PP. Unlike
+     * {@link #equals}, this works across states captured at different times, which number
+     * their slots differently once a team has been reordered.
+     */
+    public boolean matches(Battle battle) {
+        if (sideToMove() != (battle.isTeam1Turn() ? 0 : 1)) {
+            return false;
+        }
+        List<List<Pokemon>> sides = List.of(battle.getTeam1().getTeam(), battle.getTeam2().getTeam());
+        for (int side = 0; side < 2; side++) {
+            List<Pokemon> team = sides.get(side);
+            if (team.size() != model.teamSize[side]) {
+                return false;
+            }
+            for (int position = 0; position < team.size(); position++) {
+                Pokemon pokemon = team.get(position);
+                int slot = slotAt(side, position);
+                if (!pokemon.getName().equals(model.names[side][slot]) || pokemon.getCurrentHP() != hp(side, slot)) {
+                    return false;
+                }
+                BattleStats stats = battle.getBattleStatsMap().get(pokemon);
+                for (StatType stat : StatType.values()) {
+                    if ((stats == null ? 0 : stats.getStage(stat)) != stage(side, slot, stat)) return false;
+                }
+                Move[] moves = pokemon.getMoves();
+                for (int move = 0; move < model.moveSlots; move++) {
+                    int pp = move < moves.length && moves[move] != null ? moves[move].getCurrentPp() : 0;
+                    if (pp != pp(side, slot, move)) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equal when built from the same battle and every HP, PP, stage, team order and the
+     * side to move match. The undo log is not part of the position.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompactBattleState other)) return false;
+        return model == other.model && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+    /** 64-bit hash of the position, for tables too large for {@link #hashCode()}'s 32 bits. */
+    public long longHash() {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int value : data) {
+            hash = (hash ^ value) * 0xBF58476D1CE4E5B9L;
+            hash ^= hash >>> 31;
+        }
+        return hash;
+    }
+
+    // -------------------- Model -------------------- //
+
+    private static final int PHYSICAL = 0;
+    private static final int SPECIAL = 1;
+    private static final int ONE_HIT_KNOCK_OUT = 2;
+    private static final int HEAL = 3;
+    private static final int STAT = 4;
+    private static final int FORCE_SWITCH = 5;
+
+    /** One move behaviour, reduced to the numbers it needs. */
+    private record Effect(int kind, int stat, int amount, boolean targetsSelf) {
+        static Effect of(MoveBehaviour behaviour, int userMaxHp) {
+            // subclasses first: OneHitKnockOut, Physical and Special all extend DamageBehaviour
+            if (behaviour instanceof PhysicalDamageBehaviour) return new Effect(PHYSICAL, 0, 0, false);
+            if (behaviour instanceof SpecialDamageBehaviour) return new Effect(SPECIAL, 0, 0, false);
+            if (behaviour instanceof OneHitKnockOutBehaviour) return new Effect(ONE_HIT_KNOCK_OUT, 0, 0, false);
+            if (behaviour instanceof HealBehaviour heal) {
+                return new Effect(HEAL, 0, (int) Math.ceil(userMaxHp * heal.getHealPercentage()), true);
+            }
+            if (behaviour instanceof StatModifierBehaviour modifier) {
+                return new Effect(STAT, modifier.getStatToModify().ordinal(), modifier.getStageChange(),
+                        modifier.isTargetsSelf());
+            }
+            if (behaviour instanceof ForceSwitchBehaviour) return new Effect(FORCE_SWITCH, 0, 0, false);
+            throw new IllegalArgumentException("Unsupported move behaviour: " + behaviour.getClass().getName());
+        }
+    }
+
+    /**
+     * The parts of a battle that never change, indexed [side][slot] and [side][slot][move],
+     * plus the array layout. Shared by every copy.
+     */
+    private static final class Model {
+        final int[] teamSize = new int[2];
+        final int moveSlots;
+        final String[][] names = new String[2][];
+        final int[][] maxHp = new int[2][];
+        final float[][][] baseStats = new float[2][][];
+        final PokemonType[][] primaryTypes = new PokemonType[2][];
+        final PokemonType[][] secondaryTypes = new PokemonType[2][];
+        final boolean[][][] present = new boolean[2][][];
+        final int[][][] power = new int[2][][];
+        final PokemonType[][][] moveTypes = new PokemonType[2][][];
+        final Effect[][][][] effects = new Effect[2][][][];
+
+        final int slotStride;
+        final int[] sideStart = new int[2];
+        final int size;
+
+        Model(List<Pokemon> team1, List<Pokemon> team2) {
+            List<List<Pokemon>> sides = List.of(team1, team2);
+            int maxMoves = 0;
+            for (List<Pokemon> team : sides) {
+                for (Pokemon pokemon : team) {
+                    maxMoves = Math.max(maxMoves, pokemon.getMoves().length);
+                }
+            }
+            moveSlots = maxMoves;
+            // per slot: hp, one stage per stat, pp per move slot
+            slotStride = 1 + STAT_COUNT + moveSlots;
+
+            int offset = HEADER_SIZE;
+            for (int side = 0; side < 2; side++) {
+                List<Pokemon> team = sides.get(side);
+                int n = team.size();
+                teamSize[side] = n;
+                sideStart[side] = offset;
+                // team order first, then the slots
+                offset += n + n * slotStride;
+
+                names[side] = new String[n];
+                maxHp[side] = new int[n];
+                baseStats[side] = new float[n][];
+                primaryTypes[side] = new PokemonType[n];
+                secondaryTypes[side] = new PokemonType[n];
+                present[side] = new boolean[n][moveSlots];
+                power[side] = new int[n][moveSlots];
+                moveTypes[side] = new PokemonType[n][moveSlots];
+                effects[side] = new Effect[n][moveSlots][];
+
+                for (int slot = 0; slot < n; slot++) {
+                    Pokemon pokemon = team.get(slot);
+                    names[side][slot] = pokemon.getName();
+                    maxHp[side][slot] = pokemon.getBaseStats().getMaxHp();
+                    baseStats[side][slot] = baseStats(pokemon);
+                    primaryTypes[side][slot] = pokemon.getPrimaryType();
+                    secondaryTypes[side][slot] = pokemon.getSecondaryType();
+
+                    Move[] moves = pokemon.getMoves();
+                    for (int m = 0; m < moveSlots; m++) {
+                        Move move = m < moves.length ? moves[m] : null;
+                        if (move == null) {
+                            effects[side][slot][m] = new Effect[0];
+                            continue;
+                        }
+                        present[side][slot][m] = true;
+                        power[side][slot][m] = move.getMovePower();
+                        moveTypes[side][slot][m] = move.getPokemonType();
+                        List<Effect> moveEffects = new ArrayList<>();
+                        for (MoveBehaviour behaviour : move.getMoveBehaviours()) {
+                            moveEffects.add(Effect.of(behaviour, maxHp[side][slot]));
+                        }
+                        effects[side][slot][m] = moveEffects.toArray(new Effect[0]);
+                    }
+                }
+            }
+            size = offset;
+        }
+
+        private static float[] baseStats(Pokemon pokemon) {
+            float[] stats = new float[STAT_COUNT];
+            stats[StatType.ATTACK.ordinal()] = pokemon.getBaseStats().getAttack();
+            stats[StatType.DEFENSE.ordinal()] = pokemon.getBaseStats().getDefense();
+            stats[StatType.SPECIAL_ATTACK.ordinal()] = pokemon.getBaseStats().getSpecialAttack();
+            stats[StatType.SPECIAL_DEFENSE.ordinal()] = pokemon.getBaseStats().getSpecialDefense();
+            stats[StatType.SPEED.ordinal()] = pokemon.getBaseStats().getSpeed();
+            return stats;
+        }
+
+        int orderIndex(int side, int position) {
+            return sideStart[side] + position;
+        }
+
+        int hpIndex(int side, int slot) {
+            return sideStart[side] + teamSize[side] + slot * slotStride;
+        }
+
+        int stageIndex(int side, int slot, int stat) {
+            return hpIndex(side, slot) + 1 + stat;
+        }
+
+        int ppIndex(int side, int slot, int moveSlot) {
+            return hpIndex(side, slot) + 1 + STAT_COUNT + moveSlot;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package simulation;
+
+import entity.Battle;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonType;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Always uses the move with the highest power times type effectiveness against the
+ * opponent's active Pokemon. Ties go to the earlier move slot. Never switches.
+ */
+public class GreedyDamagePolicy implements BattlePolicy {
+
+    @Override
+    public BattleDecision decide(Battle battle, RandomGenerator random) {
+        Move[] moves = battle.getCurrentTurnPokemon().getMoves();
+        Pokemon target = battle.getOpponentPokemon();
+
+        int best = -1;
+        double bestScore = -1;
+        for (int i = 0; i < moves.length; i++) {
+            Move move = moves[i];
+            if (!BattleEngine.isUsable(move)) continue;
+
+            PokemonType type = move.getPokemonType();
+            double effectiveness = type == null ? 1.0
+                    : type.getEffectivenessAgainst(target.getPrimaryType(), target.getSecondaryType());
+            double score = move.getMovePower() * effectiveness;
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best < 0 ? BattleDecision.pass() : BattleDecision.useMove(best);
+    }
+}
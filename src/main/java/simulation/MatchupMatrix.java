@@ -0,0 +1,126 @@
+package simulation;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Pairwise 1v1 results for a roster, as computed by {@link MatchupMatrixService}.
+ * Row species attacks first; every value is read as "row against column".
+ */
+public class MatchupMatrix {
+    // a species is "good against" an opponent it beats at least this often, "weak against" below 1 - this
+    public static final double HINT_THRESHOLD = 0.6;
+
+    private final String fingerprint;
+    private final List<String> species;
+    private final double[][] winRate;
+    private final double[][] expectedDamage;
+    private final double[][] averageTurns;
+
+    public MatchupMatrix(String fingerprint, List<String> species,
+                         double[][] winRate, double[][] expectedDamage, double[][] averageTurns) {
+        this.fingerprint = fingerprint;
+        this.species = List.copyOf(species);
+        this.winRate = winRate;
+        this.expectedDamage = expectedDamage;
+        this.averageTurns = averageTurns;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<String> getSpecies() {
+        return species;
+    }
+
+    /** Chance the row species beats the column species. */
+    public double winRate(String attacker, String defender) {
+        return winRate[indexOf(attacker)][indexOf(defender)];
+    }
+
+    /** Average HP the row species takes off the column species in one battle. */
+    public double expectedDamage(String attacker, String defender) {
+        return expectedDamage[indexOf(attacker)][indexOf(defender)];
+    }
+
+    /** Average number of turns until one of the two is knocked out. */
+    public double averageTurns(String attacker, String defender) {
+        return averageTurns[indexOf(attacker)][indexOf(defender)];
+    }
+
+    /** Opponents this species usually beats, best matchup first. */
+    public List<String> goodAgainst(String name, int limit) {
+        int row = indexOf(name);
+        return opponents(row, limit, true);
+    }
+
+    /** Opponents this species usually loses to, worst matchup first. */
+    public List<String> weakAgainst(String name, int limit) {
+        int row = indexOf(name);
+        return opponents(row, limit, false);
+    }
+
+    public boolean contains(String name) {
+        return species.contains(name);
+    }
+
+    private List<String> opponents(int row, int limit, boolean good) {
+        List<Integer> matches = new ArrayList<>();
+        for (int column = 0; column < species.size(); column++) {
+            if (column == row) continue;
+            double rate = winRate[row][column];
+            if (good ? rate >= HINT_THRESHOLD : rate <= 1 - HINT_THRESHOLD) {
+                matches.add(column);
+            }
+        }
+        Comparator<Integer> byRate = Comparator.comparingDouble(column -> winRate[row][column]);
+        matches.sort(good ? byRate.reversed() : byRate);
+        return matches.stream().limit(limit).map(species::get).toList();
+    }
+
+    private int indexOf(String name) {
+        int index = species.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException(name + " is not in the matchup matrix");
+        }
+        return index;
+    }
+
+    public JSONObject toJson() {
+        return new JSONObject()
+                .put("fingerprint", fingerprint)
+                .put("species", new JSONArray(species))
+                .put("winRate", new JSONArray(winRate))
+                .put("expectedDamage", new JSONArray(expectedDamage))
+                .put("averageTurns", new JSONArray(averageTurns));
+    }
+
+    public static MatchupMatrix fromJson(JSONObject json) {
+        List<String> species = new ArrayList<>();
+        JSONArray names = json.getJSONArray("species");
+        for (int i = 0; i < names.length(); i++) {
+            species.add(names.getString(i));
+        }
+        return new MatchupMatrix(json.getString("fingerprint"), species,
+                matrix(json.getJSONArray("winRate")),
+                matrix(json.getJSONArray("expectedDamage")),
+                matrix(json.getJSONArray("averageTurns")));
+    }
+
+    private static double[][] matrix(JSONArray rows) {
+        double[][] matrix = new double[rows.length()][];
+        for (int i = 0; i < rows.length(); i++) {
+            JSONArray row = rows.getJSONArray(i);
+            matrix[i] = new double[row.length()];
+            for (int j = 0; j < row.length(); j++) {
+                matrix[i][j] = row.getDouble(j);
+            }
+        }
+        return matrix;
+    }
+}
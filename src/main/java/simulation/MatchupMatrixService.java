@@ -0,0 +1,176 @@
+package simulation;
+
+import dataaccess.PokemonRepository;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+/**
+ * Builds the 1v1 {@link MatchupMatrix} for a roster and keeps it on disk.
+ *
+ * Every ordered pair of species (including the mirror match) is simulated with
+ * {@link MonteCarloSimulator} using random move choice, with the pairs themselves spread
+ * over the common fork-join pool. The result is written to a JSON file together with a
+ * fingerprint of everything that affects it: each species' base stats, types and moves,
+ * the number of trials and the seed. A cached matrix is only reused while the fingerprint
+ * still matches, so a change to any stat or move triggers a recompute.
+ */
+public class MatchupMatrixService {
+    public static final Path DEFAULT_CACHE_FILE = Paths.get("resources", "cache", "matchups.json");
+    public static final int DEFAULT_TRIALS_PER_PAIR = 200;
+    public static final long DEFAULT_SEED = 1L;
+
+    // bump when the simulation rules change in a way the fingerprint can't see
+    private static final int FORMAT_VERSION = 1;
+
+    private static MatchupMatrixService shared;
+
+    private final Path cacheFile;
+    private final int trialsPerPair;
+    private final long seed;
+    private final MonteCarloSimulator simulator =
+            new MonteCarloSimulator(new BattleEngine(), new RandomMovePolicy(), new RandomMovePolicy());
+
+    public MatchupMatrixService(Path cacheFile, int trialsPerPair, long seed) {
+        this.cacheFile = cacheFile;
+        this.trialsPerPair = trialsPerPair;
+        this.seed = seed;
+    }
+
+    public static synchronized MatchupMatrixService shared() {
+        if (shared == null) {
+            shared = new MatchupMatrixService(DEFAULT_CACHE_FILE, DEFAULT_TRIALS_PER_PAIR, DEFAULT_SEED);
+        }
+        return shared;
+    }
+
+    /**
+     * Loads every species through the repository, then returns the cached matrix or
+     * computes a new one on {@code executor}. Nothing here runs on the caller's thread.
+     */
+    public CompletableFuture<MatchupMatrix> rosterMatrixAsync(PokemonRepository repository, List<String> names,
+                                                              Executor executor) {
+        List<CompletableFuture<Pokemon>> loads = names.stream().map(repository::loadAsync).toList();
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(ignored -> getOrCompute(loads.stream().map(CompletableFuture::join).toList()),
+                        executor);
+    }
+
+    /**
+     * Returns the cached matrix if it was computed for exactly this roster, otherwise
+     * simulates every pair and caches the result. Blocks for the whole simulation.
+     */
+    public MatchupMatrix getOrCompute(List<Pokemon> roster) {
+        String fingerprint = fingerprint(roster);
+        MatchupMatrix cached = load();
+        if (cached != null && cached.getFingerprint().equals(fingerprint)) {
+            return cached;
+        }
+
+        MatchupMatrix matrix = compute(roster, fingerprint);
+        save(matrix);
+        return matrix;
+    }
+
+    MatchupMatrix compute(List<Pokemon> roster, String fingerprint) {
+        int n = roster.size();
+        double[][] winRate = new double[n][n];
+        double[][] expectedDamage = new double[n][n];
+        double[][] averageTurns = new double[n][n];
+
+        IntStream.range(0, n * n).parallel().forEach(pair -> {
+            int row = pair / n;
+            int column = pair % n;
+            MatchupStats stats = simulator.simulate(team(roster.get(row)), team(roster.get(column)),
+                    trialsPerPair, 0, seed + pair);
+            // each task owns one cell, so the plain array writes don't race
+            winRate[row][column] = stats.winRate();
+            expectedDamage[row][column] = stats.averageTeam1Damage();
+            averageTurns[row][column] = stats.averageTurns();
+        });
+
+        List<String> names = roster.stream().map(Pokemon::getName).toList();
+        return new MatchupMatrix(fingerprint, names, winRate, expectedDamage, averageTurns);
+    }
+
+    private static PokemonTeam team(Pokemon pokemon) {
+        PokemonTeam team = new PokemonTeam();
+        team.addPokemon(pokemon);
+        return team;
+    }
+
+    /**
+     * SHA-256 over everything the simulation reads from the roster, plus the settings.
+     */
+    String fingerprint(List<Pokemon> roster) {
+        StringBuilder canonical = new StringBuilder()
+                .append(FORMAT_VERSION).append('|').append(trialsPerPair).append('|').append(seed).append('\n');
+        for (Pokemon pokemon : roster) {
+            canonical.append(pokemon.getName()).append('|').append(pokemon.getTypes())
+                    .append('|').append(pokemon.getBaseStats());
+            for (Move move : pokemon.getMoves()) {
+                if (move == null) continue;
+                canonical.append('|').append(move.getMoveName()).append(',').append(move.getMoveType())
+                        .append(',').append(move.getMovePower()).append(',').append(move.getMoveAccuracy())
+                        .append(',').append(move.getMaxPp()).append(',').append(move.getMoveClass());
+            }
+            canonical.append('\n');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to ship SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MatchupMatrix load() {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try {
+            return MatchupMatrix.fromJson(new JSONObject(Files.readString(cacheFile)));
+        } catch (IOException | JSONException e) {
+            System.err.println("Ignoring unreadable matchup cache " + cacheFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Failures are logged and ignored: the cache only saves recomputing.
+     */
+    private void save(MatchupMatrix matrix) {
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "matchups", ".tmp");
+            Files.writeString(temp, matrix.toJson().toString());
+            try {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not cache matchups in " + cacheFile + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package simulation;
+
+/**
+ * Aggregate of many simulated battles between the same two teams.
+ *
+ * @param trials battles run
+ * @param team1Wins battles team 1 won
+ * @param team2Wins battles team 2 won
+ * @param draws battles that hit the turn limit
+ * @param winRateLow lower bound of the 95% Wilson interval for team 1's win rate
+ * @param winRateHigh upper bound of that interval
+ * @param averageTurns mean battle length in turns
+ * @param averageTeam1Damage mean HP team 1 took off team 2 per battle
+ * @param averageTeam2Damage mean HP team 2 took off team 1 per battle
+ * @param team1KnockOuts total knockouts scored by each of team 1's Pokemon, by slot
+ * @param team2KnockOuts the same for team 2
+ * @param stoppedEarly true if the interval got tight enough before all trials ran
+ */
+public record MatchupStats(int trials, int team1Wins, int team2Wins, int draws,
+                           double winRateLow, double winRateHigh, double averageTurns,
+                           double averageTeam1Damage, double averageTeam2Damage,
+                           long[] team1KnockOuts, long[] team2KnockOuts, boolean stoppedEarly) {
+
+    /** Team 1's observed win rate; draws count as not winning. */
+    public double winRate() {
+        return trials == 0 ? 0 : (double) team1Wins / trials;
+    }
+
+    /** Average knockouts per battle for the team 1 Pokemon in {@code slot}. */
+    public double team1KnockOutsPerBattle(int slot) {
+        return trials == 0 ? 0 : (double) team1KnockOuts[slot] / trials;
+    }
+
+    /** Average knockouts per battle for the team 2 Pokemon in {@code slot}. */
+    public double team2KnockOutsPerBattle(int slot) {
+        return trials == 0 ? 0 : (double) team2KnockOuts[slot] / trials;
+    }
+}
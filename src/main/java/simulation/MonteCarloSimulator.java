@@ -0,0 +1,149 @@
+package simulation;
+
+import entity.PokemonTeam;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Estimates how often one team beats another by running many randomized battles through
+ * {@link BattleEngine} on every core.
+ *
+ * Trials run in batches on a parallel stream. Every trial battles fresh deep copies of the
+ * two teams, so the originals are never touched, and gets its own random generator derived
+ * from the seed and the trial number, so a given seed always produces the same statistics
+ * no matter how the trials are scheduled. After each batch the 95% Wilson interval for
+ * team 1's win rate is checked, and the run stops as soon as its half-width is within the
+ * requested precision.
+ *
+ * The policies are shared by all worker threads and must be stateless.
+ */
+public class MonteCarloSimulator {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    // 95% two-sided
+    private static final double Z = 1.96;
+
+    private final BattleEngine engine;
+    private final BattlePolicy policy1;
+    private final BattlePolicy policy2;
+    private final int batchSize;
+
+    public MonteCarloSimulator(BattleEngine engine, BattlePolicy policy1, BattlePolicy policy2) {
+        this(engine, policy1, policy2, DEFAULT_BATCH_SIZE);
+    }
+
+    public MonteCarloSimulator(BattleEngine engine, BattlePolicy policy1, BattlePolicy policy2, int batchSize) {
+        this.engine = engine;
+        this.policy1 = policy1;
+        this.policy2 = policy2;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Runs until {@code maxTrials} battles have been played or the win-rate interval is
+     * narrower than {@code targetHalfWidth} on each side, whichever comes first. Pass 0 to
+     * always run every trial.
+     */
+    public MatchupStats simulate(PokemonTeam team1, PokemonTeam team2, int maxTrials,
+                                 double targetHalfWidth, long seed) {
+        Tally total = new Tally(team1.getTeam().size(), team2.getTeam().size());
+
+        while (total.trials < maxTrials) {
+            int from = total.trials;
+            int to = Math.min(maxTrials, from + batchSize);
+            Tally batch = IntStream.range(from, to).parallel()
+                    .mapToObj(trial -> engine.run(team1.copy(), team2.copy(), policy1, policy2,
+                            trialRandom(seed, trial)))
+                    .collect(() -> new Tally(team1.getTeam().size(), team2.getTeam().size()),
+                            Tally::add, Tally::combine);
+            total.combine(batch);
+
+            if (total.trials < maxTrials && halfWidth(total.team1Wins, total.trials) <= targetHalfWidth) {
+                return total.toStats(true);
+            }
+        }
+        return total.toStats(false);
+    }
+
+    private static SplittableRandom trialRandom(long seed, int trial) {
+        // SplittableRandom mixes its seed, so neighbouring trial numbers still give unrelated streams
+        return new SplittableRandom(seed + trial * 0x9E3779B97F4A7C15L);
+    }
+
+    private static double halfWidth(int wins, int trials) {
+        double[] interval = wilson(wins, trials);
+        return (interval[1] - interval[0]) / 2;
+    }
+
+    /**
+     * Wilson score interval; unlike the normal approximation it stays inside [0, 1] and
+     * behaves at win rates close to 0 or 1.
+     */
+    static double[] wilson(int successes, int trials) {
+        if (trials == 0) {
+            return new double[]{0, 1};
+        }
+        double p = (double) successes / trials;
+        double z2 = Z * Z;
+        double denominator = 1 + z2 / trials;
+        double centre = (p + z2 / (2 * trials)) / denominator;
+        double margin = Z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[]{Math.max(0, centre - margin), Math.min(1, centre + margin)};
+    }
+
+    /** Mutable accumulator for the parallel reduction. */
+    private static final class Tally {
+        int trials;
+        int team1Wins;
+        int team2Wins;
+        int draws;
+        long turns;
+        long damage1;
+        long damage2;
+        final long[] knockOuts1;
+        final long[] knockOuts2;
+
+        Tally(int team1Size, int team2Size) {
+            knockOuts1 = new long[team1Size];
+            knockOuts2 = new long[team2Size];
+        }
+
+        void add(BattleResult result) {
+            trials++;
+            turns += result.turns();
+            damage1 += result.team1DamageDealt();
+            damage2 += result.team2DamageDealt();
+            switch (result.winner()) {
+                case TEAM1 -> team1Wins++;
+                case TEAM2 -> team2Wins++;
+                case NONE -> draws++;
+            }
+            for (int i = 0; i < knockOuts1.length; i++) knockOuts1[i] += result.team1KnockOuts()[i];
+            for (int i = 0; i < knockOuts2.length; i++) knockOuts2[i] += result.team2KnockOuts()[i];
+        }
+
+        void combine(Tally other) {
+            trials += other.trials;
+            turns += other.turns;
+            damage1 += other.damage1;
+            damage2 += other.damage2;
+            team1Wins += other.team1Wins;
+            team2Wins += other.team2Wins;
+            draws += other.draws;
+            for (int i = 0; i < knockOuts1.length; i++) knockOuts1[i] += other.knockOuts1[i];
+            for (int i = 0; i < knockOuts2.length; i++) knockOuts2[i] += other.knockOuts2[i];
+        }
+
+        MatchupStats toStats(boolean stoppedEarly) {
+            double[] interval = wilson(team1Wins, trials);
+            return new MatchupStats(trials, team1Wins, team2Wins, draws, interval[0], interval[1],
+                    mean(turns), mean(damage1), mean(damage2),
+                    knockOuts1.clone(), knockOuts2.clone(), stoppedEarly);
+        }
+
+        private double mean(long sum) {
+            return trials == 0 ? 0 : (double) sum / trials;
+        }
+    }
+}
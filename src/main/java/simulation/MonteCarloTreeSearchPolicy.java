@@ -0,0 +1,391 @@
+package simulation;
+
+import entity.Battle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Computer opponent that plays by Monte Carlo tree search with UCT selection.
+ *
+ * Each decision grows one tree per worker thread from the current position (root
+ * parallelism): every iteration walks down the tree picking the action with the best
+ * upper confidence bound, adds one new node, plays the battle out with random moves and
+ * credits the result to every action on the way. Moves that roll dice get one child per
+ * outcome and the outcome is sampled, so the tree learns their average. When the budget
+ * is spent the visit counts of all trees are added up and the most visited action wins.
+ *
+ * Rollouts run on {@link CompactBattleState}, which applies the same rules as the
+ * {@code MoveBehaviour}s on a real battle, only without the objects.
+ *
+ * The trees are kept after a decision. Next turn, the node for the position the battle
+ * has reached (our action and the opponent's reply) becomes the new root, so statistics
+ * gathered for that line are not thrown away. That makes a policy stateful: use one
+ * instance per battle, not one shared by concurrent battles. Instances are cheap: the
+ * worker threads belong to one daemon pool shared by every policy.
+ */
+public class MonteCarloTreeSearchPolicy implements BattlePolicy {
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(80);
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+    // rollouts longer than this are stopped and scored by remaining HP
+    private static final int ROLLOUT_DEPTH = 200;
+    // how far below the old root to look for the new position: our turn and theirs
+    private static final int REUSE_DEPTH = 2;
+
+    private static final int PASS = -1;
+    // actions below this are move slots, at or above it team positions to switch to
+    private static final int SWITCH = 1 << 16;
+
+    // shared so that a policy per battle (or per tower floor) doesn't start threads of its own
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "mcts");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final int threads;
+    private final long iterations;
+    private final long budgetNanos;
+    private final double exploration;
+
+    // one per worker, kept for the next decision
+    private Tree[] trees;
+    private Metrics lastMetrics = new Metrics(0, 0, 0);
+
+    /**
+     * @param threads    number of trees searched, in parallel as far as the shared pool allows
+     * @param iterations rollouts per decision over all threads, or 0 for no limit
+     * @param timeBudget wall-clock time per decision, or {@link Duration#ZERO} for no limit
+     */
+    public MonteCarloTreeSearchPolicy(int threads, long iterations, Duration timeBudget) {
+        this(threads, iterations, timeBudget, DEFAULT_EXPLORATION);
+    }
+
+    public MonteCarloTreeSearchPolicy(int threads, long iterations, Duration timeBudget, double exploration) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        if (iterations <= 0 && timeBudget.isZero()) {
+            throw new IllegalArgumentException("Either an iteration or a time budget is required");
+        }
+        this.threads = threads;
+        this.iterations = iterations;
+        this.budgetNanos = timeBudget.toNanos();
+        this.exploration = exploration;
+    }
+
+    /**
+     * Opponent for a tower floor: every level gets more rollouts, so early floors play
+     * loosely and later ones close to the full strength the time budget allows.
+     */
+    public static MonteCarloTreeSearchPolicy forTowerLevel(int level) {
+        long rollouts = Math.min(200_000, 250L * Math.max(1, level) * Math.max(1, level));
+        return new MonteCarloTreeSearchPolicy(Runtime.getRuntime().availableProcessors(), rollouts,
+                DEFAULT_TIME_BUDGET);
+    }
+
+    @Override
+    public synchronized BattleDecision decide(Battle battle, RandomGenerator random) {
+        long start = System.nanoTime();
+        CompactBattleState current = CompactBattleState.of(battle);
+        if (current.isOver()) {
+            return BattleDecision.pass();
+        }
+        int[] actions = actions(current);
+        if (actions.length == 1) {
+            return toDecision(actions[0]);
+        }
+
+        Tree[] next = new Tree[threads];
+        long reusedVisits = 0;
+        for (int w = 0; w < threads; w++) {
+            Tree tree = trees == null ? null : trees[w].find(battle);
+            if (tree == null) {
+                tree = new Tree(new Node(), current.copy());
+            } else {
+                reusedVisits += tree.root.visits;
+            }
+            next[w] = tree;
+        }
+
+        long deadline = budgetNanos == 0 ? Long.MAX_VALUE : start + budgetNanos;
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int w = 0; w < threads; w++) {
+            Tree tree = next[w];
+            long share = iterations <= 0 ? Long.MAX_VALUE : iterations / threads + (w < iterations % threads ? 1 : 0);
+            SplittableRandom workerRandom = new SplittableRandom(random.nextLong());
+            tasks.add(() -> tree.search(share, deadline, workerRandom, exploration));
+        }
+        long rollouts = 0;
+        try {
+            for (Future<Long> result : WORKERS.invokeAll(tasks)) {
+                rollouts += result.get();
+            }
+        } catch (InterruptedException e) {
+            // the cancelled workers may still be finishing an iteration on these trees,
+            // so they are neither read nor kept
+            Thread.currentThread().interrupt();
+            trees = null;
+            lastMetrics = new Metrics(0, System.nanoTime() - start, reusedVisits);
+            return toDecision(actions[0]);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tree search failed", e.getCause());
+        }
+
+        trees = next;
+        lastMetrics = new Metrics(rollouts, System.nanoTime() - start, reusedVisits);
+        return toDecision(mostVisited(next, actions[0]));
+    }
+
+    /** Numbers from the most recent {@link #decide} call that searched. */
+    public synchronized Metrics getLastMetrics() {
+        return lastMetrics;
+    }
+
+    /**
+     * @param reusedVisits rollouts inherited from the previous turn's trees
+     */
+    public record Metrics(long rollouts, long elapsedNanos, long reusedVisits) {
+        public double rolloutsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rollouts * 1e9 / elapsedNanos;
+        }
+    }
+
+    private static int mostVisited(Tree[] trees, int fallback) {
+        Map<Integer, Long> visits = new HashMap<>();
+        for (Tree tree : trees) {
+            for (Edge edge : tree.root.edges) {
+                visits.merge(edge.action, (long) edge.visits, Long::sum);
+            }
+        }
+        int best = fallback;
+        long bestVisits = -1;
+        for (Map.Entry<Integer, Long> entry : visits.entrySet()) {
+            if (entry.getValue() > bestVisits) {
+                best = entry.getKey();
+                bestVisits = entry.getValue();
+            }
+        }
+        return best;
+    }
+
+    private static BattleDecision toDecision(int action) {
+        if (action == PASS) return BattleDecision.pass();
+        if (action >= SWITCH) return BattleDecision.switchTo(action - SWITCH);
+        return BattleDecision.useMove(action);
+    }
+
+    /** Usable moves, then switches to healthy team mates; a pass only when there is nothing else. */
+    private static int[] actions(CompactBattleState state) {
+        int side = state.sideToMove();
+        int[] actions = new int[state.moveSlots() + state.teamSize(side)];
+        int count = 0;
+        for (int move = 0; move < state.moveSlots(); move++) {
+            if (state.isUsable(move)) actions[count++] = move;
+        }
+        for (int position = 1; position < state.teamSize(side); position++) {
+            if (state.hp(side, state.slotAt(side, position)) > 0) actions[count++] = SWITCH + position;
+        }
+        return count == 0 ? new int[]{PASS} : Arrays.copyOf(actions, count);
+    }
+
+    private static void play(CompactBattleState state, int action, int outcome) {
+        if (action == PASS) {
+            state.applyPass();
+        } else if (action >= SWITCH) {
+            state.applySwitch(action - SWITCH);
+        } else {
+            state.applyMoveOutcome(action, outcome);
+        }
+    }
+
+    /** A position in the tree. Edges are added one per visit until every action has one. */
+    private static final class Node {
+        int[] actions;
+        final List<Edge> edges = new ArrayList<>();
+        int visits;
+    }
+
+    /** An action from a node, with one child per outcome of its dice. */
+    private static final class Edge {
+        final int action;
+        // side that plays this action; value is from its point of view
+        final int side;
+        final Node[] children;
+        int visits;
+        double value;
+
+        Edge(int action, int side, int outcomes) {
+            this.action = action;
+            this.side = side;
+            this.children = new Node[outcomes];
+        }
+    }
+
+    /** One worker's tree and the position at its root. Only one thread uses it at a time. */
+    private static final class Tree {
+        final Node root;
+        final CompactBattleState state;
+        private final List<Edge> path = new ArrayList<>();
+        private final List<Node> visited = new ArrayList<>();
+
+        Tree(Node root, CompactBattleState state) {
+            this.root = root;
+            this.state = state;
+        }
+
+        long search(long iterations, long deadline, RandomGenerator random, double exploration) {
+            long done = 0;
+            // cancelled workers are interrupted; with no time budget nothing else stops them
+            while (done < iterations && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                iterate(random, exploration);
+                done++;
+            }
+            return done;
+        }
+
+        private void iterate(RandomGenerator random, double exploration) {
+            path.clear();
+            visited.clear();
+            Node node = root;
+            visited.add(node);
+
+            while (!state.isOver()) {
+                if (node.actions == null) {
+                    node.actions = actions(state);
+                }
+                Edge edge;
+                if (node.edges.size() < node.actions.length) {
+                    int action = node.actions[node.edges.size()];
+                    int outcomes = action == PASS || action >= SWITCH ? 1 : state.chanceOutcomes(action);
+                    edge = new Edge(action, state.sideToMove(), outcomes);
+                    node.edges.add(edge);
+                } else {
+                    edge = select(node, exploration);
+                }
+
+                int outcome = edge.children.length == 1 ? 0 : random.nextInt(edge.children.length);
+                play(state, edge.action, outcome);
+                path.add(edge);
+
+                Node child = edge.children[outcome];
+                boolean added = child == null;
+                if (added) {
+                    child = new Node();
+                    edge.children[outcome] = child;
+                }
+                node = child;
+                visited.add(node);
+                if (added) {
+                    break;
+                }
+            }
+
+            double team1Reward = rollout(random);
+            for (Node each : visited) {
+                each.visits++;
+            }
+            for (Edge each : path) {
+                each.visits++;
+                each.value += each.side == 0 ? team1Reward : 1 - team1Reward;
+            }
+            while (state.undoDepth() > 0) {
+                state.undo();
+            }
+        }
+
+        private static Edge select(Node node, double exploration) {
+            double logVisits = Math.log(Math.max(1, node.visits));
+            Edge best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Edge edge : node.edges) {
+                double score = edge.visits == 0 ? Double.POSITIVE_INFINITY
+                        : edge.value / edge.visits + exploration * Math.sqrt(logVisits / edge.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = edge;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Random usable moves until the battle ends or {@link #ROLLOUT_DEPTH} actions.
+         *
+         * @return 1 if team 1 won, 0 if it lost, otherwise its share of the remaining HP
+         */
+        private double rollout(RandomGenerator random) {
+            int[] moves = new int[state.moveSlots()];
+            for (int step = 0; step < ROLLOUT_DEPTH && !state.isOver(); step++) {
+                int count = 0;
+                for (int move = 0; move < moves.length; move++) {
+                    if (state.isUsable(move)) moves[count++] = move;
+                }
+                if (count == 0) {
+                    state.applyPass();
+                } else {
+                    state.applyMove(moves[random.nextInt(count)], random);
+                }
+            }
+            return switch (state.winner()) {
+                case TEAM1 -> 1;
+                case TEAM2 -> 0;
+                case NONE -> {
+                    double team1 = hpShare(0);
+                    double team2 = hpShare(1);
+                    yield team1 + team2 == 0 ? 0.5 : team1 / (team1 + team2);
+                }
+            };
+        }
+
+        private double hpShare(int side) {
+            double share = 0;
+            for (int slot = 0; slot < state.teamSize(side); slot++) {
+                share += (double) state.hp(side, slot) / state.maxHp(side, slot);
+            }
+            return share;
+        }
+
+        /**
+         * The subtree for the position the battle is in now, if it is the root or at most
+         * {@link #REUSE_DEPTH} actions below it; null otherwise.
+         */
+        Tree find(Battle battle) {
+            if (state.matches(battle)) {
+                return new Tree(root, state.copy());
+            }
+            CompactBattleState probe = state.copy();
+            return find(root, probe, battle, REUSE_DEPTH);
+        }
+
+        private static Tree find(Node node, CompactBattleState probe, Battle battle, int depthLeft) {
+            for (Edge edge : node.edges) {
+                for (int outcome = 0; outcome < edge.children.length; outcome++) {
+                    Node child = edge.children[outcome];
+                    if (child == null) continue;
+                    play(probe, edge.action, outcome);
+                    Tree found = probe.matches(battle) ? new Tree(child, probe.copy())
+                            : depthLeft > 1 ? find(child, probe, battle, depthLeft - 1) : null;
+                    probe.undo();
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
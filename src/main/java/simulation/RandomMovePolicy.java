@@ -0,0 +1,32 @@
+package simulation;
+
+import entity.Battle;
+import entity.Move;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks uniformly among the active Pokemon's moves that still have PP. Never switches.
+ */
+public class RandomMovePolicy implements BattlePolicy {
+
+    @Override
+    public BattleDecision decide(Battle battle, RandomGenerator random) {
+        Move[] moves = battle.getCurrentTurnPokemon().getMoves();
+        int usable = 0;
+        for (Move move : moves) {
+            if (BattleEngine.isUsable(move)) usable++;
+        }
+        if (usable == 0) {
+            return BattleDecision.pass();
+        }
+
+        int pick = random.nextInt(usable);
+        for (int i = 0; i < moves.length; i++) {
+            if (BattleEngine.isUsable(moves[i]) && pick-- == 0) {
+                return BattleDecision.useMove(i);
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+}
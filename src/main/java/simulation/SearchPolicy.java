@@ -0,0 +1,271 @@
+package simulation;
+
+import entity.Battle;
+import entity.StatType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Computer opponent that picks moves and switches by searching the battle tree.
+ *
+ * The search runs on a {@link CompactBattleState} with alpha-beta minimax over the two
+ * sides' turns. Moves that roll dice (only forced switches do so far) become chance
+ * nodes, and their value is the average over every outcome. Positions already searched
+ * are kept in a transposition table that also remembers the best action, which is tried
+ * first the next time round. Depth grows one turn at a time until the time budget runs
+ * out, and the best action of the deepest finished search is played.
+ *
+ * Every search starts from scratch, so a policy holds no state between calls and can be
+ * shared like the other policies. The decision does not depend on the random generator.
+ */
+public class SearchPolicy implements BattlePolicy {
+    // leaves headroom under the 100 ms a turn may take
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(80);
+    public static final int DEFAULT_MAX_DEPTH = 64;
+
+    private final long budgetNanos;
+    private final int maxDepth;
+
+    public SearchPolicy() {
+        this(DEFAULT_TIME_BUDGET, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param maxDepth the most turns (of either side) to look ahead; the search stops
+     *                 earlier when the budget runs out
+     */
+    public SearchPolicy(Duration timeBudget, int maxDepth) {
+        this.budgetNanos = timeBudget.toNanos();
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public BattleDecision decide(Battle battle, RandomGenerator random) {
+        CompactBattleState root = CompactBattleState.of(battle);
+        if (root.isOver()) {
+            return BattleDecision.pass();
+        }
+        int action = new Search(root, System.nanoTime() + budgetNanos).bestAction(maxDepth);
+        return toDecision(action);
+    }
+
+    private static BattleDecision toDecision(int action) {
+        if (action == Search.PASS) return BattleDecision.pass();
+        if (action >= Search.SWITCH) return BattleDecision.switchTo(action - Search.SWITCH);
+        return BattleDecision.useMove(action);
+    }
+
+    /** One decision's worth of search state. Scores are from team 1's point of view. */
+    private static final class Search {
+        static final int PASS = -1;
+        // actions below this are move slots, at or above it team positions to switch to
+        static final int SWITCH = 1 << 16;
+
+        private static final double WIN = 1_000_000;
+        private static final int TABLE_BITS = 15;
+        private static final int CLOCK_CHECK_INTERVAL = 1024;
+
+        private static final byte EXACT = 0;
+        private static final byte LOWER = 1;
+        private static final byte UPPER = 2;
+
+        private final CompactBattleState state;
+        private final long deadline;
+        private long nodes;
+
+        // transposition table, indexed by the low bits of the position hash
+        private final long[] keys = new long[1 << TABLE_BITS];
+        private final double[] values = new double[1 << TABLE_BITS];
+        private final int[] depths = new int[1 << TABLE_BITS];
+        private final byte[] bounds = new byte[1 << TABLE_BITS];
+        private final int[] bestActions = new int[1 << TABLE_BITS];
+
+        Search(CompactBattleState state, long deadline) {
+            this.state = state;
+            this.deadline = deadline;
+        }
+
+        int bestAction(int maxDepth) {
+            int[] actions = actions(PASS);
+            int best = actions[0];
+            if (actions.length == 1) {
+                return best;
+            }
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                try {
+                    best = searchRoot(depth, best);
+                } catch (OutOfTime e) {
+                    // the unfinished iteration may have looked at only some actions; keep the last full one
+                    while (state.undoDepth() > 0) state.undo();
+                    break;
+                }
+            }
+            return best;
+        }
+
+        private int searchRoot(int depth, int previousBest) {
+            boolean maximising = state.sideToMove() == 0;
+            double alpha = -Double.MAX_VALUE;
+            double beta = Double.MAX_VALUE;
+            int best = previousBest;
+            for (int action : actions(previousBest)) {
+                double value = valueOf(action, depth, 1, alpha, beta);
+                if (maximising && value > alpha) {
+                    alpha = value;
+                    best = action;
+                } else if (!maximising && value < beta) {
+                    beta = value;
+                    best = action;
+                }
+            }
+            return best;
+        }
+
+        private double search(int depth, int ply, double alpha, double beta) {
+            if (++nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                throw OutOfTime.INSTANCE;
+            }
+            if (state.isOver()) {
+                // sooner wins score higher, later losses less badly
+                return state.winner() == BattleResult.Winner.TEAM1 ? WIN - ply : -(WIN - ply);
+            }
+            if (depth == 0) {
+                return evaluate();
+            }
+
+            long key = state.longHash();
+            int slot = (int) key & ((1 << TABLE_BITS) - 1);
+            int tableAction = PASS;
+            if (keys[slot] == key) {
+                tableAction = bestActions[slot];
+                if (depths[slot] >= depth) {
+                    double stored = values[slot];
+                    if (bounds[slot] == EXACT) return stored;
+                    if (bounds[slot] == LOWER) alpha = Math.max(alpha, stored);
+                    else beta = Math.min(beta, stored);
+                    if (alpha >= beta) return stored;
+                }
+            }
+
+            double alphaBefore = alpha;
+            double betaBefore = beta;
+            boolean maximising = state.sideToMove() == 0;
+            double best = maximising ? -Double.MAX_VALUE : Double.MAX_VALUE;
+            int bestAction = PASS;
+            for (int action : actions(tableAction)) {
+                double value = valueOf(action, depth, ply + 1, alpha, beta);
+                if (maximising ? value > best : value < best) {
+                    best = value;
+                    bestAction = action;
+                }
+                if (maximising) alpha = Math.max(alpha, best);
+                else beta = Math.min(beta, best);
+                if (alpha >= beta) break;
+            }
+
+            keys[slot] = key;
+            values[slot] = best;
+            depths[slot] = depth;
+            bestActions[slot] = bestAction;
+            bounds[slot] = best <= alphaBefore ? UPPER : best >= betaBefore ? LOWER : EXACT;
+            return best;
+        }
+
+        /** Value of playing {@code action} now; moves with several outcomes are averaged. */
+        private double valueOf(int action, int depth, int ply, double alpha, double beta) {
+            if (action == PASS) {
+                state.applyPass();
+            } else if (action >= SWITCH) {
+                state.applySwitch(action - SWITCH);
+            } else {
+                int outcomes = state.chanceOutcomes(action);
+                if (outcomes > 1) {
+                    // the bounds don't carry over to a single outcome, so each gets a full window
+                    double sum = 0;
+                    for (int outcome = 0; outcome < outcomes; outcome++) {
+                        state.applyMoveOutcome(action, outcome);
+                        sum += search(depth - 1, ply, -Double.MAX_VALUE, Double.MAX_VALUE);
+                        state.undo();
+                    }
+                    return sum / outcomes;
+                }
+                state.applyMoveOutcome(action, 0);
+            }
+            double value = search(depth - 1, ply, alpha, beta);
+            state.undo();
+            return value;
+        }
+
+        /**
+         * Usable moves, strongest first, then switches to healthy team mates; a pass only
+         * when there is nothing else. {@code first} goes to the front if it is among them.
+         */
+        private int[] actions(int first) {
+            int side = state.sideToMove();
+            int user = state.active(side);
+            int[] actions = new int[state.moveSlots() + state.teamSize(side)];
+            int count = 0;
+            for (int move = 0; move < state.moveSlots(); move++) {
+                if (state.isUsable(move)) actions[count++] = move;
+            }
+            // insertion sort by power; there are at most a handful of moves
+            for (int i = 1; i < count; i++) {
+                int move = actions[i];
+                int j = i - 1;
+                while (j >= 0 && state.movePower(side, user, actions[j]) < state.movePower(side, user, move)) {
+                    actions[j + 1] = actions[j];
+                    j--;
+                }
+                actions[j + 1] = move;
+            }
+            for (int position = 1; position < state.teamSize(side); position++) {
+                if (state.hp(side, state.slotAt(side, position)) > 0) actions[count++] = SWITCH + position;
+            }
+            if (count == 0) {
+                return new int[]{PASS};
+            }
+            for (int i = 1; i < count; i++) {
+                if (actions[i] == first) {
+                    System.arraycopy(actions, 0, actions, 1, i);
+                    actions[0] = first;
+                    break;
+                }
+            }
+            return Arrays.copyOf(actions, count);
+        }
+
+        /**
+         * Team 1's remaining HP share minus team 2's, with a bonus per Pokemon still
+         * standing and a little for the active Pokemon's stat stages.
+         */
+        private double evaluate() {
+            return sideScore(0) - sideScore(1);
+        }
+
+        private double sideScore(int side) {
+            double score = 0;
+            for (int slot = 0; slot < state.teamSize(side); slot++) {
+                int hp = state.hp(side, slot);
+                if (hp > 0) {
+                    score += 1 + (double) hp / state.maxHp(side, slot);
+                }
+            }
+            int active = state.active(side);
+            int stages = state.stage(side, active, StatType.ATTACK) + state.stage(side, active, StatType.DEFENSE)
+                    + state.stage(side, active, StatType.SPECIAL_ATTACK)
+                    + state.stage(side, active, StatType.SPECIAL_DEFENSE);
+            return score + 0.05 * stages;
+        }
+    }
+
+    /** Unwinds the search when the budget is spent; shared, so throwing it allocates nothing. */
+    private static final class OutOfTime extends RuntimeException {
+        static final OutOfTime INSTANCE = new OutOfTime();
+
+        private OutOfTime() {
+            super(null, null, false, false);
+        }
+    }
+}
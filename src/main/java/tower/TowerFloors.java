@@ -0,0 +1,81 @@
+package tower;
+
+import entity.GameState;
+import entity.PokemonTeam;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Hands out tower opponents and keeps the next floors generated ahead of time.
+ *
+ * Every time a floor's opponent is taken, the following {@code lookahead} floors are
+ * queued on a background thread, so by the time the current battle is over the next
+ * team is already waiting. A floor that hasn't been prepared yet (the first one, or
+ * after a jump) is simply generated on the spot. Floors below the one being played are
+ * dropped. Safe to use from any thread.
+ */
+public class TowerFloors {
+    public static final int DEFAULT_LOOKAHEAD = 2;
+
+    // one thread for every instance: generating a floor takes microseconds
+    private static final Executor DEFAULT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tower-floors");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TowerTeamGenerator generator;
+    private final int lookahead;
+    private final Executor executor;
+    private final Map<Integer, CompletableFuture<PokemonTeam>> floors = new ConcurrentHashMap<>();
+
+    public TowerFloors(TowerTeamGenerator generator) {
+        this(generator, DEFAULT_LOOKAHEAD, DEFAULT_EXECUTOR);
+    }
+
+    public TowerFloors(TowerTeamGenerator generator, int lookahead, Executor executor) {
+        this.generator = generator;
+        this.lookahead = lookahead;
+        this.executor = executor;
+    }
+
+    /**
+     * The opponent for the floor the player is on.
+     */
+    public PokemonTeam opponentFor(GameState state) {
+        return opponentFor(state.currentTowerLevel());
+    }
+
+    /**
+     * Takes the opponent for {@code level}, waiting for it if it is still being
+     * generated, and queues the floors after it. Each call returns a new team.
+     */
+    public PokemonTeam opponentFor(int level) {
+        CompletableFuture<PokemonTeam> prepared = floors.remove(level);
+        PokemonTeam team = prepared != null ? prepared.join() : generator.generate(level);
+
+        floors.keySet().removeIf(floor -> floor < level);
+        for (int next = level + 1; next <= level + lookahead; next++) {
+            prepare(next);
+        }
+        return team;
+    }
+
+    /**
+     * Starts generating {@code level} in the background unless it already is.
+     */
+    public void prepare(int level) {
+        floors.computeIfAbsent(level,
+                floor -> CompletableFuture.supplyAsync(() -> generator.generate(floor), executor));
+    }
+
+    /** True if the floor has been generated and is waiting to be taken. */
+    public boolean isReady(int level) {
+        CompletableFuture<PokemonTeam> floor = floors.get(level);
+        return floor != null && floor.isDone() && !floor.isCompletedExceptionally();
+    }
+}
@@ -0,0 +1,69 @@
+package tower;
+
+import dataaccess.SpeciesIndex;
+import entity.PokemonTeam;
+
+import java.util.SplittableRandom;
+
+/**
+ * Builds the opponent team for a tower floor from a {@link SpeciesIndex}.
+ *
+ * Difficulty grows with the level in two ways: the team gets bigger (one Pokemon on the
+ * first floor, a full team of six from floor 11), and the species are drawn from a
+ * window of the strength ranking that slides from the weakest species towards the
+ * strongest, reaching the top at {@link #TOP_LEVEL}. A team never repeats a species.
+ *
+ * A floor depends only on the generator's seed and the level, so a run can be replayed,
+ * and generating one is a few array reads plus a copy per Pokemon. Safe to use from any
+ * thread.
+ */
+public class TowerTeamGenerator {
+    public static final int MAX_TEAM_SIZE = 6;
+    // from this level on, opponents come from the strongest species
+    public static final int TOP_LEVEL = 30;
+
+    private final SpeciesIndex index;
+    private final long seed;
+
+    public TowerTeamGenerator(SpeciesIndex index, long seed) {
+        this.index = index;
+        this.seed = seed;
+    }
+
+    /**
+     * @param level tower floor, starting at 1
+     * @return a new team with full HP and PP; empty if the index is empty
+     */
+    public PokemonTeam generate(int level) {
+        int floor = Math.max(1, level);
+        SplittableRandom random = new SplittableRandom(seed + floor * 0x9E3779B97F4A7C15L);
+        int size = Math.min(teamSize(floor), index.size());
+
+        // window of candidates around the level's place in the strength ranking
+        int n = index.size();
+        int window = Math.min(n, Math.max(2 * size, n / 5));
+        double progress = Math.min(1.0, (floor - 1) / (double) (TOP_LEVEL - 1));
+        int centre = (int) Math.round(progress * (n - 1));
+        int from = Math.max(0, Math.min(centre - window / 2, n - window));
+
+        // partial Fisher-Yates over the window, so no species is picked twice
+        int[] ranks = new int[window];
+        for (int i = 0; i < window; i++) {
+            ranks[i] = from + i;
+        }
+        PokemonTeam team = new PokemonTeam();
+        for (int i = 0; i < size; i++) {
+            int pick = i + random.nextInt(window - i);
+            int rank = ranks[pick];
+            ranks[pick] = ranks[i];
+            ranks[i] = rank;
+            team.addPokemon(index.create(rank));
+        }
+        return team;
+    }
+
+    /** One Pokemon on floor 1, one more every other floor, up to a full team. */
+    public static int teamSize(int level) {
+        return Math.min(MAX_TEAM_SIZE, 1 + (Math.max(1, level) - 1) / 2);
+    }
+}
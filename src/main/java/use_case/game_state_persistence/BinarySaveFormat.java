@@ -0,0 +1,281 @@
+package use_case.game_state_persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import entity.BaseLevelStats;
+import entity.GameState;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+
+/**
+ * Compact binary encoding of a {@link GameState}, holding the same fields as
+ * {@link SaveGameInteractor#toJson}.
+ *
+ * Layout:
+ * <pre>
+ * magic    "PKSV"
+ * version  one byte
+ * strings  varint count, then varint length + UTF-8 bytes each; every name, type,
+ *          description and move class is stored once and referred to by index + 1
+ *          (0 means null)
+ * state    screen, selector (one byte each, enum ordinals), tower level, high score,
+ *          battle phase flag (+ turn, both active indices), then both teams
+ * team     varint size, then per Pokemon: name, type count + types, the six base stats,
+ *          current HP, move count + per move name, type, description, class, max PP,
+ *          current PP, accuracy
+ * crc      CRC32 of everything before it, four bytes big-endian
+ * </pre>
+ * Every number is a varint; the ones that could go negative (HP, PP, levels) are
+ * zigzag-encoded first. A battle between two full teams takes under 1 KB, against about
+ * 22 KB of pretty-printed JSON.
+ */
+public final class BinarySaveFormat {
+    static final int MAGIC = 0x504B5356;
+    static final int VERSION = 1;
+    private static final int HEADER_SIZE = 5;
+    private static final int CRC_SIZE = 4;
+
+    private BinarySaveFormat() {
+    }
+
+    /**
+     * True if {@code bytes} start like a binary save (as opposed to JSON).
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes.length >= 4 && ByteBuffer.wrap(bytes).getInt(0) == MAGIC;
+    }
+
+    public static byte[] encode(GameState state) {
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        Output body = new Output(512);
+
+        body.writeByte(state.currentScreen().ordinal());
+        body.writeByte(state.activeTeamSelector().ordinal());
+        body.writeSigned(state.currentTowerLevel());
+        body.writeSigned(state.highScore());
+        GameState.BattlePhase phase = state.battlePhase();
+        if (phase == null) {
+            body.writeByte(0);
+        } else {
+            body.writeByte(1);
+            body.writeByte(phase.currentTurn().ordinal());
+            body.writeSigned(phase.player1ActiveIndex());
+            body.writeSigned(phase.player2ActiveIndex());
+        }
+        writeTeam(body, state.player1Team(), strings, table);
+        writeTeam(body, state.player2Team(), strings, table);
+
+        Output out = new Output(body.size() + table.size() * 16 + 16);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeVarint(table.size());
+        for (String string : table) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            out.writeVarint(utf8.length);
+            out.write(utf8, 0, utf8.length);
+        }
+        out.write(body.buffer(), 0, body.size());
+
+        CRC32 crc = new CRC32();
+        crc.update(out.buffer(), 0, out.size());
+        out.writeInt((int) crc.getValue());
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IOException if the bytes are not a binary save, are from a newer version,
+     *                     or fail the checksum
+     */
+    public static GameState decode(byte[] bytes) throws IOException {
+        if (bytes.length < HEADER_SIZE + CRC_SIZE || !isBinary(bytes)) {
+            throw new IOException("Not a binary save");
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        int version = in.get(4) & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version + ", expected " + VERSION);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - CRC_SIZE);
+        if ((int) crc.getValue() != in.getInt(bytes.length - CRC_SIZE)) {
+            throw new IOException("Save is damaged (checksum mismatch)");
+        }
+
+        try {
+            in.position(HEADER_SIZE).limit(bytes.length - CRC_SIZE);
+            String[] table = new String[readVarint(in)];
+            for (int i = 0; i < table.length; i++) {
+                byte[] utf8 = new byte[readVarint(in)];
+                in.get(utf8);
+                table[i] = new String(utf8, StandardCharsets.UTF_8);
+            }
+
+            GameState.Screen screen = GameState.Screen.values()[in.get()];
+            GameState.Player selector = GameState.Player.values()[in.get()];
+            int towerLevel = readSigned(in);
+            int highScore = readSigned(in);
+            GameState.BattlePhase phase = null;
+            if (in.get() != 0) {
+                GameState.Turn turn = GameState.Turn.values()[in.get()];
+                phase = new GameState.BattlePhase(turn, readSigned(in), readSigned(in));
+            }
+            PokemonTeam team1 = readTeam(in, table);
+            PokemonTeam team2 = readTeam(in, table);
+            return new GameState(screen, selector, team1, team2, phase, towerLevel, highScore);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            // only reachable if the checksum collides, but don't let it escape unchecked
+            throw new IOException("Save is damaged: " + e, e);
+        }
+    }
+
+    private static void writeTeam(Output out, PokemonTeam team, Map<String, Integer> strings, List<String> table) {
+        out.writeVarint(team.getTeam().size());
+        for (Pokemon pokemon : team.getTeam()) {
+            out.writeVarint(ref(pokemon.getName(), strings, table));
+            out.writeVarint(pokemon.getTypes().size());
+            for (String type : pokemon.getTypes()) {
+                out.writeVarint(ref(type, strings, table));
+            }
+            BaseLevelStats stats = pokemon.getBaseStats();
+            out.writeSigned(stats.getMaxHp());
+            out.writeSigned(stats.getAttack());
+            out.writeSigned(stats.getDefense());
+            out.writeSigned(stats.getSpecialAttack());
+            out.writeSigned(stats.getSpecialDefense());
+            out.writeSigned(stats.getSpeed());
+            out.writeSigned(pokemon.getCurrentHP());
+
+            List<Move> moves = new ArrayList<>(SaveGameInteractor.MAX_SAVED_MOVES);
+            for (Move move : pokemon.getMoves()) {
+                if (move != null && moves.size() < SaveGameInteractor.MAX_SAVED_MOVES) {
+                    moves.add(move);
+                }
+            }
+            out.writeVarint(moves.size());
+            for (Move move : moves) {
+                out.writeVarint(ref(move.getMoveName(), strings, table));
+                out.writeVarint(ref(move.getMoveType(), strings, table));
+                out.writeVarint(ref(move.getMoveDescription(), strings, table));
+                out.writeVarint(ref(move.getMoveClass(), strings, table));
+                out.writeSigned(move.getMaxPp());
+                out.writeSigned(move.getCurrentPp());
+                out.writeSigned(move.getMoveAccuracy());
+            }
+        }
+    }
+
+    private static PokemonTeam readTeam(ByteBuffer in, String[] table) {
+        PokemonTeam team = new PokemonTeam();
+        int size = readVarint(in);
+        for (int p = 0; p < size; p++) {
+            String name = string(readVarint(in), table);
+            int typeCount = readVarint(in);
+            List<String> types = new ArrayList<>(typeCount);
+            for (int t = 0; t < typeCount; t++) {
+                types.add(string(readVarint(in), table));
+            }
+            BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                    .maxHp(readSigned(in))
+                    .attack(readSigned(in))
+                    .defense(readSigned(in))
+                    .specialAttack(readSigned(in))
+                    .specialDefense(readSigned(in))
+                    .speed(readSigned(in))
+                    .build();
+            Pokemon pokemon = new Pokemon(name, stats, types);
+            pokemon.setCurrentHP(readSigned(in));
+
+            Move[] moves = new Move[SaveGameInteractor.MAX_SAVED_MOVES];
+            int moveCount = readVarint(in);
+            for (int m = 0; m < moveCount; m++) {
+                String moveName = string(readVarint(in), table);
+                String moveType = string(readVarint(in), table);
+                String description = string(readVarint(in), table);
+                String moveClass = string(readVarint(in), table);
+                int maxPp = readSigned(in);
+                int currentPp = readSigned(in);
+                int accuracy = readSigned(in);
+                moves[m] = new Move(moveName, moveType, maxPp, description, moveClass, accuracy, currentPp);
+            }
+            pokemon.setMoves(moves);
+            team.addPokemon(pokemon);
+        }
+        return team;
+    }
+
+    private static int ref(String value, Map<String, Integer> strings, List<String> table) {
+        if (value == null) {
+            return 0;
+        }
+        return strings.computeIfAbsent(value, v -> {
+            table.add(v);
+            return table.size();
+        });
+    }
+
+    private static String string(int ref, String[] table) {
+        return ref == 0 ? null : table[ref - 1];
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+
+    private static int readSigned(ByteBuffer in) {
+        int zigzag = readVarint(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /** ByteArrayOutputStream that can write varints and hand out its buffer for the CRC. */
+    private static final class Output extends ByteArrayOutputStream {
+        Output(int capacity) {
+            super(capacity);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        void writeByte(int value) {
+            write(value);
+        }
+
+        void writeInt(int value) {
+            writeByte(value >>> 24);
+            writeByte(value >>> 16);
+            writeByte(value >>> 8);
+            writeByte(value);
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        void writeSigned(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package use_case.game_state_persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Pull parser for JSON: the caller asks for the next token and the reader reads just
+ * enough characters to produce it, through a fixed 8 KB buffer. Memory use depends on
+ * how deeply the document nests and how long its longest string is, not on its size.
+ *
+ * Usage follows the document: {@link #beginObject()}, then {@link #nextName()} and a
+ * value while {@link #hasNext()}, then {@link #endObject()}; arrays likewise. Values the
+ * caller doesn't care about are passed over with {@link #skipValue()}. Malformed input
+ * throws an {@link IOException} naming the offset.
+ */
+public final class JsonPullReader implements Closeable {
+
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    // what the reader is inside of, and how far it got
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long offset;
+
+    private int[] stack = new int[16];
+    private int depth = 1;
+
+    private Token peeked;
+    // text of the peeked name, string, number or literal
+    private String peekedText;
+    private final StringBuilder text = new StringBuilder();
+
+    public JsonPullReader(Reader in) {
+        this.in = in;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    public Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+        int context = stack[depth - 1];
+        switch (context) {
+            case EMPTY_DOCUMENT -> {
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                int c = nextNonWhitespace();
+                if (c == -1) {
+                    return peeked = Token.END_DOCUMENT;
+                }
+                return peekValue(c);
+            }
+            case NONEMPTY_DOCUMENT -> {
+                int c = nextNonWhitespace();
+                if (c != -1) {
+                    throw syntaxError("Unexpected '" + (char) c + "' after the document");
+                }
+                return peeked = Token.END_DOCUMENT;
+            }
+            case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = Token.END_ARRAY;
+                }
+                if (context == NONEMPTY_ARRAY) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or ']'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                return peekValue(c);
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                int c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = Token.END_OBJECT;
+                }
+                if (context == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a name");
+                }
+                stack[depth - 1] = DANGLING_NAME;
+                peekedText = readString();
+                return peeked = Token.NAME;
+            }
+            case DANGLING_NAME -> {
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                return peekValue(nextNonWhitespace());
+            }
+            default -> throw new IllegalStateException("Unknown context " + context);
+        }
+    }
+
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        depth--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        depth--;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return peekedText;
+    }
+
+    public String nextString() throws IOException {
+        Token token = peek();
+        if (token != Token.STRING && token != Token.NUMBER) {
+            throw syntaxError("Expected a string but was " + token);
+        }
+        peeked = null;
+        return peekedText;
+    }
+
+    /**
+     * Reads a number, or a string holding one (org.json's getInt accepts both).
+     */
+    public int nextInt() throws IOException {
+        Token token = peek();
+        if (token != Token.NUMBER && token != Token.STRING) {
+            throw syntaxError("Expected a number but was " + token);
+        }
+        peeked = null;
+        try {
+            double value = Double.parseDouble(peekedText);
+            if (value != (int) value) {
+                throw syntaxError("Expected an int but was " + peekedText);
+            }
+            return (int) value;
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected a number but was \"" + peekedText + "\"");
+        }
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        return peekedText.equals("true");
+    }
+
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+    }
+
+    /**
+     * Passes over the next value, including everything nested in it.
+     */
+    public void skipValue() throws IOException {
+        int nested = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    nested++;
+                }
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    nested++;
+                }
+                case END_OBJECT -> {
+                    endObject();
+                    nested--;
+                }
+                case END_ARRAY -> {
+                    endArray();
+                    nested--;
+                }
+                case END_DOCUMENT -> throw syntaxError("Unexpected end of document");
+                default -> peeked = null;
+            }
+        } while (nested > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Token peekValue(int c) throws IOException {
+        switch (c) {
+            case '{' -> {
+                return peeked = Token.BEGIN_OBJECT;
+            }
+            case '[' -> {
+                return peeked = Token.BEGIN_ARRAY;
+            }
+            case '"' -> {
+                peekedText = readString();
+                return peeked = Token.STRING;
+            }
+            case 't' -> {
+                readLiteral("true");
+                return peeked = Token.BOOLEAN;
+            }
+            case 'f' -> {
+                readLiteral("false");
+                return peeked = Token.BOOLEAN;
+            }
+            case 'n' -> {
+                readLiteral("null");
+                return peeked = Token.NULL;
+            }
+            case -1 -> throw syntaxError("Unexpected end of document");
+            default -> {
+                if (c != '-' && (c < '0' || c > '9')) {
+                    throw syntaxError("Unexpected '" + (char) c + "'");
+                }
+                peekedText = readNumber(c);
+                return peeked = Token.NUMBER;
+            }
+        }
+    }
+
+    private void expect(Token token) throws IOException {
+        if (peek() != token) {
+            throw syntaxError("Expected " + token + " but was " + peeked);
+        }
+        peeked = null;
+    }
+
+    private void push(int context) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = context;
+    }
+
+    private String readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            switch (c) {
+                case '"' -> {
+                    return text.toString();
+                }
+                case '\\' -> text.append(readEscape());
+                case -1 -> throw syntaxError("Unterminated string");
+                default -> text.append((char) c);
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = read();
+        return switch (c) {
+            case '"', '\\', '/' -> (char) c;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Bad \\u escape");
+                    }
+                    code = code * 16 + digit;
+                }
+                yield (char) code;
+            }
+            default -> throw syntaxError("Bad escape");
+        };
+    }
+
+    private String readNumber(int first) throws IOException {
+        text.setLength(0);
+        text.append((char) first);
+        while (true) {
+            int c = peekChar();
+            if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                text.append((char) read());
+            } else {
+                return text.toString();
+            }
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 1; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw syntaxError("Expected " + literal);
+            }
+        }
+        peekedText = literal;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = read();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        int c = peekChar();
+        if (c != -1) {
+            position++;
+            offset++;
+        }
+        return c;
+    }
+
+    private int peekChar() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at offset " + offset);
+    }
+}
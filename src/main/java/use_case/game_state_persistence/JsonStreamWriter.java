@@ -0,0 +1,163 @@
+package use_case.game_state_persistence;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Writes JSON token by token straight to a {@link Writer}, the counterpart of
+ * {@link JsonPullReader}. With an indent it lays the document out the way
+ * {@code JSONObject.toString(indent)} does, so streamed saves look like the old ones.
+ * The writer doesn't buffer; hand it a {@link java.io.BufferedWriter}.
+ */
+public final class JsonStreamWriter implements Closeable, Flushable {
+
+    private final Writer out;
+    private final int indent;
+
+    // per open object/array: whether anything has been written in it yet
+    private boolean[] nonEmpty = new boolean[16];
+    private int depth;
+    // a name was just written, so the next value follows it on the same line
+    private boolean afterName;
+
+    /**
+     * @param indent spaces per nesting level; 0 writes everything on one line
+     */
+    public JsonStreamWriter(Writer out, int indent) {
+        this.out = out;
+        this.indent = indent;
+    }
+
+    public JsonStreamWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    public JsonStreamWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    public JsonStreamWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    public JsonStreamWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    public JsonStreamWriter name(String name) throws IOException {
+        beforeElement();
+        quote(name);
+        out.write(indent > 0 ? ": " : ":");
+        afterName = true;
+        return this;
+    }
+
+    /** A null string is written as JSON null. */
+    public JsonStreamWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        quote(value);
+        return this;
+    }
+
+    public JsonStreamWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonStreamWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonStreamWriter nullValue() throws IOException {
+        beforeValue();
+        out.write("null");
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private JsonStreamWriter open(char bracket) throws IOException {
+        beforeValue();
+        out.write(bracket);
+        if (depth == nonEmpty.length) {
+            nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+        }
+        nonEmpty[depth++] = false;
+        return this;
+    }
+
+    private JsonStreamWriter close(char bracket) throws IOException {
+        if (nonEmpty[--depth]) {
+            newline(depth);
+        }
+        out.write(bracket);
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+        } else if (depth > 0) {
+            beforeElement();
+        }
+    }
+
+    private void beforeElement() throws IOException {
+        if (nonEmpty[depth - 1]) {
+            out.write(',');
+        }
+        nonEmpty[depth - 1] = true;
+        newline(depth);
+    }
+
+    private void newline(int level) throws IOException {
+        if (indent == 0) {
+            return;
+        }
+        out.write('\n');
+        for (int i = 0; i < level * indent; i++) {
+            out.write(' ');
+        }
+    }
+
+    private void quote(String string) throws IOException {
+        out.write('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                case '\b' -> out.write("\\b");
+                case '\f' -> out.write("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
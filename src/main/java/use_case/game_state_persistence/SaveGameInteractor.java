@@ -11,6 +11,9 @@ import entity.*;
 
 public class SaveGameInteractor {
 
+    /** A save keeps a Pokemon's first four non-empty move slots; every save format follows this. */
+    public static final int MAX_SAVED_MOVES = 4;
+
     public static JSONObject toJson(GameState state) {
         final JSONObject json = new JSONObject();
         json.put("currentScreen", state.currentScreen().name());
@@ -75,7 +78,6 @@ public class SaveGameInteractor {
     }
 
     public static Pokemon fromJsonPokemon(JSONObject jsonP) {
-        final int maxMoves = 4;
         final String name = jsonP.getString("name");
         final BaseLevelStats baseStats = fromJsonBaseStats(jsonP.getJSONObject("baseStats"));
         List<String> types = new ArrayList<>();
@@ -86,10 +88,10 @@ public class SaveGameInteractor {
         final Pokemon pokemon = new Pokemon(name, baseStats, types);
         pokemon.setCurrentHP(jsonP.getInt("currentHP"));
 
-        Move[] moves = new Move[maxMoves];
+        Move[] moves = new Move[MAX_SAVED_MOVES];
         JSONArray movesArr = jsonP.getJSONArray("moves");
 
-        for (int i = 0; i < Math.min(movesArr.length(), maxMoves); i++) {
+        for (int i = 0; i < Math.min(movesArr.length(), MAX_SAVED_MOVES); i++) {
             moves[i] = fromJsonMove(movesArr.getJSONObject(i));
         }
         pokemon.setMoves(moves);
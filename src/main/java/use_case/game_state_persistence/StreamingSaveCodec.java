@@ -0,0 +1,311 @@
+package use_case.game_state_persistence;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import entity.BaseLevelStats;
+import entity.GameState;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+
+/**
+ * Reads and writes the JSON save schema of {@link SaveGameInteractor} as a stream,
+ * without building an org.json tree or holding the file in a String.
+ *
+ * Output has the same keys and values as {@code SaveGameInteractor.toJson(...).toString(indent)}
+ * (key order aside, which JSON doesn't fix), and input is read the way
+ * {@link SaveGameInteractor#fromJson} reads it: keys in any order, unknown keys ignored,
+ * the same defaults for optional move fields, at most four moves per Pokemon.
+ */
+public final class StreamingSaveCodec {
+
+    private StreamingSaveCodec() {
+    }
+
+    /**
+     * Writes the save and flushes; {@code out} is left open.
+     */
+    public static void write(GameState state, Writer out, int indent) throws IOException {
+        JsonStreamWriter json = new JsonStreamWriter(out, indent);
+        json.beginObject();
+        json.name("currentScreen").value(state.currentScreen().name());
+        json.name("activeTeamSelector").value(state.activeTeamSelector().name());
+        json.name("player1Team");
+        writeTeam(json, state.player1Team());
+        json.name("player2Team");
+        writeTeam(json, state.player2Team());
+        GameState.BattlePhase phase = state.battlePhase();
+        if (phase != null) {
+            json.name("battlePhase").beginObject()
+                    .name("currentTurn").value(phase.currentTurn().name())
+                    .name("player1ActiveIndex").value(phase.player1ActiveIndex())
+                    .name("player2ActiveIndex").value(phase.player2ActiveIndex())
+                    .endObject();
+        }
+        json.name("currentTowerLevel").value(state.currentTowerLevel());
+        json.name("highScore").value(state.highScore());
+        json.endObject();
+        json.flush();
+    }
+
+    /**
+     * Reads one save from {@code in}, which is left open.
+     *
+     * @return the state, or {@code null} if the input is empty or only whitespace
+     * @throws IOException if the input is not valid JSON or a required field is missing
+     */
+    public static GameState read(Reader in) throws IOException {
+        JsonPullReader json = new JsonPullReader(in);
+        if (json.peek() == JsonPullReader.Token.END_DOCUMENT) {
+            return null;
+        }
+
+        GameState.Screen screen = null;
+        GameState.Player selector = null;
+        PokemonTeam team1 = null;
+        PokemonTeam team2 = null;
+        GameState.BattlePhase phase = null;
+        Integer towerLevel = null;
+        Integer highScore = null;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "currentScreen" -> screen = GameState.Screen.valueOf(json.nextString());
+                case "activeTeamSelector" -> selector = GameState.Player.valueOf(json.nextString());
+                case "player1Team" -> team1 = readTeam(json);
+                case "player2Team" -> team2 = readTeam(json);
+                case "battlePhase" -> phase = readBattlePhase(json);
+                case "currentTowerLevel" -> towerLevel = json.nextInt();
+                case "highScore" -> highScore = json.nextInt();
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+        if (json.peek() != JsonPullReader.Token.END_DOCUMENT) {
+            throw new IOException("Trailing data after the save");
+        }
+
+        return new GameState(required(screen, "currentScreen"), required(selector, "activeTeamSelector"),
+                required(team1, "player1Team"), required(team2, "player2Team"), phase,
+                required(towerLevel, "currentTowerLevel"), required(highScore, "highScore"));
+    }
+
+    public static void writeTeam(JsonStreamWriter json, PokemonTeam team) throws IOException {
+        json.beginObject().name("pokemons").beginArray();
+        for (Pokemon pokemon : team.getTeam()) {
+            writePokemon(json, pokemon);
+        }
+        json.endArray().endObject();
+    }
+
+    public static PokemonTeam readTeam(JsonPullReader json) throws IOException {
+        PokemonTeam team = null;
+        json.beginObject();
+        while (json.hasNext()) {
+            if (json.nextName().equals("pokemons")) {
+                team = new PokemonTeam();
+                json.beginArray();
+                while (json.hasNext()) {
+                    team.addPokemon(readPokemon(json));
+                }
+                json.endArray();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+        return required(team, "pokemons");
+    }
+
+    public static void writePokemon(JsonStreamWriter json, Pokemon pokemon) throws IOException {
+        BaseLevelStats stats = pokemon.getBaseStats();
+        json.beginObject();
+        json.name("name").value(pokemon.getName());
+        json.name("currentHP").value(pokemon.getCurrentHP());
+        json.name("baseStats").beginObject()
+                .name("maxHp").value(stats.getMaxHp())
+                .name("attack").value(stats.getAttack())
+                .name("defense").value(stats.getDefense())
+                .name("specialAttack").value(stats.getSpecialAttack())
+                .name("specialDefense").value(stats.getSpecialDefense())
+                .name("speed").value(stats.getSpeed())
+                .endObject();
+        json.name("types").beginArray();
+        for (String type : pokemon.getTypes()) {
+            json.value(type);
+        }
+        json.endArray();
+        json.name("moves").beginArray();
+        for (Move move : pokemon.getMoves()) {
+            if (move != null) {
+                writeMove(json, move);
+            }
+        }
+        json.endArray();
+        json.endObject();
+    }
+
+    public static Pokemon readPokemon(JsonPullReader json) throws IOException {
+        String name = null;
+        Integer currentHp = null;
+        BaseLevelStats stats = null;
+        List<String> types = null;
+        Move[] moves = null;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "name" -> name = json.nextString();
+                case "currentHP" -> currentHp = json.nextInt();
+                case "baseStats" -> stats = readBaseStats(json);
+                case "types" -> {
+                    types = new ArrayList<>();
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        types.add(json.nextString());
+                    }
+                    json.endArray();
+                }
+                case "moves" -> {
+                    moves = new Move[SaveGameInteractor.MAX_SAVED_MOVES];
+                    int count = 0;
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        if (count < SaveGameInteractor.MAX_SAVED_MOVES) {
+                            moves[count++] = readMove(json);
+                        } else {
+                            json.skipValue();
+                        }
+                    }
+                    json.endArray();
+                }
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+
+        Pokemon pokemon = new Pokemon(required(name, "name"), required(stats, "baseStats"), required(types, "types"));
+        pokemon.setCurrentHP(required(currentHp, "currentHP"));
+        pokemon.setMoves(required(moves, "moves"));
+        return pokemon;
+    }
+
+    /** Null fields are left out, as JSONObject.put does. */
+    public static void writeMove(JsonStreamWriter json, Move move) throws IOException {
+        json.beginObject();
+        optional(json, "moveName", move.getMoveName());
+        optional(json, "moveDescription", move.getMoveDescription());
+        optional(json, "moveType", move.getMoveType());
+        json.name("maxPp").value(move.getMaxPp());
+        json.name("currentPp").value(move.getCurrentPp());
+        json.name("moveAccuracy").value(move.getMoveAccuracy());
+        optional(json, "moveClass", move.getMoveClass());
+        json.endObject();
+    }
+
+    public static Move readMove(JsonPullReader json) throws IOException {
+        final int defaultAccuracy = 100;
+        String moveName = null;
+        String moveType = null;
+        Integer maxPp = null;
+        String description = null;
+        Integer accuracy = null;
+        String moveClass = null;
+        Integer currentPp = null;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "moveName" -> moveName = json.nextString();
+                case "moveType" -> moveType = json.nextString();
+                case "maxPp" -> maxPp = json.nextInt();
+                case "moveDescription" -> description = json.nextString();
+                case "moveAccuracy" -> accuracy = json.nextInt();
+                case "moveClass" -> moveClass = json.nextString();
+                case "currentPp" -> currentPp = json.nextInt();
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+
+        required(moveName, "moveName");
+        required(moveType, "moveType");
+        required(maxPp, "maxPp");
+        // same defaults as SaveGameInteractor.fromJsonMove
+        return new Move(moveName, moveType, maxPp,
+                description != null ? description : moveName + " move",
+                moveClass != null ? moveClass : "physical",
+                accuracy != null ? accuracy : defaultAccuracy,
+                currentPp != null ? currentPp : maxPp);
+    }
+
+    private static BaseLevelStats readBaseStats(JsonPullReader json) throws IOException {
+        Integer maxHp = null;
+        Integer attack = null;
+        Integer defense = null;
+        Integer specialAttack = null;
+        Integer specialDefense = null;
+        Integer speed = null;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "maxHp" -> maxHp = json.nextInt();
+                case "attack" -> attack = json.nextInt();
+                case "defense" -> defense = json.nextInt();
+                case "specialAttack" -> specialAttack = json.nextInt();
+                case "specialDefense" -> specialDefense = json.nextInt();
+                case "speed" -> speed = json.nextInt();
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+
+        return new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(required(maxHp, "maxHp"))
+                .attack(required(attack, "attack"))
+                .defense(required(defense, "defense"))
+                .specialAttack(required(specialAttack, "specialAttack"))
+                .specialDefense(required(specialDefense, "specialDefense"))
+                .speed(required(speed, "speed"))
+                .build();
+    }
+
+    private static GameState.BattlePhase readBattlePhase(JsonPullReader json) throws IOException {
+        GameState.Turn turn = null;
+        Integer player1Index = null;
+        Integer player2Index = null;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "currentTurn" -> turn = GameState.Turn.valueOf(json.nextString());
+                case "player1ActiveIndex" -> player1Index = json.nextInt();
+                case "player2ActiveIndex" -> player2Index = json.nextInt();
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+
+        return new GameState.BattlePhase(required(turn, "currentTurn"),
+                required(player1Index, "player1ActiveIndex"), required(player2Index, "player2ActiveIndex"));
+    }
+
+    private static void optional(JsonStreamWriter json, String name, String value) throws IOException {
+        if (value != null) {
+            json.name(name).value(value);
+        }
+    }
+
+    private static <T> T required(T value, String name) throws IOException {
+        if (value == null) {
+            throw new IOException("Save is missing \"" + name + "\"");
+        }
+        return value;
+    }
+}
@@ -1,5 +1,7 @@
 package use_case.use_move;
 
+import entity.Battle;
+
 /**
  * Input Boundary for Use Move Use Case
  *
@@ -11,4 +13,11 @@ public interface UseMoveInputBoundary {
      * @param inputData The move execution data
      */
     void execute(UseMoveInputData inputData);
+
+    /**
+     * Let a computer-controlled Player 2 take its turn, if Player 2 is the computer and
+     * it is their turn. Does nothing in a game between two people.
+     * @param battle The current battle
+     */
+    void playOpponentTurn(Battle battle);
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package use_case.use_move;
 
 import entity.*;
+import simulation.BattleDecision;
+import simulation.BattlePolicy;
 
 /**
  * Use Move Interactor (Use Case)
@@ -16,24 +18,70 @@ import entity.*;
  * 6. Check if battle ended
  * 7. Switch turns
  * 8. Return results
+ * 9. If Player 2 is played by the computer, let it take its turn the same way
  */
 public class UseMoveInteractor implements UseMoveInputBoundary {
 
     private final UseMoveOutputBoundary outputBoundary;
+    // Decides Player 2's turns; null when both players are human
+    private final BattlePolicy opponentPolicy;
 
     public UseMoveInteractor(UseMoveOutputBoundary outputBoundary) {
+        this(outputBoundary, null);
+    }
+
+    public UseMoveInteractor(UseMoveOutputBoundary outputBoundary, BattlePolicy opponentPolicy) {
         this.outputBoundary = outputBoundary;
+        this.opponentPolicy = opponentPolicy;
     }
 
     @Override
     public void execute(UseMoveInputData inputData) {
         Battle battle = inputData.getBattle();
-        Move move = inputData.getMove();
+        if (useMove(battle, inputData.getMove())) {
+            playOpponentTurn(battle);
+        }
+    }
+
+    @Override
+    public void playOpponentTurn(Battle battle) {
+        if (opponentPolicy == null || battle.isTeam1Turn() || !battle.isBattleOngoing()) {
+            return;
+        }
+        BattleDecision decision = opponentPolicy.decide(battle, battle.getRandom());
+        PokemonTeam team = battle.getCurrentTurnTeam();
+        Pokemon active = team.getActivePokemon();
+
+        switch (decision.action()) {
+            case MOVE -> useMove(battle, active.getMoves()[decision.index()]);
+            case SWITCH -> {
+                team.switchActivePokemon(decision.index());
+                battle.switchTurn();
+                String message = "Player 2 withdrew " + active.getName() + "!\n"
+                        + "Go, " + team.getActivePokemon().getName() + "!\n";
+                outputBoundary.prepareSuccessView(new UseMoveOutputData(
+                        battle, message, false, null, team.getActivePokemon(), battle.getCurrentTurnPokemon(),
+                        null, 0));
+            }
+            case PASS -> {
+                battle.switchTurn();
+                outputBoundary.prepareSuccessView(new UseMoveOutputData(
+                        battle, active.getName() + " can't do anything!\n", false, null,
+                        active, battle.getCurrentTurnPokemon(), null, 0));
+            }
+        }
+    }
 
+    /**
+     * Plays one move for the side whose turn it is and reports it.
+     *
+     * @return true if the move was played and the battle goes on
+     */
+    private boolean useMove(Battle battle, Move move) {
         // Validation: Check if move has PP
         if (move.getCurrentPp() <= 0) {
             outputBoundary.prepareFailView("Move has no PP left!");
-            return;
+            return false;
         }
 
         // Get current turn's Pokemon and opponent
@@ -50,7 +98,7 @@ public class UseMoveInteractor implements UseMoveInputBoundary {
         BattleStats defenderStats = battle.getBattleStatsMap().get(defender);
 
         // Execute the move!
-        move.useMove(attackerTeam, defenderTeam, attackerStats, defenderStats);
+        move.useMove(attackerTeam, defenderTeam, attackerStats, defenderStats, battle.getRandom());
 
         // Calculate damage dealt
         int damageDealt = defenderHpBefore - defender.getCurrentHP();
@@ -88,7 +136,7 @@ public class UseMoveInteractor implements UseMoveInputBoundary {
             );
 
             outputBoundary.prepareBattleEndView(outputData);
-            return;
+            return false;
         }
 
         // Switch turns
@@ -101,5 +149,6 @@ public class UseMoveInteractor implements UseMoveInputBoundary {
         );
 
         outputBoundary.prepareSuccessView(outputData);
+        return true;
     }
 }
\ No newline at end of file
@@ -186,6 +186,8 @@ public class BattlePanel extends JPanel implements PropertyChangeListener {
         battleLog.append("Go, " + newActive.getName() + "!\n");
         battleLog.append("It's now " + (battle.isTeam1Turn() ? "Player 1" : "Player 2") + "'s turn.\n\n");
         battleLog.setCaretPosition(battleLog.getDocument().getLength());
+        // switching costs the turn, so a computer Player 2 moves now
+        controller.playOpponentTurn(battle);
     }
 
     // Called when battle state changes (move executed)
@@ -1,7 +1,7 @@
 package view;
 
 import entity.*;
-import factory.pokemonFactory;
+import dataaccess.PokemonRepository;
 import interface_adapter.battle.*;
 import use_case.use_move.*;
 import use_case.start_battle.*;
@@ -64,8 +64,7 @@ public class DemoFrame extends JFrame {
 
     private JPanel createDetailPanel() {
         try {
-            pokemonFactory factory = new pokemonFactory("pikachu");
-            Pokemon pikachu = factory.getPokemon();
+            Pokemon pikachu = PokemonRepository.shared().loadAsync("pikachu").join();
             return new PokemonDetailPanel(pikachu);
         } catch (Exception e) {
             e.printStackTrace();
@@ -82,18 +81,14 @@ public class DemoFrame extends JFrame {
             PokemonTeam team2 = new PokemonTeam();
 
             // Team 1
-            pokemonFactory factory1 = new pokemonFactory("pikachu");
-            team1.addPokemon(factory1.getPokemon());
+            team1.addPokemon(PokemonRepository.shared().loadAsync("pikachu").join());
 
-            pokemonFactory factory2 = new pokemonFactory("charizard");
-            team1.addPokemon(factory2.getPokemon());
+            team1.addPokemon(PokemonRepository.shared().loadAsync("charizard").join());
 
             // Team 2
-            pokemonFactory factory3 = new pokemonFactory("blastoise");
-            team2.addPokemon(factory3.getPokemon());
+            team2.addPokemon(PokemonRepository.shared().loadAsync("blastoise").join());
 
-            pokemonFactory factory4 = new pokemonFactory("venusaur");
-            team2.addPokemon(factory4.getPokemon());
+            team2.addPokemon(PokemonRepository.shared().loadAsync("venusaur").join());
 
             // Start battle use case
             BattleViewModel battleViewModel = new BattleViewModel();
@@ -151,12 +146,10 @@ public class DemoFrame extends JFrame {
         try {
             // Create a simple battle for demo
             PokemonTeam team1 = new PokemonTeam();
-            pokemonFactory factory = new pokemonFactory("pikachu");
-            team1.addPokemon(factory.getPokemon());
+            team1.addPokemon(PokemonRepository.shared().loadAsync("pikachu").join());
 
             PokemonTeam team2 = new PokemonTeam();
-            pokemonFactory factory2 = new pokemonFactory("charizard");
-            team2.addPokemon(factory2.getPokemon());
+            team2.addPokemon(PokemonRepository.shared().loadAsync("charizard").join());
 
             Battle battle = new Battle(team1, team2);
 
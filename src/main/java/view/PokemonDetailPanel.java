@@ -17,6 +17,8 @@ public class PokemonDetailPanel extends JPanel {
     private final JLabel atkLabel = new JLabel();
     private final JLabel defLabel = new JLabel();
     private final JLabel imageLabel = new JLabel();
+    private final JLabel goodAgainstLabel = new JLabel();
+    private final JLabel weakAgainstLabel = new JLabel();
 
     public PokemonDetailPanel() {
         setLayout(new BorderLayout(10,10));
@@ -30,6 +32,8 @@ public class PokemonDetailPanel extends JPanel {
         atkLabel.setFont(atkLabel.getFont().deriveFont( 16f));
         defLabel.setFont(defLabel.getFont().deriveFont( 16f));
         typeLabel.setFont(typeLabel.getFont().deriveFont( 16f));
+        goodAgainstLabel.setFont(goodAgainstLabel.getFont().deriveFont(14f));
+        weakAgainstLabel.setFont(weakAgainstLabel.getFont().deriveFont(14f));
 
         info.add(nameLabel);
         info.add(Box.createVerticalStrut(5));
@@ -38,6 +42,9 @@ public class PokemonDetailPanel extends JPanel {
         info.add(hpLabel);
         info.add(atkLabel);
         info.add(defLabel);
+        info.add(Box.createVerticalStrut(5));
+        info.add(goodAgainstLabel);
+        info.add(weakAgainstLabel);
 
         imageLabel.setHorizontalAlignment(JLabel.CENTER);
         imageLabel.setPreferredSize(new Dimension(200, 200));
@@ -69,6 +76,8 @@ public class PokemonDetailPanel extends JPanel {
     }
 
     public void showPokemon(Pokemon p) {
+        goodAgainstLabel.setText("");
+        weakAgainstLabel.setText("");
         if (p == null) {
             nameLabel.setText("No Pokemon Selected");
             typeLabel.setText("");
@@ -101,6 +110,29 @@ public class PokemonDetailPanel extends JPanel {
         loadPokemonImage(p.getFrontSpriteUrl());
     }
 
+    /**
+     * Placeholder shown while a Pokemon is still being fetched.
+     */
+    public void showLoading(String pokemonName) {
+        nameLabel.setText(pokemonName);
+        typeLabel.setText("Loading...");
+        hpLabel.setText("");
+        atkLabel.setText("");
+        defLabel.setText("");
+        goodAgainstLabel.setText("");
+        weakAgainstLabel.setText("");
+        imageLabel.setIcon(null);
+        imageLabel.setText("[Loading " + pokemonName + "...]");
+    }
+
+    /**
+     * Shows which roster species the current Pokemon tends to beat or lose to 1v1.
+     */
+    public void showMatchupHints(List<String> goodAgainst, List<String> weakAgainst) {
+        goodAgainstLabel.setText(goodAgainst.isEmpty() ? "" : "Good against: " + String.join(", ", goodAgainst));
+        weakAgainstLabel.setText(weakAgainst.isEmpty() ? "" : "Weak against: " + String.join(", ", weakAgainst));
+    }
+
     private void loadPokemonImage(String imageUrl) {
         if (imageUrl == null || imageUrl.isEmpty() || "null".equals(imageUrl)) {
             imageLabel.setIcon(null);
@@ -5,27 +5,33 @@ import entity.GameState;
 import entity.Move;
 import entity.Pokemon;
 import entity.PokemonTeam;
-import factory.pokemonFactory;
+import dataaccess.PokemonRepository;
+import dataaccess.RosterPrefetcher;
+import dataaccess.SaveSlotManager;
 import interface_adapter.select_team.SelectTeamController;
 import interface_adapter.select_team.SelectTeamPresenter;
 import interface_adapter.select_team.SelectTeamViewModel;
-import use_case.game_state_persistence.SaveGameInteractor;
+import simulation.MatchupMatrix;
+import simulation.MatchupMatrixService;
 import use_case.select_team.SelectTeamInteractor;
 import use_case.select_team.SelectTeamOutputBoundary;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseMotionAdapter;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import javax.swing.filechooser.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 public class TeamSelectionScreen extends JPanel implements PropertyChangeListener {
     // List of 20 pokemon names (using names as IDs)
@@ -38,6 +44,16 @@ public class TeamSelectionScreen extends JPanel implements PropertyChangeListene
     private static String[] pokemonNames;
 
     private static final int MAX_TEAM_SIZE = 6;
+    private static final int MAX_MATCHUP_HINTS = 3;
+
+    // Shared by every selection screen so the matrix is only built once per run
+    private static CompletableFuture<MatchupMatrix> rosterMatchups;
+    // save slot reads and writes, kept off the EDT and in the order the player asked for them
+    private static final ExecutorService SLOT_IO = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-slots");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // LEFT-TOP: Pokemon info Panel
     private final PokemonDetailPanel detailPanel;
@@ -64,6 +80,11 @@ public class TeamSelectionScreen extends JPanel implements PropertyChangeListene
     private String currentlySelectedPokemonName = null;
     private final List<Move> currentlySelectedMoves = new ArrayList<>();
     private final Map<String, List<Move>> pokemonMovesCache = new HashMap<>();
+    private final PokemonRepository pokemonRepository = PokemonRepository.shared();
+    // Name of the Pokemon whose load is in progress, or null when nothing is loading
+    private String loadingPokemonName = null;
+    // Precomputed 1v1 matchups, null until the background job finishes
+    private MatchupMatrix matchups = null;
 
     // Clean Architecture dependencies
     private final SelectTeamController controller;
@@ -169,6 +190,14 @@ public class TeamSelectionScreen extends JPanel implements PropertyChangeListene
         moveScroll.setBorder(BorderFactory.createTitledBorder("Available Moves"));
         centerPanel.add(moveScroll, BorderLayout.CENTER);
 
+        // Matchup hints appear once the background simulation (or its disk cache) is ready
+        rosterMatchups().thenAccept(matrix -> SwingUtilities.invokeLater(() -> {
+            matchups = matrix;
+            if (currentlySelectedPokemonName != null) {
+                showMatchupHints(currentlySelectedPokemonName);
+            }
+        }));
+
         // RIGHT COLUMN: Pokemon List
         loadPokemonList();
         JList<String> pokemonList = new JList<>(pokemonListModel);
@@ -181,6 +210,16 @@ public class TeamSelectionScreen extends JPanel implements PropertyChangeListene
                 }
             }
         });
+        // Whatever the user points at is probably what they click next, so fetch it first
+        pokemonList.addMouseMotionListener(new MouseMotionAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                int index = pokemonList.locationToIndex(e.getPoint());
+                if (index >= 0) {
+                    RosterPrefetcher.shared().prioritize(pokemonListModel.get(index));
+                }
+            }
+        });
 
         JScrollPane pokemonScroll = new JScrollPane(pokemonList);
         pokemonScroll.setBorder(BorderFactory.createTitledBorder("Pokemon List"));
@@ -189,6 +228,42 @@ public class TeamSelectionScreen extends JPanel implements PropertyChangeListene
         centerPanel.add(pokemonScroll, BorderLayout.EAST);
     }
 
+    /**
+     * The fixed roster of species players can choose from, in display order.
+     */
+    public static List<String> getRosterNames() {
+        return List.of(POKEMON_NAMES);
+    }
+
+    private static synchronized CompletableFuture<MatchupMatrix> rosterMatchups() {
+        if (rosterMatchups == null) {
+            ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "matchup-matrix");
+                thread.setDaemon(true);
+                return thread;
+            });
+            rosterMatchups = MatchupMatrixService.shared()
+                    .rosterMatrixAsync(PokemonRepository.shared(), getRosterNames(), worker)
+                    .whenComplete((matrix, error) -> {
+                        worker.shutdown();
+                        if (error != null) {
+                            // hints are optional, the screen works the same without them
+                            System.err.println("Matchup hints unavailable: " + error.getMessage());
+                        }
+                    });
+        }
+        return rosterMatchups;
+    }
+
+    private void showMatchupHints(String pokemonName) {
+        if (matchups == null || !matchups.contains(pokemonName)) {
+            return;
+        }
+        detailPanel.showMatchupHints(
+                matchups.goodAgainst(pokemonName, MAX_MATCHUP_HINTS),
+                matchups.weakAgainst(pokemonName, MAX_MATCHUP_HINTS));
+    }
+
     private void loadPokemonList() {
         // Load pokemon names into the list
         for (String name : POKEMON_NAMES) {
@@ -204,37 +279,64 @@ public class TeamSelectionScreen extends JPanel implements PropertyChangeListene
         selectedMovesModel.clear();
         moveListModel.clear();
 
-        // Load pokemon if not cached
-        if (!pokemonCache.containsKey(pokemonName)) {
-            try {
-                pokemonFactory factory = new pokemonFactory(pokemonName);
-                Pokemon pokemon = factory.getPokemon();
-                pokemonCache.put(pokemonName, pokemon);
-
-                // Cache moves
-                Move[] moves = pokemon.getMoves();
-                List<Move> moveList = new ArrayList<>();
-                for (Move move : moves) {
-                    if (move != null) {
-                        moveList.add(move);
-                    }
+        if (pokemonCache.containsKey(pokemonName)) {
+            loadingPokemonName = null;
+            addToTeamButton.setEnabled(true);
+            showSelectedPokemon(pokemonName);
+            return;
+        }
+
+        // Load in the background so the EDT stays responsive; the callback hops back onto it
+        loadingPokemonName = pokemonName;
+        detailPanel.showLoading(pokemonName);
+        addToTeamButton.setEnabled(false);
+        pokemonRepository.loadAsync(pokemonName).whenComplete((pokemon, error) ->
+                SwingUtilities.invokeLater(() -> onPokemonLoaded(pokemonName, pokemon, error)));
+    }
+
+    private void onPokemonLoaded(String pokemonName, Pokemon pokemon, Throwable error) {
+        if (pokemon != null) {
+            pokemonCache.put(pokemonName, pokemon);
+
+            // Cache moves
+            Move[] moves = pokemon.getMoves();
+            List<Move> moveList = new ArrayList<>();
+            for (Move move : moves) {
+                if (move != null) {
+                    moveList.add(move);
                 }
-                pokemonMovesCache.put(pokemonName, moveList);
-            }
-            catch (Exception exception) {
-                JOptionPane.showMessageDialog(
-                        this,
-                        "Error loading Pokemon: " + exception.getMessage(),
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE
-                );
-                return;
             }
+            pokemonMovesCache.put(pokemonName, moveList);
         }
 
+        // The user clicked another Pokemon while this one was loading
+        if (!pokemonName.equals(loadingPokemonName)) {
+            return;
+        }
+        loadingPokemonName = null;
+        addToTeamButton.setEnabled(true);
+
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            detailPanel.showPokemon((Pokemon) null);
+            JOptionPane.showMessageDialog(
+                    this,
+                    "Error loading Pokemon: " + cause.getMessage(),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE
+            );
+            return;
+        }
+
+        showSelectedPokemon(pokemonName);
+    }
+
+    private void showSelectedPokemon(String pokemonName) {
         currentlySelectedPokemon = pokemonCache.get(pokemonName);
         currentlySelectedPokemonName = pokemonName;
         detailPanel.showPokemon(currentlySelectedPokemon);
+        showMatchupHints(pokemonName);
 
         // Load available moves
         List<Move> moves = pokemonMovesCache.get(pokemonName);
@@ -426,74 +528,124 @@ public class TeamSelectionScreen extends JPanel implements PropertyChangeListene
     // ==================== MANUAL SAVE / LOAD ====================
 
     private void saveGame() {
-        final JFileChooser chooser = new JFileChooser();
-        chooser.setCurrentDirectory(new File("resources"));
-        chooser.setDialogTitle("Save Your Pokémon Team");
-        chooser.setFileFilter(new FileNameExtensionFilter("Pokémon Save File (*.json)", "json"));
-        chooser.setSelectedFile(new File("My Team Save.json"));
-
-        final int result = chooser.showSaveDialog(this);
-        if (result == JFileChooser.APPROVE_OPTION) {
-            final File file = chooser.getSelectedFile();
-            String path = file.getAbsolutePath();
-            if (!path.toLowerCase().endsWith(".json")) {
-                path += ".json";
-            }
-
-            if (new File(path).exists()) {
-                final int confirm = JOptionPane.showConfirmDialog(this,
-                        "File already exists! Overwrite?", "Confirm",
-                        JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
-                if (confirm != JOptionPane.YES_OPTION) return;
-            }
+        final String name = (String) JOptionPane.showInputDialog(this,
+                "Name this save:", "Save Your Pokémon Team",
+                JOptionPane.PLAIN_MESSAGE, null, null, "My Team Save");
+        if (name == null) return;
+        try {
+            SaveSlotManager.idFor(name);
+        }
+        catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this,
+                    "Save failed: " + ex.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            try {
-                final GameState state = app.GameOrchestrator.getCurrent();
-                final String json = SaveGameInteractor.toJson(state).toString(4);
-                Files.createDirectories(Paths.get("resources"));
-                Files.writeString(Paths.get(path), json);
+        // the slot is written off the EDT, so it gets its own copy of the teams
+        final GameState state = app.GameOrchestrator.getCurrent().copy();
+        CompletableFuture.supplyAsync(() -> SaveSlotManager.shared().exists(name), SLOT_IO)
+                .whenComplete((exists, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        showSlotError("Save failed", error);
+                        return;
+                    }
+                    if (exists) {
+                        final int confirm = JOptionPane.showConfirmDialog(this,
+                                "A save with this name already exists! Overwrite?", "Confirm",
+                                JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                        if (confirm != JOptionPane.YES_OPTION) return;
+                    }
+                    writeSlot(name, state);
+                }));
+    }
 
-                JOptionPane.showMessageDialog(this,
-                        "Saved successfully!\n" + new File(path).getName(),
-                        "Save Complete", JOptionPane.INFORMATION_MESSAGE);
-            }
-            catch (IOException ex) {
-                JOptionPane.showMessageDialog(this,
-                        "Save failed: " + ex.getMessage(),
-                        "Error", JOptionPane.ERROR_MESSAGE);
-            }
-        }
+    private void writeSlot(String name, GameState state) {
+        CompletableFuture.supplyAsync(() -> SaveSlotManager.shared().save(name, state), SLOT_IO)
+                .whenComplete((saved, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        showSlotError("Save failed", error);
+                    }
+                    else if (saved == null) {
+                        JOptionPane.showMessageDialog(this,
+                                "Save failed, see the log for details.",
+                                "Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                    else {
+                        JOptionPane.showMessageDialog(this,
+                                "Saved successfully!\n" + saved.name(),
+                                "Save Complete", JOptionPane.INFORMATION_MESSAGE);
+                    }
+                }));
     }
 
     private void loadGame() {
-        final JFileChooser chooser = new JFileChooser();
-        chooser.setCurrentDirectory(new File("resources"));
-        chooser.setDialogTitle("Load a Saved Game");
-        chooser.setFileFilter(new FileNameExtensionFilter("Pokémon Save File (*.json)", "json"));
-
-        final int result = chooser.showOpenDialog(this);
-        if (result == JFileChooser.APPROVE_OPTION) {
-            final File file = chooser.getSelectedFile();
-            try {
-                final String content = Files.readString(Paths.get(file.getAbsolutePath()));
-                final org.json.JSONObject json = new org.json.JSONObject(content);
-                final GameState loaded = SaveGameInteractor.fromJson(json);
-
-                if (loaded != null) {
+        // the first list() may have to read slot files the index doesn't know yet
+        CompletableFuture.supplyAsync(() -> SaveSlotManager.shared().list(), SLOT_IO)
+                .whenComplete((saves, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        showSlotError("Load failed", error);
+                    }
+                    else {
+                        chooseSlot(saves);
+                    }
+                }));
+    }
+
+    private void chooseSlot(List<SaveSlotManager.SlotInfo> saves) {
+        if (saves.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "There are no saved games yet.",
+                    "Load a Saved Game", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        final DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+                .withZone(ZoneId.systemDefault());
+        final JList<SaveSlotManager.SlotInfo> list = new JList<>(saves.toArray(new SaveSlotManager.SlotInfo[0]));
+        list.setSelectedIndex(0);
+        list.setVisibleRowCount(Math.min(saves.size(), 10));
+        list.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> jList, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                final SaveSlotManager.SlotInfo slot = (SaveSlotManager.SlotInfo) value;
+                final String text = slot.name() + "  —  level " + slot.towerLevel()
+                        + "  —  " + format.format(slot.savedAt())
+                        + (slot.teamPreview().isEmpty() ? "" : "  —  " + String.join(", ", slot.teamPreview()));
+                return super.getListCellRendererComponent(jList, text, index, isSelected, cellHasFocus);
+            }
+        });
+
+        final int result = JOptionPane.showConfirmDialog(this, new JScrollPane(list),
+                "Load a Saved Game", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        final SaveSlotManager.SlotInfo slot = list.getSelectedValue();
+        if (result != JOptionPane.OK_OPTION || slot == null) return;
+
+        CompletableFuture.supplyAsync(() -> SaveSlotManager.shared().open(slot.id()), SLOT_IO)
+                .whenComplete((loaded, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null || loaded == null) {
+                        JOptionPane.showMessageDialog(this,
+                                "Load failed: " + slot.name() + " could not be read.",
+                                "Error", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+
                     app.GameOrchestrator.updateState(loaded);
                     reloadTeamSelectionScreen();
 
                     JOptionPane.showMessageDialog(this,
-                            "Loaded: " + file.getName() + "\nYour team is ready!",
+                            "Loaded: " + slot.name() + "\nYour team is ready!",
                             "Load Complete", JOptionPane.INFORMATION_MESSAGE);
-                }
-            }
-            catch (IOException ex) {
-                JOptionPane.showMessageDialog(this,
-                        "Load failed: " + ex.getMessage(),
-                        "Error", JOptionPane.ERROR_MESSAGE);
-            }
-        }
+                }));
+    }
+
+    private void showSlotError(String what, Throwable error) {
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        JOptionPane.showMessageDialog(this,
+                what + ": " + cause.getMessage(),
+                "Error", JOptionPane.ERROR_MESSAGE);
     }
 
     private void reloadTeamSelectionScreen() {
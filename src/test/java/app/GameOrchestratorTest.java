@@ -26,8 +26,10 @@ public class GameOrchestratorTest {
     @After
     public void cleanup() {
         // Ensure clean state before and after each test
+        GameOrchestrator.flush();
         try {
             Files.deleteIfExists(SAVE_FILE);
+            Files.deleteIfExists(JsonGameRepository.backupOf(SAVE_FILE));
         } catch (IOException ignored) {}
         GameOrchestratorTestHelper.clearCurrentState();
     }
@@ -44,6 +46,7 @@ public class GameOrchestratorTest {
         assertEquals(GameState.Player.PLAYER1, state.activeTeamSelector());
         assertEquals(1, state.currentTowerLevel());
         assertEquals(0, state.highScore());
+        assertTrue(GameOrchestrator.flush());
         assertTrue(Files.exists(SAVE_FILE)); // autoSave() was called
     }
 
@@ -87,6 +90,7 @@ public class GameOrchestratorTest {
 
 // Assert: save file should be deleted
         assertFalse("Save file should be deleted", Files.exists(SAVE_FILE));
+        assertFalse("Backup should be deleted", Files.exists(JsonGameRepository.backupOf(SAVE_FILE)));
 
         GameState state = GameOrchestrator.getCurrent();
         assertEquals(GameState.Screen.TEAM_SELECTION, state.currentScreen());
@@ -114,6 +118,7 @@ public class GameOrchestratorTest {
 
         // Assert
         assertSame(newState, GameOrchestrator.getCurrent());
+        assertTrue(GameOrchestrator.flush());
         assertTrue(Files.exists(SAVE_FILE));
 
         // Verify file actually contains the new state
@@ -127,4 +132,21 @@ public class GameOrchestratorTest {
         GameOrchestrator.init();
         assertNotNull(GameOrchestrator.getCurrent());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void advanceTowerLevel_ShouldRaiseLevelAndHighScore() {
+        GameOrchestrator.updateState(new GameState(
+                GameState.Screen.BATTLE, GameState.Player.PLAYER1,
+                new PokemonTeam(), new PokemonTeam(), null, 3, 7));
+
+        GameState fourth = GameOrchestrator.advanceTowerLevel();
+        assertEquals(4, fourth.currentTowerLevel());
+        assertEquals(7, fourth.highScore());
+
+        for (int i = 0; i < 4; i++) {
+            GameOrchestrator.advanceTowerLevel();
+        }
+        assertEquals(8, GameOrchestrator.getCurrent().currentTowerLevel());
+        assertEquals(8, GameOrchestrator.getCurrent().highScore());
+    }
+}
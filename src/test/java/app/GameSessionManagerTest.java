@@ -0,0 +1,187 @@
+package app;
+
+import dataaccess.JsonGameRepository;
+import entity.GameState;
+import entity.PokemonFixtures;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionManagerTest {
+
+    @TempDir
+    Path dir;
+
+    private final MutableClock clock = new MutableClock();
+    private GameSessionManager manager;
+
+    /** A clock the test moves by hand. */
+    private static final class MutableClock extends Clock {
+        private volatile long millis = 1_000_000;
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    @AfterEach
+    void close() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    private static GameState withScore(GameState state, int score) {
+        return new GameState(state.currentScreen(), state.activeTeamSelector(), state.player1Team(),
+                state.player2Team(), state.battlePhase(), state.currentTowerLevel(), score);
+    }
+
+    @Test
+    void sessions_AreIndependentAndSavedToTheirOwnFiles() {
+        manager = new GameSessionManager(dir, Duration.ofMinutes(1), clock);
+
+        manager.update("alice", state -> withScore(state, 10));
+        manager.update("bob", state -> withScore(state, 20));
+
+        assertEquals(10, manager.get("alice").highScore());
+        assertEquals(20, manager.get("bob").highScore());
+        assertTrue(manager.flush());
+        assertEquals(10, JsonGameRepository.load(manager.fileOf("alice")).highScore());
+        assertEquals(20, JsonGameRepository.load(manager.fileOf("bob")).highScore());
+    }
+
+    @Test
+    void compareAndSet_FailsForAStateThatIsNoLongerCurrent() {
+        manager = new GameSessionManager(dir, Duration.ofMinutes(1), clock);
+        GameState first = manager.get("game");
+        GameState second = withScore(first, 1);
+
+        assertTrue(manager.compareAndSet("game", first, second));
+        assertFalse(manager.compareAndSet("game", first, withScore(first, 2)));
+        assertSame(second, manager.get("game"));
+    }
+
+    @Test
+    void set_SavesTheSameStateAgainAfterItsTeamChangedInPlace() {
+        manager = new GameSessionManager(dir, Duration.ofMinutes(1), clock);
+        GameState state = manager.get("game");
+        assertTrue(manager.flush());
+
+        state.player1Team().addPokemon(PokemonFixtures.pokemon("pikachu", "electric", 50));
+        manager.set("game", state);
+        // changed after it was stored, without telling the manager
+        state.player1Team().addPokemon(PokemonFixtures.pokemon("eevee", "normal", 50));
+
+        assertTrue(manager.flush());
+        PokemonTeam saved = JsonGameRepository.load(manager.fileOf("game")).player1Team();
+        assertEquals(1, saved.getTeam().size());
+        assertEquals("pikachu", saved.getTeam().get(0).getName());
+    }
+
+    @Test
+    void evictIdle_WritesIdleSessionsOutAndReloadsThemOnUse() {
+        manager = new GameSessionManager(dir, Duration.ofMinutes(1), clock);
+        manager.set("idle", withScore(GameSessionManager.newGameState(), 5));
+        clock.advance(Duration.ofSeconds(45));
+        manager.get("busy");
+        clock.advance(Duration.ofSeconds(30));
+
+        assertEquals(1, manager.evictIdle());
+
+        assertFalse(manager.isLoaded("idle"));
+        assertTrue(manager.isLoaded("busy"));
+        assertTrue(Files.exists(manager.fileOf("idle")));
+        assertEquals(5, manager.get("idle").highScore());
+        assertTrue(manager.isLoaded("idle"));
+    }
+
+    @Test
+    void update_LosesNothingAcrossThreadsWhileSessionsAreEvicted() throws Exception {
+        // every session counts as idle, so the evictor keeps dropping sessions mid-update
+        manager = new GameSessionManager(dir, Duration.ZERO, clock);
+        int sessions = 50;
+        int threads = 8;
+        int increments = 200;
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        try {
+            Future<?> evictions = pool.submit(() -> {
+                while (running.get()) {
+                    manager.evictIdle();
+                }
+            });
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < increments; i++) {
+                        for (int s = 0; s < sessions; s++) {
+                            manager.update("s" + s, state -> withScore(state, state.highScore() + 1));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            running.set(false);
+            evictions.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int s = 0; s < sessions; s++) {
+            assertEquals(threads * increments, manager.get("s" + s).highScore(), "s" + s);
+        }
+        manager.close();
+        for (int s = 0; s < sessions; s++) {
+            assertEquals(threads * increments, JsonGameRepository.load(dir.resolve("s" + s + ".sav")).highScore());
+        }
+        assertThrows(IllegalStateException.class, () -> manager.get("s0"));
+        assertThrows(IllegalStateException.class, () -> manager.update("s1", state -> withScore(state, 0)));
+    }
+
+    @Test
+    void get_RejectsIdsThatArentFileSafe() {
+        manager = new GameSessionManager(dir, Duration.ofMinutes(1), clock);
+
+        assertThrows(IllegalArgumentException.class, () -> manager.get("../autosave"));
+        assertThrows(IllegalArgumentException.class, () -> manager.get(""));
+    }
+}
@@ -0,0 +1,123 @@
+package dataaccess;
+
+import entity.BaseLevelStats;
+import entity.GameState;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoSaverTest {
+
+    private static GameState state(int level) {
+        return new GameState(GameState.Screen.BATTLE, GameState.Player.PLAYER1,
+                new PokemonTeam(), new PokemonTeam(), null, level, 0);
+    }
+
+    @Test
+    void submit_BurstWhileWritingIsCoalescedIntoTheLatestState() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        AutoSaver saver = new AutoSaver(state -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(state.currentTowerLevel());
+        });
+
+        saver.submit(state(1));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        saver.submit(state(2));
+        saver.submit(state(3));
+        saver.submit(state(4));
+        release.countDown();
+
+        assertTrue(saver.flush(Duration.ofSeconds(5)));
+        assertEquals(List.of(1, 4), written);
+        AutoSaver.Metrics metrics = saver.metrics();
+        assertEquals(2, metrics.saves());
+        assertEquals(2, metrics.dropped());
+        assertEquals(0, metrics.failures());
+        assertTrue(metrics.maxLatency().compareTo(metrics.averageLatency()) >= 0);
+    }
+
+    @Test
+    void flush_GivesUpAfterTheTimeoutWhenTheWriterIsStuck() {
+        CountDownLatch release = new CountDownLatch(1);
+        AutoSaver saver = new AutoSaver(state -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        saver.submit(state(1));
+        assertFalse(saver.flush(Duration.ofMillis(50)));
+        release.countDown();
+        assertTrue(saver.flush(Duration.ofSeconds(5)));
+        assertEquals(1, saver.metrics().saves());
+    }
+
+    @Test
+    void submit_FailedWriteIsCountedAndLaterStatesStillSave() {
+        List<Integer> written = new CopyOnWriteArrayList<>();
+        AutoSaver saver = new AutoSaver(state -> {
+            if (state.currentTowerLevel() == 1) {
+                throw new IllegalStateException("disk full");
+            }
+            written.add(state.currentTowerLevel());
+        });
+
+        saver.submit(state(1));
+        assertFalse(saver.flush(Duration.ofSeconds(5)));
+        saver.submit(state(2));
+        assertTrue(saver.flush(Duration.ofSeconds(5)));
+
+        assertEquals(List.of(2), written);
+        assertEquals(1, saver.metrics().failures());
+        assertEquals(1, saver.metrics().saves());
+    }
+
+    @Test
+    void failingOnFalse_SaveReturningFalseCountsAsAFailure() {
+        AutoSaver saver = new AutoSaver(AutoSaver.failingOnFalse(state -> false));
+
+        saver.submit(state(1));
+
+        assertFalse(saver.flush(Duration.ofSeconds(5)));
+        assertEquals(1, saver.metrics().failures());
+        assertEquals(0, saver.metrics().saves());
+    }
+
+    @Test
+    void submit_WriterGetsACopyOfTheTeams() {
+        List<GameState> written = new CopyOnWriteArrayList<>();
+        AutoSaver saver = new AutoSaver(written::add);
+        PokemonTeam team = new PokemonTeam();
+        BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(50).attack(50).defense(50).specialAttack(50).specialDefense(50).speed(50)
+                .build();
+        team.addPokemon(new Pokemon("pikachu", stats, List.of("electric")));
+        GameState state = new GameState(GameState.Screen.BATTLE, GameState.Player.PLAYER1,
+                team, new PokemonTeam(), null, 1, 0);
+
+        saver.submit(state);
+        // the battle goes on on the caller's thread
+        team.getActivePokemon().takeDamage(20);
+
+        assertTrue(saver.flush(Duration.ofSeconds(5)));
+        assertEquals(50, written.get(0).player1Team().getActivePokemon().getCurrentHP());
+    }
+}
@@ -0,0 +1,149 @@
+package dataaccess;
+
+import entity.BaseLevelStats;
+import entity.GameState;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static entity.PokemonFixtures.team;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static Pokemon pokemon(String name, int hp) {
+        BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(hp).attack(50).defense(50).specialAttack(50).specialDefense(50).speed(50)
+                .build();
+        Pokemon pokemon = new Pokemon(name, stats, List.of("normal"));
+        pokemon.getMoves()[0] = new Move("tackle", "normal", 35, "tackle move", "physical", 100, 35);
+        pokemon.getMoves()[1] = new Move("growl", "normal", 40, "growl move", "status", 100, 40);
+        return pokemon;
+    }
+
+    private static GameState battle(PokemonTeam team1, PokemonTeam team2, int turnIndex) {
+        return new GameState(GameState.Screen.BATTLE, GameState.Player.PLAYER1, team1, team2,
+                new GameState.BattlePhase(GameState.Turn.PLAYER1, turnIndex, 0), 3, 5);
+    }
+
+    @Test
+    void record_AppendsOnlyWhatChangedAndRecoversTheLatestState() throws IOException {
+        Path snapshot = dir.resolve("game.json");
+        GameJournal journal = new GameJournal(snapshot);
+        PokemonTeam team1 = team(pokemon("pikachu", 100), pokemon("snorlax", 160));
+        PokemonTeam team2 = team(pokemon("eevee", 90));
+
+        assertTrue(journal.record(battle(team1, team2, 0)));
+        assertTrue(Files.exists(snapshot));
+
+        team2.getActivePokemon().takeDamage(30);
+        team1.getActivePokemon().getMoves()[0].setCurrentPp(34);
+        assertTrue(journal.record(battle(team1, team2, 0)));
+        team1.switchActivePokemon(1);
+        assertTrue(journal.record(battle(team1, team2, 1)));
+        journal.close();
+
+        List<String> lines = Files.readAllLines(journal.getJournalFile());
+        assertEquals(2, lines.size());
+        // nothing but the changed numbers: no species data, no move lists
+        assertFalse(lines.get(0).contains("baseStats"));
+        assertTrue(lines.get(1).contains("\"swap\""));
+
+        GameState recovered = new GameJournal(snapshot).recover();
+        assertEquals(60, recovered.player2Team().getActivePokemon().getCurrentHP());
+        assertEquals("snorlax", recovered.player1Team().getActivePokemon().getName());
+        assertEquals(34, recovered.player1Team().getTeam().get(1).getMoves()[0].getCurrentPp());
+        assertEquals(1, recovered.battlePhase().player1ActiveIndex());
+    }
+
+    @Test
+    void record_CompactsIntoASnapshotEveryInterval() throws IOException {
+        Path snapshot = dir.resolve("game.json");
+        GameJournal journal = new GameJournal(snapshot, 3);
+        PokemonTeam team1 = team(pokemon("pikachu", 100));
+        PokemonTeam team2 = team(pokemon("eevee", 100));
+        journal.record(battle(team1, team2, 0));
+
+        for (int i = 0; i < 4; i++) {
+            team2.getActivePokemon().takeDamage(10);
+            journal.record(battle(team1, team2, 0));
+        }
+        journal.close();
+
+        assertEquals(1, Files.readAllLines(journal.getJournalFile()).size());
+        // the snapshot is a normal save on its own
+        assertEquals(70, JsonGameRepository.load(snapshot).player2Team().getActivePokemon().getCurrentHP());
+        assertEquals(60, new GameJournal(snapshot).recover().player2Team().getActivePokemon().getCurrentHP());
+    }
+
+    @Test
+    void recover_IgnoresATornLastLineAndKeepsRecordingAfterIt() throws IOException {
+        Path snapshot = dir.resolve("game.json");
+        GameJournal journal = new GameJournal(snapshot);
+        PokemonTeam team1 = team(pokemon("pikachu", 100));
+        PokemonTeam team2 = team(pokemon("eevee", 100));
+        journal.record(battle(team1, team2, 0));
+        team2.getActivePokemon().takeDamage(25);
+        journal.record(battle(team1, team2, 0));
+        journal.close();
+        Files.writeString(journal.getJournalFile(), "{\"seq\":2,\"ev", StandardOpenOption.APPEND);
+
+        GameJournal reopened = new GameJournal(snapshot);
+        GameState recovered = reopened.recover();
+        assertEquals(75, recovered.player2Team().getActivePokemon().getCurrentHP());
+
+        recovered.player2Team().getActivePokemon().takeDamage(5);
+        reopened.record(recovered);
+        reopened.close();
+        assertEquals(70, new GameJournal(snapshot).recover().player2Team().getActivePokemon().getCurrentHP());
+    }
+
+    @Test
+    void replay_WalksEveryRecordedState() {
+        Path snapshot = dir.resolve("game.json");
+        GameJournal journal = new GameJournal(snapshot);
+        PokemonTeam team1 = team(pokemon("pikachu", 100));
+        PokemonTeam team2 = team(pokemon("eevee", 100));
+        journal.record(battle(team1, team2, 0));
+        team1.addPokemon(pokemon("snorlax", 160));
+        journal.record(battle(team1, team2, 0));
+        team2.getActivePokemon().takeDamage(100);
+        journal.record(new GameState(GameState.Screen.GAME_OVER, GameState.Player.PLAYER1,
+                team1, team2, null, 4, 5));
+        journal.close();
+
+        List<GameState> states = new ArrayList<>();
+        GameState last = GameJournal.replay(snapshot, states::add);
+
+        assertEquals(3, states.size());
+        assertEquals(1, states.get(0).player1Team().getTeam().size());
+        assertEquals(2, states.get(1).player1Team().getTeam().size());
+        assertEquals(GameState.Screen.GAME_OVER, last.currentScreen());
+        assertNull(last.battlePhase());
+        assertEquals(4, last.currentTowerLevel());
+        assertEquals(0, last.player2Team().getActivePokemon().getCurrentHP());
+    }
+
+    @Test
+    void reset_ForgetsTheSavedGame() {
+        Path snapshot = dir.resolve("game.json");
+        GameJournal journal = new GameJournal(snapshot);
+        journal.record(battle(team(pokemon("pikachu", 100)), team(pokemon("eevee", 100)), 0));
+
+        journal.reset();
+
+        assertNull(new GameJournal(snapshot).recover());
+    }
+}
@@ -0,0 +1,271 @@
+package dataaccess;
+
+import entity.GameState;
+import entity.PokemonFixtures;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonGameRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private static GameState state(int level) {
+        return new GameState(GameState.Screen.BATTLE, GameState.Player.PLAYER1,
+                new PokemonTeam(), new PokemonTeam(), null, level, 0);
+    }
+
+    @Test
+    void save_KeepsThePreviousSaveAsBackupAndLeavesNoTempFiles() throws IOException {
+        Path file = dir.resolve("saves/slot.json");
+
+        assertTrue(JsonGameRepository.save(state(1), file));
+        assertTrue(JsonGameRepository.save(state(2), file));
+
+        assertEquals(2, JsonGameRepository.load(file).currentTowerLevel());
+        assertEquals(1, JsonGameRepository.load(JsonGameRepository.backupOf(file)).currentTowerLevel());
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void save_NeverLeavesTheSavePathMissing() throws Exception {
+        Path file = dir.resolve("slot.json");
+        JsonGameRepository.save(state(0), file);
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= 200; i++) {
+                JsonGameRepository.save(state(i), file);
+            }
+        });
+
+        writer.start();
+        while (writer.isAlive()) {
+            assertTrue(Files.exists(file));
+        }
+        writer.join();
+
+        assertEquals(200, JsonGameRepository.load(file).currentTowerLevel());
+        assertEquals(199, JsonGameRepository.load(JsonGameRepository.backupOf(file)).currentTowerLevel());
+    }
+
+    @Test
+    void load_FallsBackToTheBackupWhenTheSaveIsTruncated() throws IOException {
+        Path file = dir.resolve("slot.json");
+        JsonGameRepository.save(state(7), file);
+        JsonGameRepository.save(state(8), file);
+
+        String content = Files.readString(file);
+        Files.writeString(file, content.substring(0, content.length() / 2));
+
+        assertEquals(7, JsonGameRepository.load(file).currentTowerLevel());
+    }
+
+    @Test
+    void load_FallsBackToTheBackupWhenTheSaveIsMissing() throws IOException {
+        Path file = dir.resolve("slot.json");
+        JsonGameRepository.save(state(3), file);
+        JsonGameRepository.save(state(4), file);
+        // as if the save had been deleted by hand
+        Files.delete(file);
+
+        assertEquals(3, JsonGameRepository.load(file).currentTowerLevel());
+    }
+
+    @Test
+    void load_ReturnsNullWhenNothingIsReadable() throws IOException {
+        Path file = dir.resolve("slot.json");
+        assertNull(JsonGameRepository.load(file));
+
+        Files.writeString(file, "{\"currentScreen\":");
+        assertNull(JsonGameRepository.load(file));
+    }
+
+    @Test
+    void save_WorksUnderEverySyncPolicy() {
+        JsonGameRepository.SyncPolicy previous = JsonGameRepository.getSyncPolicy();
+        try {
+            for (JsonGameRepository.SyncPolicy policy : JsonGameRepository.SyncPolicy.values()) {
+                JsonGameRepository.setSyncPolicy(policy);
+                Path file = dir.resolve(policy + ".json");
+                assertTrue(JsonGameRepository.save(state(policy.ordinal() + 1), file));
+                assertEquals(policy.ordinal() + 1, JsonGameRepository.load(file).currentTowerLevel());
+            }
+        } finally {
+            JsonGameRepository.setSyncPolicy(previous);
+        }
+    }
+
+    @Test
+    void load_ReadsBinaryAndJsonSavesWhateverTheCurrentFormat() {
+        Path file = dir.resolve("slot.sav");
+        JsonGameRepository.SaveFormat previous = JsonGameRepository.getSaveFormat();
+        try {
+            JsonGameRepository.setSaveFormat(JsonGameRepository.SaveFormat.JSON);
+            JsonGameRepository.save(state(5), file);
+            JsonGameRepository.setSaveFormat(JsonGameRepository.SaveFormat.BINARY);
+            JsonGameRepository.save(state(6), file);
+
+            assertEquals(6, JsonGameRepository.load(file).currentTowerLevel());
+            assertEquals(5, JsonGameRepository.load(JsonGameRepository.backupOf(file)).currentTowerLevel());
+        } finally {
+            JsonGameRepository.setSaveFormat(previous);
+        }
+    }
+
+    @Test
+    void load_RecognisesEveryCodecWhateverTheCurrentSetting() throws IOException {
+        JsonGameRepository.SaveFormat previousFormat = JsonGameRepository.getSaveFormat();
+        SaveCodec previousCodec = JsonGameRepository.getCompression();
+        GameState state = PokemonFixtures.savedBattle();
+        try {
+            long plain = 0;
+            for (JsonGameRepository.SaveFormat format : JsonGameRepository.SaveFormat.values()) {
+                for (StandardSaveCodec codec : StandardSaveCodec.values()) {
+                    JsonGameRepository.setSaveFormat(format);
+                    JsonGameRepository.setCompression(codec);
+                    Path file = dir.resolve(format + "-" + codec + ".sav");
+                    assertTrue(JsonGameRepository.save(state, file));
+
+                    JsonGameRepository.setCompression(StandardSaveCodec.NONE);
+                    assertEquals(12, JsonGameRepository.load(file).currentTowerLevel(), format + "/" + codec);
+                    if (format == JsonGameRepository.SaveFormat.JSON && codec == StandardSaveCodec.NONE) {
+                        plain = Files.size(file);
+                    } else if (format == JsonGameRepository.SaveFormat.JSON) {
+                        assertTrue(Files.size(file) * 5 < plain, codec + ": " + Files.size(file) + " of " + plain);
+                    }
+                }
+            }
+        } finally {
+            JsonGameRepository.setSaveFormat(previousFormat);
+            JsonGameRepository.setCompression(previousCodec);
+        }
+    }
+
+    @Test
+    void read_ClosesTheDecompressorButNotTheCallersStream() throws IOException {
+        boolean[] closed = new boolean[2];
+        // "TRK!" and then the save as is; only tells whether its stream was closed
+        SaveCodec tracking = new SaveCodec() {
+            @Override
+            public String name() {
+                return "tracking";
+            }
+
+            @Override
+            public boolean recognizes(byte[] header) {
+                return header.length >= 4 && header[0] == 'T' && header[1] == 'R' && header[2] == 'K' && header[3] == '!';
+            }
+
+            @Override
+            public OutputStream compress(OutputStream out) throws IOException {
+                out.write("TRK!".getBytes(StandardCharsets.US_ASCII));
+                return out;
+            }
+
+            @Override
+            public InputStream decompress(InputStream in) throws IOException {
+                in.readNBytes(4);
+                return new FilterInputStream(in) {
+                    @Override
+                    public void close() throws IOException {
+                        closed[0] = true;
+                        super.close();
+                    }
+                };
+            }
+        };
+        JsonGameRepository.registerCodec(tracking);
+        ByteArrayOutputStream saved = new ByteArrayOutputStream();
+        JsonGameRepository.write(state(6), JsonGameRepository.SaveFormat.JSON, tracking.compress(saved));
+        InputStream in = new ByteArrayInputStream(saved.toByteArray()) {
+            @Override
+            public void close() {
+                closed[1] = true;
+            }
+        };
+
+        assertEquals(6, JsonGameRepository.read(in).currentTowerLevel());
+        assertTrue(closed[0], "decompressor closed");
+        assertFalse(closed[1], "caller's stream closed");
+    }
+
+    @Test
+    void setCompression_TakesCustomCodecs() {
+        // "XOR!" then every byte flipped; enough to show the codec is really used both ways
+        SaveCodec xor = new SaveCodec() {
+            private final byte[] magic = "XOR!".getBytes(StandardCharsets.US_ASCII);
+
+            @Override
+            public String name() {
+                return "xor";
+            }
+
+            @Override
+            public boolean recognizes(byte[] header) {
+                return header.length >= 4 && header[0] == 'X' && header[1] == 'O' && header[2] == 'R' && header[3] == '!';
+            }
+
+            @Override
+            public OutputStream compress(OutputStream out) throws IOException {
+                out.write(magic);
+                return new OutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b ^ 0xFF);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        out.close();
+                    }
+                };
+            }
+
+            @Override
+            public InputStream decompress(InputStream in) throws IOException {
+                in.readNBytes(magic.length);
+                return new FilterInputStream(in) {
+                    @Override
+                    public int read() throws IOException {
+                        int b = super.read();
+                        return b < 0 ? b : b ^ 0xFF;
+                    }
+
+                    @Override
+                    public int read(byte[] bytes, int offset, int length) throws IOException {
+                        int n = super.read(bytes, offset, length);
+                        for (int i = 0; i < n; i++) {
+                            bytes[offset + i] ^= (byte) 0xFF;
+                        }
+                        return n;
+                    }
+                };
+            }
+        };
+        SaveCodec previous = JsonGameRepository.getCompression();
+        Path file = dir.resolve("custom.sav");
+        try {
+            JsonGameRepository.setCompression(xor);
+            JsonGameRepository.save(state(11), file);
+        } finally {
+            JsonGameRepository.setCompression(previous);
+        }
+
+        assertEquals(11, JsonGameRepository.load(file).currentTowerLevel());
+    }
+}
@@ -0,0 +1,89 @@
+package dataaccess;
+
+import entity.Pokemon;
+import factory.MoveDefinitionCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import poke_api.BundledDataset;
+import poke_api.BundledDatasetWriter;
+import poke_api.FakePokeApi;
+import poke_api.MoveInfo;
+import poke_api.SpeciesInfo;
+import poke_api.pokemonFetcher;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonRepositoryTest {
+
+    private static PokemonRepository repositoryFor(FakePokeApi api) {
+        pokemonFetcher fetcher = api.fetcher();
+        return new PokemonRepository(fetcher, new MoveDefinitionCache(fetcher));
+    }
+
+    @Test
+    void loadAsync_ReturnsBeforeTheNetworkAnswers() {
+        FakePokeApi api = new FakePokeApi().withLatency(100)
+                .addSpecies("pikachu", "electric", 50, "thunderbolt")
+                .addMove("thunderbolt", "electric", 90, 15);
+
+        CompletableFuture<Pokemon> future = repositoryFor(api).loadAsync("pikachu");
+
+        assertFalse(future.isDone());
+        Pokemon pikachu = future.join();
+        assertEquals("pikachu", pikachu.getName());
+        assertEquals("thunderbolt", pikachu.getMoves()[0].getMoveName());
+        assertEquals(90, pikachu.getMoves()[0].getMovePower());
+    }
+
+    @Test
+    void loadAsync_FetchesSpeciesOnceButBuildsAFreshPokemonEachTime() {
+        FakePokeApi api = new FakePokeApi()
+                .addSpecies("snorlax", "normal", 100, "tackle")
+                .addMove("tackle", "normal", 40, 35);
+        PokemonRepository repository = repositoryFor(api);
+
+        Pokemon first = repository.loadAsync("snorlax").join();
+        Pokemon second = repository.loadAsync("snorlax").join();
+
+        assertNotSame(first, second);
+        assertNotSame(first.getMoves()[0], second.getMoves()[0]);
+        assertEquals(1, api.requestCount(pokemonFetcher.POKEMON_URL + "snorlax"));
+    }
+
+    @Test
+    void loadAsync_UnknownSpeciesCompletesExceptionally() {
+        PokemonRepository repository = repositoryFor(new FakePokeApi());
+
+        assertThrows(CompletionException.class, () -> repository.loadAsync("missingno").join());
+    }
+
+    @Test
+    void loadAsync_BundledSpeciesNeverTouchTheNetwork(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("pokedex.bin");
+        BundledDatasetWriter.write(file,
+                List.of(new SpeciesInfo(143, "snorlax", List.of("normal"), 160, 110, 65, 65, 110, 30,
+                        "front.png", "back.png", List.of("body-slam"))),
+                List.of(new MoveInfo(34, "body-slam", "normal", 85, 100, 15, "physical", "damage+ailment")));
+        FakePokeApi api = new FakePokeApi()
+                .addSpecies("pikachu", "electric", 50, "thunderbolt")
+                .addMove("thunderbolt", "electric", 90, 15);
+        pokemonFetcher fetcher = api.fetcher();
+        PokemonRepository repository = new PokemonRepository(fetcher, new MoveDefinitionCache(fetcher),
+                BundledDataset.open(file));
+
+        CompletableFuture<Pokemon> snorlax = repository.loadAsync("snorlax");
+        assertTrue(snorlax.isDone());
+        assertEquals("body-slam", snorlax.join().getMoves()[0].getMoveName());
+        assertEquals(0, api.totalRequests());
+
+        // species missing from the snapshot still come from the API
+        assertEquals("pikachu", repository.loadAsync("pikachu").join().getName());
+        assertEquals(2, api.totalRequests());
+    }
+}
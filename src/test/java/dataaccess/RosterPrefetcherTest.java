@@ -0,0 +1,62 @@
+package dataaccess;
+
+import factory.MoveDefinitionCache;
+import org.junit.jupiter.api.Test;
+import poke_api.FakePokeApi;
+import poke_api.pokemonFetcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterPrefetcherTest {
+
+    private static final List<String> ROSTER = List.of("bulbasaur", "charmander", "squirtle", "pidgey", "rattata");
+
+    private static FakePokeApi rosterApi() {
+        FakePokeApi api = new FakePokeApi().addMove("tackle", "normal", 40, 35);
+        for (String name : ROSTER) {
+            api.addSpecies(name, "normal", 45, "tackle");
+        }
+        return api;
+    }
+
+    private static PokemonRepository repositoryFor(FakePokeApi api) {
+        pokemonFetcher fetcher = api.fetcher();
+        return new PokemonRepository(fetcher, new MoveDefinitionCache(fetcher));
+    }
+
+    @Test
+    void prefetchedRoster_LoadsWithoutAnotherRequest() throws InterruptedException {
+        FakePokeApi api = rosterApi();
+        PokemonRepository repository = repositoryFor(api);
+        RosterPrefetcher prefetcher = new RosterPrefetcher(repository, 2);
+
+        prefetcher.start(ROSTER);
+        assertTrue(prefetcher.awaitCompletion(5, TimeUnit.SECONDS));
+        int requestsAfterPrefetch = api.totalRequests();
+
+        for (String name : ROSTER) {
+            assertTrue(repository.loadAsync(name).isDone(), name + " should already be cached");
+        }
+        assertEquals(ROSTER.size() + 1, requestsAfterPrefetch);
+        assertEquals(requestsAfterPrefetch, api.totalRequests());
+    }
+
+    @Test
+    void prioritize_MovesAQueuedNameToTheFront() throws InterruptedException {
+        FakePokeApi api = rosterApi().withLatency(50);
+        RosterPrefetcher prefetcher = new RosterPrefetcher(repositoryFor(api), 1);
+
+        prefetcher.start(ROSTER);
+        prefetcher.prioritize("rattata");
+        assertTrue(prefetcher.awaitCompletion(5, TimeUnit.SECONDS));
+
+        List<String> speciesOrder = api.requestLog().stream()
+                .filter(url -> url.startsWith(pokemonFetcher.POKEMON_URL))
+                .toList();
+        // the single worker may already have taken the first name before prioritize ran
+        assertTrue(speciesOrder.indexOf(pokemonFetcher.POKEMON_URL + "rattata") <= 1, speciesOrder.toString());
+    }
+}
@@ -0,0 +1,173 @@
+package dataaccess;
+
+import entity.BaseLevelStats;
+import entity.GameState;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import use_case.game_state_persistence.SaveGameInteractor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveSlotManagerTest {
+
+    @TempDir
+    Path dir;
+
+    private static GameState state(int level, String... team) {
+        PokemonTeam team1 = new PokemonTeam();
+        for (String name : team) {
+            BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                    .maxHp(50).attack(50).defense(50).specialAttack(50).specialDefense(50).speed(50)
+                    .build();
+            team1.addPokemon(new Pokemon(name, stats, List.of("normal")));
+        }
+        return new GameState(GameState.Screen.TEAM_SELECTION, GameState.Player.PLAYER1,
+                team1, new PokemonTeam(), null, level, 0);
+    }
+
+    @Test
+    void list_ShowsSlotsNewestFirstFromTheIndexAlone() throws IOException {
+        SaveSlotManager slots = new SaveSlotManager(dir, Clock.fixed(Instant.ofEpochSecond(1000), ZoneOffset.UTC));
+        slots.save("Old Run", state(2, "pikachu"));
+        new SaveSlotManager(dir, Clock.fixed(Instant.ofEpochSecond(2000), ZoneOffset.UTC))
+                .save("New Run!", state(7, "eevee", "snorlax"));
+
+        // a fresh manager must not need the slot files to list them
+        Files.writeString(dir.resolve("old-run.sav"), "not a save");
+        Files.writeString(dir.resolve("new-run.sav"), "not a save");
+        List<SaveSlotManager.SlotInfo> listed = new SaveSlotManager(dir).list();
+
+        assertEquals(2, listed.size());
+        assertEquals("new-run", listed.get(0).id());
+        assertEquals("New Run!", listed.get(0).name());
+        assertEquals(7, listed.get(0).towerLevel());
+        assertEquals(List.of("eevee", "snorlax"), listed.get(0).teamPreview());
+        assertEquals(Instant.ofEpochSecond(1000), listed.get(1).savedAt());
+    }
+
+    @Test
+    void open_LoadsTheFullStateOfASlot() {
+        SaveSlotManager slots = new SaveSlotManager(dir);
+        slots.save("Run", state(4, "gengar"));
+        slots.save("Run", state(5, "gengar", "lapras"));
+
+        GameState opened = new SaveSlotManager(dir).open("run");
+
+        assertEquals(5, opened.currentTowerLevel());
+        assertEquals(2, opened.player1Team().getTeam().size());
+        assertNull(slots.open("missing"));
+        assertThrows(IllegalArgumentException.class, () -> slots.open("../autosave"));
+    }
+
+    @Test
+    void list_RebuildsALostIndexFromTheSlotFiles() throws IOException {
+        SaveSlotManager slots = new SaveSlotManager(dir);
+        slots.save("first", state(1, "pikachu"));
+        slots.save("second", state(2, "eevee"));
+        Files.delete(dir.resolve(SaveSlotManager.INDEX_FILE));
+
+        List<SaveSlotManager.SlotInfo> listed = new SaveSlotManager(dir).list();
+
+        assertEquals(List.of("first", "second"), listed.stream().map(SaveSlotManager.SlotInfo::id).sorted().toList());
+        assertTrue(Files.exists(dir.resolve(SaveSlotManager.INDEX_FILE)));
+    }
+
+    @Test
+    void list_PicksUpSlotsTheIndexMissed() throws IOException {
+        SaveSlotManager slots = new SaveSlotManager(dir);
+        slots.save("kept", state(1, "pikachu"));
+        slots.save("deleted", state(2, "eevee"));
+        // as if the process died after writing a slot file but before the index
+        JsonGameRepository.save(state(3, "gengar"), dir.resolve("unlisted.sav"));
+        Files.delete(dir.resolve("deleted.sav"));
+
+        List<SaveSlotManager.SlotInfo> listed = new SaveSlotManager(dir).list();
+
+        assertEquals(List.of("kept", "unlisted"), listed.stream().map(SaveSlotManager.SlotInfo::id).sorted().toList());
+        assertEquals(List.of("gengar"), listed.stream()
+                .filter(slot -> slot.id().equals("unlisted")).findFirst().orElseThrow().teamPreview());
+        // and the index is repaired for the next reader
+        Files.writeString(dir.resolve("unlisted.sav"), "not a save");
+        assertEquals(2, new SaveSlotManager(dir).list().size());
+    }
+
+    @Test
+    void save_ManySlotsAtOnceAllEndUpInTheIndex() throws Exception {
+        SaveSlotManager slots = new SaveSlotManager(dir);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SaveSlotManager.SlotInfo>> saves = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int level = i;
+                saves.add(pool.submit(() -> slots.save("slot " + (level % 20), state(level, "pikachu"))));
+            }
+            for (Future<SaveSlotManager.SlotInfo> save : saves) {
+                assertNotNull(save.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<SaveSlotManager.SlotInfo> listed = new SaveSlotManager(dir).list();
+        assertEquals(20, listed.size());
+        for (SaveSlotManager.SlotInfo slot : listed) {
+            // the index and the slot file agree on whichever save won
+            assertEquals(slot.towerLevel(), slots.open(slot.id()).currentTowerLevel());
+        }
+    }
+
+    @Test
+    void list_ImportsOldJsonSavesOnFirstUseOnly() throws IOException {
+        String oldSave = SaveGameInteractor.toJson(state(4, "gengar")).toString(4);
+        Files.writeString(dir.resolve("My Team Save.json"), oldSave);
+        Files.writeString(dir.resolve("autosave.json"), oldSave);
+        Files.writeString(dir.resolve("autosave.snapshot.json"), oldSave);
+        Path slotDirectory = dir.resolve("saves");
+
+        SaveSlotManager slots = new SaveSlotManager(slotDirectory, dir);
+        List<SaveSlotManager.SlotInfo> listed = slots.list();
+
+        assertEquals(1, listed.size());
+        assertEquals("my-team-save", listed.get(0).id());
+        assertEquals("My Team Save", listed.get(0).name());
+        assertEquals(List.of("gengar"), listed.get(0).teamPreview());
+        assertEquals(4, slots.open("my-team-save").currentTowerLevel());
+        assertTrue(Files.exists(dir.resolve("My Team Save.json")));
+
+        // once the slots exist, a deleted import stays deleted
+        slots.delete("my-team-save");
+        assertTrue(new SaveSlotManager(slotDirectory, dir).list().isEmpty());
+    }
+
+    @Test
+    void delete_RemovesTheSlotAndItsEntry() {
+        SaveSlotManager slots = new SaveSlotManager(dir);
+        slots.save("gone", state(1));
+
+        slots.delete("gone");
+
+        assertFalse(slots.exists("gone"));
+        assertTrue(new SaveSlotManager(dir).list().isEmpty());
+        assertFalse(Files.exists(dir.resolve("gone.sav")));
+    }
+
+    @Test
+    void idFor_MakesNamesFileSafe() {
+        assertEquals("my-team-save", SaveSlotManager.idFor("  My Team / Save  "));
+        assertThrows(IllegalArgumentException.class, () -> SaveSlotManager.idFor(" ../ "));
+    }
+}
@@ -0,0 +1,44 @@
+package dataaccess;
+
+import entity.Pokemon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import poke_api.BundledDataset;
+import poke_api.BundledDatasetWriter;
+import poke_api.MoveInfo;
+import poke_api.SpeciesInfo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpeciesIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void fromDataset_RanksSpeciesByStrengthAndSkipsOnesThatCannotFight() throws IOException {
+        MoveInfo tackle = new MoveInfo(33, "tackle", "normal", 40, 100, 35, "physical", "damage");
+        MoveInfo splash = new MoveInfo(150, "splash", "normal", null, null, 40, "status", "unique");
+        Path file = dir.resolve("pokedex.bin");
+        BundledDatasetWriter.write(file, List.of(
+                new SpeciesInfo(143, "snorlax", List.of("normal"), 160, 110, 65, 65, 110, 30, null, null, List.of("tackle")),
+                new SpeciesInfo(19, "rattata", List.of("normal"), 30, 56, 35, 25, 35, 72, null, null, List.of("tackle")),
+                new SpeciesInfo(129, "magikarp", List.of("water"), 20, 10, 55, 15, 20, 80, null, null, List.of("splash"))),
+                List.of(tackle, splash));
+
+        SpeciesIndex index = SpeciesIndex.fromDataset(BundledDataset.open(file));
+
+        assertEquals(2, index.size());
+        assertEquals("rattata", index.name(0));
+        assertEquals("snorlax", index.name(1));
+        assertEquals(540, index.baseStatTotal(1));
+
+        Pokemon first = index.create(1);
+        first.takeDamage(50);
+        assertEquals(160, index.create(1).getCurrentHP());
+    }
+}
@@ -0,0 +1,56 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleStatsTest {
+
+    private static BattleStats stats() {
+        return new BattleStats(new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(50).attack(100).defense(60).specialAttack(80).specialDefense(70).speed(90)
+                .build());
+    }
+
+    @Test
+    void modifyStat_AppliesStageMultipliers() {
+        BattleStats stats = stats();
+
+        stats.modifyStat(StatType.ATTACK, 2);
+        stats.modifyStat(StatType.DEFENSE, -1);
+        stats.modifyStat(StatType.ACCURACY, 3);
+        stats.modifyStat(StatType.EVASION, -3);
+
+        assertEquals(200f, stats.getStat(StatType.ATTACK), 1e-4);
+        assertEquals(40f, stats.getStat(StatType.DEFENSE), 1e-4);
+        assertEquals(2f, stats.getStat(StatType.ACCURACY), 1e-4);
+        assertEquals(2f, stats.getStat(StatType.EVASION), 1e-4);
+        assertEquals(80f, stats.getStat(StatType.SPECIAL_ATTACK), 1e-4);
+    }
+
+    @Test
+    void modifyStat_ClampsToSixStages() {
+        BattleStats stats = stats();
+
+        stats.modifyStat(StatType.SPEED, 10);
+        stats.modifyStat(StatType.SPECIAL_DEFENSE, -10);
+
+        assertEquals(6, stats.getStage(StatType.SPEED));
+        assertEquals(360f, stats.getStat(StatType.SPEED), 1e-4);
+        assertEquals(-6, stats.getStage(StatType.SPECIAL_DEFENSE));
+        assertEquals(17.5f, stats.getStat(StatType.SPECIAL_DEFENSE), 1e-4);
+    }
+
+    @Test
+    void resetBattleModifiers_RestoresBaseValues() {
+        BattleStats stats = stats();
+        stats.modifyStat(StatType.ATTACK, 4);
+        stats.modifyStat(StatType.EVASION, 2);
+
+        stats.resetBattleModifiers();
+
+        assertEquals(0, stats.getStage(StatType.ATTACK));
+        assertEquals(100f, stats.getStat(StatType.ATTACK), 1e-4);
+        assertEquals(1f, stats.getStat(StatType.EVASION), 1e-4);
+    }
+}
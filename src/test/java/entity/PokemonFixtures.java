@@ -0,0 +1,82 @@
+package entity;
+
+import entity.moveyStuff.PhysicalDamageBehaviour;
+import entity.moveyStuff.SpecialDamageBehaviour;
+
+import java.util.List;
+
+/**
+ * Small Pokemon, moves and teams for tests, so every test class doesn't build its own.
+ * Pokemon get the same value for every base stat; moves hit with full accuracy.
+ */
+public final class PokemonFixtures {
+
+    private PokemonFixtures() {
+    }
+
+    public static BaseLevelStats stats(int stat) {
+        return new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(stat).attack(stat).defense(stat).specialAttack(stat).specialDefense(stat).speed(stat)
+                .build();
+    }
+
+    /** A Pokemon with every base stat at {@code stat} and the moves in its first slots. */
+    public static Pokemon pokemon(String name, String type, int stat, Move... moves) {
+        Pokemon pokemon = new Pokemon(name, stats(stat), List.of(type));
+        System.arraycopy(moves, 0, pokemon.getMoves(), 0, moves.length);
+        return pokemon;
+    }
+
+    public static Move physical(String name, String type, int power) {
+        return physical(name, type, power, 20);
+    }
+
+    public static Move physical(String name, String type, int power, int pp) {
+        return new Move(name, type, pp, "", "physical", 100, List.of(new PhysicalDamageBehaviour()), power);
+    }
+
+    public static Move special(String name, String type, int power) {
+        return special(name, type, power, 20);
+    }
+
+    public static Move special(String name, String type, int power, int pp) {
+        return new Move(name, type, pp, "", "special", 100, List.of(new SpecialDamageBehaviour()), power);
+    }
+
+    public static PokemonTeam team(Pokemon... members) {
+        PokemonTeam team = new PokemonTeam();
+        for (Pokemon member : members) {
+            team.addPokemon(member);
+        }
+        return team;
+    }
+
+    /**
+     * A battle between two full teams of six with four moves each, some HP and PP spent:
+     * a save with everything filled in.
+     */
+    public static GameState savedBattle() {
+        PokemonTeam team1 = new PokemonTeam();
+        PokemonTeam team2 = new PokemonTeam();
+        String[] names = {"pikachu", "charizard", "snorlax", "gengar", "lapras", "eevee"};
+        for (int i = 0; i < names.length; i++) {
+            team1.addPokemon(savedPokemon(names[i], 80 + i * 10));
+            team2.addPokemon(savedPokemon(names[names.length - 1 - i], 90 + i * 5));
+        }
+        team2.getActivePokemon().takeDamage(37);
+        return new GameState(GameState.Screen.BATTLE, GameState.Player.PLAYER2, team1, team2,
+                new GameState.BattlePhase(GameState.Turn.PLAYER2, 0, 3), 12, 40);
+    }
+
+    private static Pokemon savedPokemon(String name, int hp) {
+        BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(hp).attack(84).defense(78).specialAttack(109).specialDefense(85).speed(100)
+                .build();
+        Pokemon pokemon = new Pokemon(name, stats, List.of("fire", "flying"));
+        pokemon.getMoves()[0] = new Move("flamethrower", "fire", 15, "May burn the target.", "special", 100, 14);
+        pokemon.getMoves()[1] = new Move("air-slash", "flying", 15, "May cause flinching.", "special", 95, 15);
+        pokemon.getMoves()[2] = new Move("dragon-claw", "dragon", 15, "Slashes with claws.", "physical", 100, 3);
+        pokemon.getMoves()[3] = new Move("roost", "flying", 5, "Heals half its HP.", "status", 100, 5);
+        return pokemon;
+    }
+}
@@ -0,0 +1,50 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonTypeTest {
+
+    @Test
+    void fromName_IsCaseInsensitiveAndNullForUnknownTypes() {
+        assertEquals(PokemonType.FIRE, PokemonType.fromName("fire"));
+        assertEquals(PokemonType.FAIRY, PokemonType.fromName("Fairy"));
+        assertNull(PokemonType.fromName("shadow"));
+        assertNull(PokemonType.fromName(null));
+    }
+
+    @Test
+    void getEffectivenessAgainst_MultipliesBothTypes() {
+        assertEquals(4.0, PokemonType.FIRE.getEffectivenessAgainst(PokemonType.GRASS, PokemonType.BUG));
+        assertEquals(0.0, PokemonType.ELECTRIC.getEffectivenessAgainst(PokemonType.WATER, PokemonType.GROUND));
+        assertEquals(0.5, PokemonType.WATER.getEffectivenessAgainst(PokemonType.DRAGON, null));
+        assertEquals(1.0, PokemonType.NORMAL.getEffectivenessAgainst(null, null));
+    }
+
+    @Test
+    void getEffectivenessAgainst_MatrixAgreesWithTypeNames() {
+        for (PokemonType attacking : PokemonType.values()) {
+            for (PokemonType defending : PokemonType.values()) {
+                assertEquals(attacking.getEffectivenessAgainst(List.of(defending.name().toLowerCase())),
+                        attacking.getEffectivenessAgainst(defending, null),
+                        attacking + " vs " + defending);
+            }
+        }
+        assertEquals(0.25, PokemonType.GRASS.getEffectivenessAgainst(List.of("fire", "flying")));
+    }
+
+    @Test
+    void pokemonAndMove_ResolveTheirTypesOnce() {
+        BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(1).attack(1).defense(1).specialAttack(1).specialDefense(1).speed(1).build();
+        Pokemon gyarados = new Pokemon("gyarados", stats, List.of("water", "flying"));
+        Move thunderbolt = new Move("thunderbolt", "electric", 15, "", "special", 100, List.of(), 90);
+
+        assertEquals(PokemonType.WATER, gyarados.getPrimaryType());
+        assertEquals(PokemonType.FLYING, gyarados.getSecondaryType());
+        assertEquals(PokemonType.ELECTRIC, thunderbolt.getPokemonType());
+    }
+}
@@ -0,0 +1,105 @@
+package entity.moveyStuff;
+
+import entity.BaseLevelStats;
+import entity.BattleStats;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonType;
+import entity.StatType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the damage formula's hot path: reading attack/defense out of
+ * {@link BattleStats}, applying stage changes and the type-effectiveness lookup.
+ * Run {@link #main} and check that the GC profiler's {@code gc.alloc.rate.norm}
+ * stays at ~0 B/op for every benchmark except {@link #typeModifierByName}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamageFormulaBenchmark {
+
+    private BattleStats attacker;
+    private BattleStats defender;
+    private Move move;
+    private PhysicalDamageBehaviour physical;
+    private SpecialDamageBehaviour special;
+    private int stageChange;
+    private Move fireMove;
+    private Pokemon grassBug;
+
+    @Setup
+    public void setUp() {
+        BaseLevelStats base = new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(80).attack(100).defense(85).specialAttack(95).specialDefense(90).speed(70)
+                .build();
+        attacker = new BattleStats(base);
+        defender = new BattleStats(base);
+        move = new Move("tackle", "normal", 35, "", "physical", 100, List.of(), 40);
+        physical = new PhysicalDamageBehaviour();
+        special = new SpecialDamageBehaviour();
+        stageChange = 1;
+        fireMove = new Move("ember", "fire", 25, "", "special", 100, List.of(), 40);
+        grassBug = new Pokemon("paras", base, List.of("bug", "grass"));
+    }
+
+    @Benchmark
+    public int physicalBaseDamage() {
+        return physical.getBaseDamage(move, null, null, attacker, defender);
+    }
+
+    @Benchmark
+    public int specialBaseDamage() {
+        return special.getBaseDamage(move, null, null, attacker, defender);
+    }
+
+    @Benchmark
+    public float modifyThenRead() {
+        // walks the attack stage up to +6 and back so every table entry gets used
+        attacker.modifyStat(StatType.ATTACK, stageChange);
+        int stage = attacker.getStage(StatType.ATTACK);
+        if (stage == 6 || stage == -6) {
+            stageChange = -stageChange;
+        }
+        return attacker.getStat(StatType.ATTACK);
+    }
+
+    @Benchmark
+    public double typeModifier() {
+        PokemonType moveType = fireMove.getPokemonType();
+        return moveType.getEffectivenessAgainst(grassBug.getPrimaryType(), grassBug.getSecondaryType());
+    }
+
+    /** The lookup damage used to do before types were resolved at construction. */
+    @Benchmark
+    public double typeModifierByName() {
+        return PokemonType.valueOf(fireMove.getMoveType().toUpperCase())
+                .getEffectivenessAgainst(grassBug.getTypes());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DamageFormulaBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
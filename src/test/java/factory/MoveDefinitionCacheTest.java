@@ -0,0 +1,60 @@
+package factory;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import poke_api.FakePokeApi;
+import poke_api.MoveInfo;
+import poke_api.pokemonFetcher;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveDefinitionCacheTest {
+
+    private static final String[] MOVES = {"tackle", "thunderbolt", "hyper-beam", "rest", "psychic"};
+
+    // long enough latency for concurrent species loads to overlap
+    private final FakePokeApi api = new FakePokeApi().withLatency(30)
+            .addMove("tackle", "normal", 40, 35)
+            .addMove("thunderbolt", "electric", 90, 15)
+            .addMove("hyper-beam", "normal", 150, 5)
+            .addMove("rest", "psychic", null, 5)
+            .addMove("psychic", "psychic", 90, 10)
+            .addSpecies("pikachu", "electric", 55, "tackle", "thunderbolt", "hyper-beam")
+            .addSpecies("snorlax", "normal", 110, "tackle", "hyper-beam", "rest")
+            .addSpecies("mewtwo", "psychic", 130, "hyper-beam", "psychic");
+    private final pokemonFetcher fetcher = api.fetcher();
+
+    @Test
+    void concurrentSpeciesLoads_FetchEachSharedMoveOnce() {
+        MoveDefinitionCache cache = new MoveDefinitionCache(fetcher);
+        JSONObject pikachuSpecies = fetcher.getPokemon("pikachu");
+        JSONObject snorlaxSpecies = fetcher.getPokemon("snorlax");
+        JSONObject mewtwoSpecies = fetcher.getPokemon("mewtwo");
+
+        CompletableFuture<Map<String, MoveInfo>> pikachu = cache.getMoves(pikachuSpecies);
+        CompletableFuture<Map<String, MoveInfo>> snorlax = cache.getMoves(snorlaxSpecies);
+        CompletableFuture<Map<String, MoveInfo>> mewtwo = cache.getMoves(mewtwoSpecies);
+
+        assertEquals(3, pikachu.join().size());
+        assertEquals(3, snorlax.join().size());
+        assertEquals(2, mewtwo.join().size());
+        assertEquals(MOVES.length, cache.size());
+        for (String move : MOVES) {
+            assertEquals(1, api.requestCount(FakePokeApi.MOVE_URL + move + "/"), move);
+        }
+    }
+
+    @Test
+    void laterLoads_AreServedFromTheCache() {
+        MoveDefinitionCache cache = new MoveDefinitionCache(fetcher);
+        cache.getMoves(fetcher.getPokemon("pikachu")).join();
+
+        MoveInfo tackle = cache.get("tackle", FakePokeApi.MOVE_URL + "tackle/").join();
+
+        assertEquals("tackle", tackle.getName());
+        assertEquals(1, api.requestCount(FakePokeApi.MOVE_URL + "tackle/"));
+    }
+}
@@ -0,0 +1,56 @@
+package factory;
+
+import entity.Move;
+import entity.Pokemon;
+import org.junit.jupiter.api.Test;
+import poke_api.MoveInfo;
+import poke_api.SpeciesInfo;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonFactoryTest {
+
+    private static final SpeciesInfo PIKACHU = new SpeciesInfo(25, "pikachu", List.of("electric"),
+            35, 55, 40, 50, 50, 90, "front.png", "back.png", List.of());
+
+    private static Map<String, MoveInfo> moves(MoveInfo... infos) {
+        Map<String, MoveInfo> moves = new LinkedHashMap<>();
+        for (MoveInfo info : infos) {
+            moves.put(info.getName(), info);
+        }
+        return moves;
+    }
+
+    @Test
+    void getPokemon_UsesTheMovesAccuracyAndDamageClass() {
+        Pokemon pikachu = new pokemonFactory().getPokemon(PIKACHU, moves(
+                new MoveInfo(85, "thunderbolt", "electric", 90, 100, 15, "special", "damage+ailment"),
+                new MoveInfo(21, "slam", "normal", 80, 75, 20, "physical", "damage"),
+                new MoveInfo(129, "swift", "normal", 60, null, 20, "special", "damage")));
+
+        Move[] moves = pikachu.getMoves();
+        assertEquals("special", moves[0].getMoveClass());
+        assertEquals("physical", moves[1].getMoveClass());
+        assertEquals(75, moves[1].getMoveAccuracy());
+        // swift never misses
+        assertEquals(100, moves[2].getMoveAccuracy());
+    }
+
+    @Test
+    void getPokemon_SkipsMovesWhoseEffectIsNotImplemented() {
+        Pokemon pikachu = new pokemonFactory().getPokemon(PIKACHU, moves(
+                new MoveInfo(86, "thunder-wave", "electric", null, 90, 20, "status", "ailment"),
+                new MoveInfo(84, "thunder-shock", "electric", 40, 100, 30, "special", "damage+ailment"),
+                new MoveInfo(45, "growl", "normal", null, 100, 40, "status", "net-good-stats"),
+                new MoveInfo(105, "recover", "normal", null, null, 5, "status", "heal")));
+
+        Move[] moves = pikachu.getMoves();
+        assertEquals("thunder-shock", moves[0].getMoveName());
+        assertEquals("recover", moves[1].getMoveName());
+        assertNull(moves[2]);
+    }
+}
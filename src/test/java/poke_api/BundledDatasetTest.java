@@ -0,0 +1,93 @@
+package poke_api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BundledDatasetTest {
+
+    @TempDir
+    Path dir;
+
+    private static final MoveInfo THUNDERBOLT = new MoveInfo(85, "thunderbolt", "electric", 90, 100, 15, "special", "damage+ailment");
+    private static final MoveInfo SWIFT = new MoveInfo(129, "swift", "normal", 60, null, 20, "special", "damage");
+    private static final MoveInfo GROWL = new MoveInfo(45, "growl", "normal", null, 100, 40, "status", "net-good-stats");
+
+    private BundledDataset writeSample() throws IOException {
+        Path file = dir.resolve("pokedex.bin");
+        SpeciesInfo pikachu = new SpeciesInfo(25, "pikachu", List.of("electric"), 35, 55, 40, 50, 50, 90,
+                "front/25.png", "back/25.png", List.of("thunderbolt", "growl", "not-bundled", "swift"));
+        SpeciesInfo bulbasaur = new SpeciesInfo(1, "bulbasaur", List.of("grass", "poison"), 45, 49, 49, 65, 65, 45,
+                "front/1.png", null, List.of("growl"));
+        BundledDatasetWriter.write(file, List.of(pikachu, bulbasaur), List.of(THUNDERBOLT, SWIFT, GROWL));
+        return BundledDataset.open(file);
+    }
+
+    @Test
+    void species_RoundTripsByNameAndId() throws IOException {
+        BundledDataset dataset = writeSample();
+
+        SpeciesInfo byName = dataset.species("bulbasaur");
+        SpeciesInfo byId = dataset.species(1);
+        assertEquals(2, dataset.speciesCount());
+        assertEquals(1, byName.getId());
+        assertEquals(byName.getName(), byId.getName());
+        assertEquals(List.of("grass", "poison"), byName.getTypes());
+        assertEquals(45, byName.getHp());
+        assertEquals(65, byName.getSpecialDefense());
+        assertEquals("front/1.png", byName.getFrontSpriteUrl());
+        assertNull(byName.getBackSpriteUrl());
+    }
+
+    @Test
+    void move_KeepsNullPowerAndAccuracy() throws IOException {
+        BundledDataset dataset = writeSample();
+
+        MoveInfo growl = dataset.move("growl");
+        MoveInfo swift = dataset.move(129);
+        assertNull(growl.getPower());
+        assertEquals(100, growl.getAccuracy());
+        assertEquals("status", growl.getDamageClass());
+        assertEquals("net-good-stats", growl.getCategory());
+        assertEquals("swift", swift.getName());
+        assertNull(swift.getAccuracy());
+        assertEquals(60, swift.getPower());
+        assertEquals(20, swift.getPp());
+    }
+
+    @Test
+    void movesOf_KeepsApiOrderAndDropsMovesThatWereNotBundled() throws IOException {
+        BundledDataset dataset = writeSample();
+
+        SpeciesInfo pikachu = dataset.species("pikachu");
+        Map<String, MoveInfo> moves = dataset.movesOf(pikachu);
+        assertEquals(List.of("thunderbolt", "growl", "swift"), List.copyOf(moves.keySet()));
+        assertEquals(pikachu.getMoveNames(), List.copyOf(moves.keySet()));
+        assertEquals("electric", moves.get("thunderbolt").getType());
+    }
+
+    @Test
+    void lookups_MissReturnNull() throws IOException {
+        BundledDataset dataset = writeSample();
+
+        assertNull(dataset.species("missingno"));
+        assertNull(dataset.species(0));
+        assertNull(dataset.move("splash"));
+        assertNull(dataset.move(150));
+    }
+
+    @Test
+    void open_RejectsFilesWithoutTheMagicNumber() throws IOException {
+        Path file = dir.resolve("not-a-dataset.bin");
+        Files.writeString(file, "{\"name\": \"pikachu\"}");
+
+        assertThrows(IOException.class, () -> BundledDataset.open(file));
+    }
+}
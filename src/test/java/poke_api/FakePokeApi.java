@@ -0,0 +1,143 @@
+package poke_api;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in for the PokeAPI so tests never touch the network.
+ * Register species and moves, then build a fetcher with {@link #fetcher()}.
+ */
+public class FakePokeApi implements Interceptor {
+    public static final String MOVE_URL = "https://pokeapi.co/api/v2/move/";
+
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> requestLog = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long latencyMillis = 0;
+
+    public FakePokeApi withLatency(long millis) {
+        this.latencyMillis = millis;
+        return this;
+    }
+
+    public FakePokeApi addMove(String name, String type, Integer power, int pp) {
+        JSONObject move = new JSONObject()
+                .put("name", name)
+                .put("pp", pp)
+                .put("power", power == null ? JSONObject.NULL : power)
+                .put("type", new JSONObject().put("name", type));
+        return addMove(move);
+    }
+
+    public FakePokeApi addMove(JSONObject move) {
+        bodies.put(MOVE_URL + move.getString("name") + "/", move.toString());
+        return this;
+    }
+
+    /**
+     * Registers a species whose six base stats all equal {@code baseStat}.
+     */
+    public FakePokeApi addSpecies(String name, String type, int baseStat, String... moveNames) {
+        JSONArray moves = new JSONArray();
+        for (String move : moveNames) {
+            moves.put(new JSONObject().put("move",
+                    new JSONObject().put("name", move).put("url", MOVE_URL + move + "/")));
+        }
+        JSONArray stats = new JSONArray();
+        for (String stat : new String[]{"hp", "attack", "defense", "special-attack", "special-defense", "speed"}) {
+            stats.put(new JSONObject().put("base_stat", baseStat).put("stat", new JSONObject().put("name", stat)));
+        }
+        JSONObject species = new JSONObject()
+                .put("id", bodies.size() + 1)
+                .put("name", name)
+                .put("types", new JSONArray().put(new JSONObject().put("type", new JSONObject().put("name", type))))
+                .put("stats", stats)
+                .put("sprites", new JSONObject()
+                        .put("front_default", "https://sprites.example/" + name + ".png")
+                        .put("back_default", "https://sprites.example/back/" + name + ".png"))
+                .put("moves", moves);
+        bodies.put(pokemonFetcher.POKEMON_URL + name, species.toString());
+        return this;
+    }
+
+    public int requestCount(String url) {
+        AtomicInteger count = requests.get(url);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Every requested URL, in the order the requests arrived.
+     */
+    public List<String> requestLog() {
+        return new ArrayList<>(requestLog);
+    }
+
+    public int totalRequests() {
+        return requests.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * The most requests that were ever being answered at the same time.
+     */
+    public int maxConcurrentRequests() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * The JSON registered for {@code url}, or null; handy for seeding a {@link ResponseCache}.
+     */
+    public String body(String url) {
+        return bodies.get(url);
+    }
+
+    public pokemonFetcher fetcher() {
+        return new pokemonFetcher(client());
+    }
+
+    public OkHttpClient client() {
+        return pokemonFetcher.clientBuilder().addInterceptor(this).build();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        String url = chain.request().url().toString();
+        requests.computeIfAbsent(url, key -> new AtomicInteger()).incrementAndGet();
+        requestLog.add(url);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        String body = bodies.get(url);
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(body == null ? 404 : 200)
+                .message(body == null ? "Not Found" : "OK")
+                .body(ResponseBody.create(body == null ? "Not Found" : body, MediaType.get("application/json")))
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package poke_api;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonFetcherTest {
+
+    private static final int MOVE_COUNT = 30;
+
+    /** A species with moves move-0..move-(count-1); move-0 has no power. */
+    private static FakePokeApi apiWithMoves(int count) {
+        FakePokeApi api = new FakePokeApi();
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = "move-" + i;
+            api.addMove(names[i], "normal", i == 0 ? null : 40, 10);
+        }
+        return api.addSpecies("testmon", "normal", 50, names);
+    }
+
+    @Test
+    void getPokemonMovesAsync_FetchesEveryMoveConcurrentlyWithinLimit() {
+        FakePokeApi api = apiWithMoves(MOVE_COUNT).withLatency(20);
+        pokemonFetcher fetcher = api.fetcher();
+        JSONObject testmon = fetcher.getPokemon("testmon");
+
+        Map<String, MoveInfo> moves = fetcher.getPokemonMovesAsync(testmon).join();
+
+        assertEquals(MOVE_COUNT, moves.size());
+        for (int i = 0; i < MOVE_COUNT; i++) {
+            assertEquals(1, api.requestCount(FakePokeApi.MOVE_URL + "move-" + i + "/"));
+        }
+        assertTrue(api.maxConcurrentRequests() > 1, "moves should be fetched in parallel");
+        assertTrue(api.maxConcurrentRequests() <= pokemonFetcher.MAX_CONCURRENT_REQUESTS);
+    }
+
+    @Test
+    void getPokemonMovesAsync_KeepsApiOrderAndNullPower() {
+        pokemonFetcher fetcher = apiWithMoves(3).fetcher();
+        JSONObject testmon = fetcher.getPokemon("testmon");
+
+        Map<String, MoveInfo> moves = fetcher.getPokemonMovesAsync(testmon).join();
+
+        assertArrayEquals(new String[]{"move-0", "move-1", "move-2"}, moves.keySet().toArray());
+        assertNull(moves.get("move-0").getPower());
+        assertEquals(40, moves.get("move-1").getPower());
+        assertEquals("normal", moves.get("move-1").getType());
+        assertEquals(10, moves.get("move-2").getPp());
+    }
+
+    @Test
+    void getPokemonMovesAsync_LeavesOutAMoveThatFailsToLoad() {
+        FakePokeApi api = new FakePokeApi()
+                .addMove("tackle", "normal", 40, 35)
+                .addSpecies("testmon", "normal", 50, "tackle", "missing-move");
+        pokemonFetcher fetcher = api.fetcher();
+
+        Map<String, MoveInfo> moves = fetcher.getPokemonMovesAsync(fetcher.getPokemon("testmon")).join();
+
+        assertEquals(Set.of("tackle"), moves.keySet());
+        assertEquals(1, api.requestCount(FakePokeApi.MOVE_URL + "missing-move/"));
+    }
+}
@@ -0,0 +1,116 @@
+package poke_api;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private static final String TACKLE_URL = FakePokeApi.MOVE_URL + "tackle/";
+
+    /** Clock the tests can move forward by hand. */
+    private static class ManualClock extends Clock {
+        Instant now = Instant.now();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static FakePokeApi pikachuApi() {
+        return new FakePokeApi()
+                .addMove("tackle", "normal", 40, 35)
+                .addSpecies("pikachu", "electric", 55, "tackle");
+    }
+
+    private static void seed(ResponseCache cache) {
+        FakePokeApi api = pikachuApi();
+        String pikachuUrl = pokemonFetcher.POKEMON_URL + "pikachu";
+        cache.put(pikachuUrl, api.body(pikachuUrl));
+        cache.put(TACKLE_URL, api.body(TACKLE_URL));
+    }
+
+    @Test
+    void offlineFetcher_ServesPreSeededCacheWithoutNetwork(@TempDir Path dir) {
+        seed(new ResponseCache(dir, ResponseCache.DEFAULT_TTL, ResponseCache.DEFAULT_MAX_BYTES, false));
+        FakePokeApi api = pikachuApi();
+        ResponseCache offline = new ResponseCache(dir, ResponseCache.DEFAULT_TTL, ResponseCache.DEFAULT_MAX_BYTES, true);
+        pokemonFetcher fetcher = new pokemonFetcher(api.client(), offline);
+
+        JSONObject pikachu = fetcher.getPokemon("pikachu");
+        Map<String, MoveInfo> moves = fetcher.getPokemonMovesAsync(pikachu).join();
+
+        assertEquals("pikachu", fetcher.getPokemonName(pikachu));
+        assertEquals(35, moves.get("tackle").getPp());
+        assertEquals(0, api.totalRequests());
+    }
+
+    @Test
+    void offlineFetcher_MissFailsImmediately(@TempDir Path dir) {
+        // online this miss would be answered; offline it must not reach the API at all
+        FakePokeApi api = pikachuApi();
+        ResponseCache offline = new ResponseCache(dir, ResponseCache.DEFAULT_TTL, ResponseCache.DEFAULT_MAX_BYTES, true);
+        pokemonFetcher fetcher = new pokemonFetcher(api.client(), offline);
+
+        CompletableFuture<MoveInfo> future = fetcher.getMoveAsync(TACKLE_URL);
+
+        assertTrue(future.isCompletedExceptionally());
+        assertTrue(fetcher.getPokemon("missingno").isEmpty());
+        assertEquals(0, api.totalRequests());
+    }
+
+    @Test
+    void expiredEntry_IsAMissOnlineButStillServedOffline(@TempDir Path dir) {
+        ManualClock clock = new ManualClock();
+        ResponseCache online = new ResponseCache(dir, Duration.ofDays(1), ResponseCache.DEFAULT_MAX_BYTES, false, clock);
+        ResponseCache offline = new ResponseCache(dir, Duration.ofDays(1), ResponseCache.DEFAULT_MAX_BYTES, true, clock);
+        online.put(TACKLE_URL, "{}");
+
+        clock.now = clock.now.plus(Duration.ofDays(2));
+
+        assertNull(online.get(TACKLE_URL));
+        assertEquals("{}", offline.get(TACKLE_URL));
+    }
+
+    @Test
+    void exceedingSizeCap_EvictsLeastRecentlyUsedEntry(@TempDir Path dir) {
+        ManualClock clock = new ManualClock();
+        String body = "x".repeat(100);
+        ResponseCache cache = new ResponseCache(dir, ResponseCache.DEFAULT_TTL, 250, false, clock);
+
+        cache.put("a", body);
+        clock.now = clock.now.plusSeconds(1);
+        cache.put("b", body);
+        clock.now = clock.now.plusSeconds(1);
+        assertNotNull(cache.get("a"));
+        clock.now = clock.now.plusSeconds(1);
+        cache.put("c", body);
+
+        assertNotNull(cache.get("a"));
+        assertFalse(Files.exists(cache.entryFor("b")));
+        assertNotNull(cache.get("c"));
+    }
+}
@@ -0,0 +1,87 @@
+package simulation;
+
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonFixtures;
+import entity.PokemonTeam;
+import entity.moveyStuff.ForceSwitchBehaviour;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static entity.PokemonFixtures.physical;
+import static entity.PokemonFixtures.team;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleEngineTest {
+
+    private static Pokemon pokemon(String name, String type, int stat, int power, int pp) {
+        return PokemonFixtures.pokemon(name, type, stat, physical("tackle", "normal", power, pp));
+    }
+
+    @Test
+    void run_StrongerTeamWinsAndDamageIsTallied() {
+        PokemonTeam strong = team(pokemon("snorlax", "normal", 150, 80, 30));
+        PokemonTeam weak = team(pokemon("rattata", "normal", 40, 40, 30), pokemon("pidgey", "normal", 40, 40, 30));
+
+        BattleResult result = new BattleEngine().run(strong, weak,
+                new GreedyDamagePolicy(), new GreedyDamagePolicy(), new SplittableRandom(1));
+
+        assertEquals(BattleResult.Winner.TEAM1, result.winner());
+        assertEquals(80, result.team1DamageDealt());
+        assertEquals(150 - strong.getActivePokemon().getCurrentHP(), result.team2DamageDealt());
+        assertTrue(result.turns() > 2);
+        for (Pokemon fainted : weak.getTeam()) {
+            assertEquals(0, fainted.getCurrentHP());
+        }
+    }
+
+    @Test
+    void run_EndsWithNoWinnerWhenNeitherSideCanMove() {
+        PokemonTeam team1 = team(pokemon("chansey", "normal", 250, 1, 2));
+        PokemonTeam team2 = team(pokemon("blissey", "normal", 250, 1, 2));
+
+        BattleResult result = new BattleEngine(50).run(team1, team2,
+                new RandomMovePolicy(), new RandomMovePolicy(), new SplittableRandom(7));
+
+        assertEquals(BattleResult.Winner.NONE, result.winner());
+        assertEquals(50, result.turns());
+        assertEquals(0, team1.getActivePokemon().getMoves()[0].getCurrentPp());
+    }
+
+    private static PokemonTeam roarTeam(String prefix) {
+        PokemonTeam team = new PokemonTeam();
+        for (int i = 0; i < 4; i++) {
+            Pokemon pokemon = pokemon(prefix + i, "normal", 40 + 5 * i, 30 + 10 * i, 20);
+            pokemon.getMoves()[1] = new Move("roar", "normal", 20, "", "status", 100,
+                    List.of(new ForceSwitchBehaviour()), 0);
+            team.addPokemon(pokemon);
+        }
+        return team;
+    }
+
+    @Test
+    void run_SameSeedReplaysTheSameBattle() {
+        BattleResult first = new BattleEngine().run(roarTeam("a"), roarTeam("b"),
+                new RandomMovePolicy(), new RandomMovePolicy(), new SplittableRandom(99));
+        BattleResult second = new BattleEngine().run(roarTeam("a"), roarTeam("b"),
+                new RandomMovePolicy(), new RandomMovePolicy(), new SplittableRandom(99));
+
+        assertEquals(first.winner(), second.winner());
+        assertEquals(first.turns(), second.turns());
+        assertEquals(first.team1DamageDealt(), second.team1DamageDealt());
+        assertArrayEquals(first.team1KnockOuts(), second.team1KnockOuts());
+        assertArrayEquals(first.team2KnockOuts(), second.team2KnockOuts());
+    }
+
+    @Test
+    void run_RejectsMovesWithoutPp() {
+        PokemonTeam team1 = team(pokemon("magikarp", "water", 20, 10, 1));
+        PokemonTeam team2 = team(pokemon("feebas", "water", 20, 10, 1));
+        BattlePolicy alwaysFirstSlot = (battle, random) -> BattleDecision.useMove(0);
+
+        assertThrows(IllegalArgumentException.class, () -> new BattleEngine().run(team1, team2,
+                alwaysFirstSlot, alwaysFirstSlot, new SplittableRandom(3)));
+    }
+}
@@ -0,0 +1,188 @@
+package simulation;
+
+import entity.BaseLevelStats;
+import entity.Battle;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import entity.StatType;
+import entity.moveyStuff.ForceSwitchBehaviour;
+import entity.moveyStuff.HealBehaviour;
+import entity.moveyStuff.OneHitKnockOutBehaviour;
+import entity.moveyStuff.PhysicalDamageBehaviour;
+import entity.moveyStuff.StatModifierBehaviour;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static entity.PokemonFixtures.physical;
+import static entity.PokemonFixtures.special;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactBattleStateTest {
+
+    private static Pokemon pokemon(String name, String type, int hp, int attack, int defense) {
+        BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(hp).attack(attack).defense(defense).specialAttack(attack).specialDefense(defense).speed(50)
+                .build();
+        Pokemon pokemon = new Pokemon(name, stats, List.of(type));
+        Move[] moves = pokemon.getMoves();
+        moves[0] = physical("tackle", "normal", 40, 30);
+        moves[1] = special("ember", "fire", 45, 20);
+        moves[2] = new Move("swords-dance", "normal", 10, "", "status", 100,
+                List.of(new StatModifierBehaviour(StatType.ATTACK, 2, true)), 0);
+        moves[3] = new Move("screech", "normal", 10, "", "status", 100,
+                List.of(new StatModifierBehaviour(StatType.DEFENSE, -2, false)), 0);
+        moves[4] = new Move("recover", "normal", 5, "", "status", 100, List.of(new HealBehaviour()), 0);
+        moves[5] = new Move("roar", "normal", 10, "", "status", 100, List.of(new ForceSwitchBehaviour()), 0);
+        moves[6] = new Move("dragon-tail", "dragon", 10, "", "physical", 90,
+                List.of(new ForceSwitchBehaviour(), new PhysicalDamageBehaviour()), 60);
+        moves[7] = new Move("fissure", "ground", 1, "", "physical", 30, List.of(new OneHitKnockOutBehaviour()), 0);
+        return pokemon;
+    }
+
+    private static PokemonTeam team(String... entries) {
+        PokemonTeam team = new PokemonTeam();
+        for (int i = 0; i < entries.length; i++) {
+            String[] parts = entries[i].split(":");
+            team.addPokemon(pokemon(parts[0], parts[1], 80 + 15 * i, 40 + 7 * i, 45 + 5 * i));
+        }
+        return team;
+    }
+
+    private static PokemonTeam team1() {
+        return team("charmander:fire", "squirtle:water", "bulbasaur:grass", "pikachu:electric");
+    }
+
+    private static PokemonTeam team2() {
+        return team("geodude:rock", "gastly:ghost", "eevee:normal");
+    }
+
+    private static List<Integer> usableSlots(Battle battle) {
+        List<Integer> slots = new ArrayList<>();
+        Move[] moves = battle.getCurrentTurnPokemon().getMoves();
+        for (int i = 0; i < moves.length; i++) {
+            if (BattleEngine.isUsable(moves[i])) slots.add(i);
+        }
+        return slots;
+    }
+
+    /** One MOVE turn with the same steps BattleEngine takes. */
+    private static void playMove(Battle battle, int slot) {
+        PokemonTeam defenderTeam = battle.getOpponentTeam();
+        Pokemon attacker = battle.getCurrentTurnPokemon();
+        Pokemon defender = battle.getOpponentPokemon();
+        attacker.getMoves()[slot].useMove(battle.getCurrentTurnTeam(), defenderTeam,
+                battle.getBattleStatsMap().get(attacker), battle.getBattleStatsMap().get(defender), battle.getRandom());
+        if (defender.getCurrentHP() <= 0) {
+            battle.handleFaintedPokemon(defenderTeam);
+        }
+    }
+
+    private static void assertMatches(Battle battle, CompactBattleState state, List<Pokemon> start1, List<Pokemon> start2) {
+        List<List<Pokemon>> starts = List.of(start1, start2);
+        List<PokemonTeam> teams = List.of(battle.getTeam1(), battle.getTeam2());
+        assertEquals(battle.isTeam1Turn() ? 0 : 1, state.sideToMove());
+        for (int side = 0; side < 2; side++) {
+            for (int position = 0; position < state.teamSize(side); position++) {
+                Pokemon pokemon = teams.get(side).getTeam().get(position);
+                int slot = state.slotAt(side, position);
+                assertSame(starts.get(side).get(slot), pokemon);
+                assertEquals(pokemon.getCurrentHP(), state.hp(side, slot));
+                for (StatType stat : StatType.values()) {
+                    assertEquals(battle.getBattleStatsMap().get(pokemon).getStage(stat), state.stage(side, slot, stat));
+                }
+                for (int move = 0; move < state.moveSlots(); move++) {
+                    Move real = pokemon.getMoves()[move];
+                    assertEquals(real == null ? 0 : real.getCurrentPp(), state.pp(side, slot, move));
+                }
+            }
+        }
+    }
+
+    @Test
+    void applyMove_PlaysOutExactlyLikeTheBattle() {
+        for (long seed = 0; seed < 20; seed++) {
+            Battle battle = new Battle(team1(), team2(), new SplittableRandom(seed));
+            CompactBattleState state = CompactBattleState.of(battle);
+            SplittableRandom stateRandom = new SplittableRandom(seed);
+            SplittableRandom choices = new SplittableRandom(seed + 100);
+            List<Pokemon> start1 = List.copyOf(battle.getTeam1().getTeam());
+            List<Pokemon> start2 = List.copyOf(battle.getTeam2().getTeam());
+
+            for (int turn = 0; turn < 200 && !state.isOver(); turn++) {
+                List<Integer> usable = usableSlots(battle);
+                if (usable.isEmpty() || choices.nextInt(10) == 0) {
+                    int position = choices.nextInt(state.teamSize(state.sideToMove()));
+                    battle.getCurrentTurnTeam().switchActivePokemon(position);
+                    state.applySwitch(position);
+                } else {
+                    int slot = usable.get(choices.nextInt(usable.size()));
+                    assertTrue(state.isUsable(slot));
+                    playMove(battle, slot);
+                    state.applyMove(slot, stateRandom);
+                }
+                if (!battle.checkBattleEnd()) {
+                    battle.switchTurn();
+                }
+                assertMatches(battle, state, start1, start2);
+            }
+            assertEquals(battle.checkBattleEnd(), state.isOver());
+        }
+    }
+
+    @Test
+    void undo_RestoresTheExactPosition() {
+        CompactBattleState state = CompactBattleState.of(team1(), team2());
+        CompactBattleState before = state.copy();
+        SplittableRandom random = new SplittableRandom(5);
+
+        state.applyMove(2, random);  // swords dance
+        state.applyMove(5, random);  // roar
+        state.applySwitch(2);
+        state.applyMove(6, random);  // dragon tail
+        state.applyPass();
+        assertNotEquals(before, state);
+        assertEquals(5, state.undoDepth());
+
+        for (int i = 0; i < 5; i++) {
+            state.undo();
+        }
+        assertEquals(before, state);
+        assertEquals(before.hashCode(), state.hashCode());
+        assertThrows(IllegalStateException.class, state::undo);
+    }
+
+    @Test
+    void copy_IsIndependentOfTheOriginal() {
+        CompactBattleState original = CompactBattleState.of(team1(), team2());
+        original.applyPass();
+        original.applyPass();
+        CompactBattleState copy = original.copy();
+        assertEquals(2, original.undoDepth());
+        assertEquals(0, copy.undoDepth());
+
+        copy.applyMove(0, new SplittableRandom(1));
+
+        assertEquals(80, original.hp(1, 0));
+        assertTrue(copy.hp(1, 0) < 80);
+        assertEquals(29, copy.pp(0, 0, 0));
+        assertEquals(30, original.pp(0, 0, 0));
+        assertEquals(0, original.sideToMove());
+        assertEquals(1, copy.sideToMove());
+    }
+
+    @Test
+    void applyMove_RejectsEmptyAndSpentSlots() {
+        CompactBattleState state = CompactBattleState.of(team1(), team2());
+        SplittableRandom random = new SplittableRandom(2);
+
+        assertThrows(IllegalArgumentException.class, () -> state.applyMove(9, random));
+        state.applyMove(7, random);  // fissure, 1 PP
+        state.applyPass();
+        assertFalse(state.isUsable(7));
+        assertThrows(IllegalArgumentException.class, () -> state.applyMove(7, random));
+    }
+}
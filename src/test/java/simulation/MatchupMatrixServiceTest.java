@@ -0,0 +1,72 @@
+package simulation;
+
+import entity.Pokemon;
+import entity.PokemonFixtures;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static entity.PokemonFixtures.physical;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchupMatrixServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private static Pokemon pokemon(String name, int stat, int power) {
+        return PokemonFixtures.pokemon(name, "normal", stat,
+                physical("tackle", "normal", power, 35), physical("scratch", "normal", power / 2, 35));
+    }
+
+    private static List<Pokemon> roster() {
+        return List.of(pokemon("mewtwo", 150, 100), pokemon("pidgey", 40, 40), pokemon("rattata", 45, 40));
+    }
+
+    @Test
+    void getOrCompute_FillsEveryPair() {
+        MatchupMatrix matrix = new MatchupMatrixService(dir.resolve("matchups.json"), 50, 1).getOrCompute(roster());
+
+        assertEquals(List.of("mewtwo", "pidgey", "rattata"), matrix.getSpecies());
+        assertEquals(1.0, matrix.winRate("mewtwo", "pidgey"));
+        assertEquals(0.0, matrix.winRate("pidgey", "mewtwo"));
+        assertEquals(40.0, matrix.expectedDamage("mewtwo", "pidgey"));
+        assertTrue(matrix.averageTurns("pidgey", "rattata") > 1);
+        assertEquals(List.of("pidgey", "rattata"), matrix.goodAgainst("mewtwo", 5).stream().sorted().toList());
+        assertEquals("mewtwo", matrix.weakAgainst("pidgey", 5).get(0));
+        assertEquals(List.of("mewtwo"), matrix.weakAgainst("pidgey", 1));
+    }
+
+    @Test
+    void getOrCompute_ReusesTheCacheUntilTheRosterChanges() throws IOException {
+        Path cache = dir.resolve("matchups.json");
+        MatchupMatrixService service = new MatchupMatrixService(cache, 20, 1);
+        service.getOrCompute(roster());
+
+        // tamper with the cached numbers but keep the fingerprint
+        JSONObject json = new JSONObject(Files.readString(cache));
+        json.getJSONArray("winRate").getJSONArray(1).put(0, 0.75);
+        Files.writeString(cache, json.toString());
+        assertEquals(0.75, service.getOrCompute(roster()).winRate("pidgey", "mewtwo"));
+
+        // a stronger pidgey no longer matches the fingerprint, so the matrix is rebuilt
+        List<Pokemon> buffed = List.of(pokemon("mewtwo", 150, 100), pokemon("pidgey", 41, 40), pokemon("rattata", 45, 40));
+        assertEquals(0.0, service.getOrCompute(buffed).winRate("pidgey", "mewtwo"));
+    }
+
+    @Test
+    void getOrCompute_RecomputesWhenTheCacheIsCorrupt() throws IOException {
+        Path cache = dir.resolve("matchups.json");
+        Files.writeString(cache, "{not json");
+
+        MatchupMatrix matrix = new MatchupMatrixService(cache, 10, 1).getOrCompute(roster());
+
+        assertEquals(3, matrix.getSpecies().size());
+        assertEquals(matrix.getFingerprint(), new JSONObject(Files.readString(cache)).getString("fingerprint"));
+    }
+}
@@ -0,0 +1,75 @@
+package simulation;
+
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonFixtures;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+
+
+import static entity.PokemonFixtures.physical;
+import static entity.PokemonFixtures.team;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSimulatorTest {
+
+    private static Pokemon pokemon(String name, int stat, int... powers) {
+        Move[] moves = new Move[powers.length];
+        for (int i = 0; i < powers.length; i++) {
+            moves[i] = physical("move-" + powers[i], "normal", powers[i], 30);
+        }
+        return PokemonFixtures.pokemon(name, "normal", stat, moves);
+    }
+
+    private static MonteCarloSimulator randomSimulator() {
+        return new MonteCarloSimulator(new BattleEngine(), new RandomMovePolicy(), new RandomMovePolicy(), 64);
+    }
+
+    @Test
+    void simulate_IsReproducibleForASeedAndLeavesTheTeamsAlone() {
+        PokemonTeam team1 = team(pokemon("a", 60, 10, 90), pokemon("b", 55, 40, 50));
+        PokemonTeam team2 = team(pokemon("c", 60, 20, 80), pokemon("d", 60, 45, 45));
+
+        MatchupStats first = randomSimulator().simulate(team1, team2, 500, 0, 42);
+        MatchupStats second = randomSimulator().simulate(team1, team2, 500, 0, 42);
+
+        assertEquals(500, first.trials());
+        assertFalse(first.stoppedEarly());
+        assertEquals(first.team1Wins(), second.team1Wins());
+        assertEquals(first.averageTurns(), second.averageTurns());
+        assertArrayEquals(first.team1KnockOuts(), second.team1KnockOuts());
+        assertEquals(500, first.team1Wins() + first.team2Wins() + first.draws());
+        assertTrue(first.team1Wins() > 0 && first.team2Wins() > 0, "the matchup should be close");
+
+        assertEquals(60, team1.getActivePokemon().getCurrentHP());
+        assertEquals("a", team1.getActivePokemon().getName());
+        assertEquals(30, team2.getActivePokemon().getMoves()[0].getCurrentPp());
+    }
+
+    @Test
+    void simulate_StopsEarlyForAOneSidedMatchup() {
+        PokemonTeam strong = team(pokemon("mewtwo", 200, 120));
+        PokemonTeam weak = team(pokemon("magikarp", 20, 10), pokemon("caterpie", 20, 10));
+
+        MatchupStats stats = randomSimulator().simulate(strong, weak, 100_000, 0.01, 1);
+
+        assertTrue(stats.stoppedEarly());
+        assertTrue(stats.trials() < 100_000);
+        assertEquals(1.0, stats.winRate());
+        assertTrue(stats.winRateHigh() - stats.winRateLow() <= 0.02);
+        // mewtwo knocks both of them out every time
+        assertEquals(2.0, stats.team1KnockOutsPerBattle(0));
+        assertEquals(0.0, stats.team2KnockOutsPerBattle(1));
+    }
+
+    @Test
+    void wilson_StaysInsideZeroAndOne() {
+        double[] allWins = MonteCarloSimulator.wilson(50, 50);
+        double[] half = MonteCarloSimulator.wilson(500, 1000);
+
+        assertEquals(1.0, allWins[1], 1e-9);
+        assertTrue(allWins[0] > 0.9 && allWins[0] < 1.0);
+        assertEquals(0.469, half[0], 1e-3);
+        assertEquals(0.531, half[1], 1e-3);
+    }
+}
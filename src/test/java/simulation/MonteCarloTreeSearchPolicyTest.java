@@ -0,0 +1,99 @@
+package simulation;
+
+import entity.Battle;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static entity.PokemonFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloTreeSearchPolicyTest {
+
+    private static Battle ghostBattle() {
+        PokemonTeam team1 = team(pokemon("gastly", "ghost", 60, physical("lick", "ghost", 30)));
+        PokemonTeam team2 = team(pokemon("rattata", "normal", 60,
+                physical("hyper-fang", "normal", 80), physical("bite", "dark", 60)));
+        Battle battle = new Battle(team1, team2);
+        battle.switchTurn();
+        return battle;
+    }
+
+    @Test
+    void decide_TakesTheKnockOutInsteadOfLettingTheOpponentHitBack() {
+        MonteCarloTreeSearchPolicy policy = new MonteCarloTreeSearchPolicy(2, 2000, Duration.ZERO);
+        PokemonTeam team1 = team(pokemon("pidgey", "normal", 10, physical("body-slam", "normal", 500)));
+        PokemonTeam team2 = team(pokemon("rattata", "normal", 10,
+                physical("growl", "normal", 1), physical("body-slam", "normal", 500)));
+        Battle battle = new Battle(team1, team2);
+        battle.switchTurn();
+
+        BattleDecision decision = policy.decide(battle, new SplittableRandom(1));
+
+        assertEquals(BattleDecision.useMove(1), decision);
+    }
+
+    @Test
+    void decide_StopsAtTheIterationBudgetAndReportsMetrics() {
+        MonteCarloTreeSearchPolicy policy = new MonteCarloTreeSearchPolicy(3, 1000, Duration.ZERO);
+
+        policy.decide(ghostBattle(), new SplittableRandom(2));
+
+        MonteCarloTreeSearchPolicy.Metrics metrics = policy.getLastMetrics();
+        assertEquals(1000, metrics.rollouts());
+        assertEquals(0, metrics.reusedVisits());
+        assertTrue(metrics.rolloutsPerSecond() > 0);
+    }
+
+    @Test
+    void decide_ReusesTheSubtreeForTheNextTurn() {
+        MonteCarloTreeSearchPolicy policy = new MonteCarloTreeSearchPolicy(1, 3000, Duration.ZERO);
+        PokemonTeam team1 = team(pokemon("pidgey", "normal", 90, physical("tackle", "normal", 40),
+                physical("peck", "flying", 35)));
+        PokemonTeam team2 = team(pokemon("rattata", "normal", 90, physical("tackle", "normal", 40),
+                physical("bite", "dark", 60)));
+        Battle battle = new Battle(team1, team2, new SplittableRandom(3));
+        battle.switchTurn();
+
+        BattleDecision first = policy.decide(battle, battle.getRandom());
+        playMove(battle, first.index());
+        playMove(battle, 0);
+        policy.decide(battle, battle.getRandom());
+
+        assertTrue(policy.getLastMetrics().reusedVisits() > 0);
+    }
+
+    private static void playMove(Battle battle, int slot) {
+        Pokemon attacker = battle.getCurrentTurnPokemon();
+        Pokemon defender = battle.getOpponentPokemon();
+        attacker.getMoves()[slot].useMove(battle.getCurrentTurnTeam(), battle.getOpponentTeam(),
+                battle.getBattleStatsMap().get(attacker), battle.getBattleStatsMap().get(defender), battle.getRandom());
+        battle.switchTurn();
+    }
+
+    @Test
+    void constructor_RequiresABudget() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloTreeSearchPolicy(1, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloTreeSearchPolicy(0, 10, Duration.ZERO));
+    }
+
+    @Test
+    void decide_InterruptedSearchStopsItsWorkers() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        MonteCarloTreeSearchPolicy endless = new MonteCarloTreeSearchPolicy(threads, Long.MAX_VALUE, Duration.ZERO);
+
+        Thread.currentThread().interrupt();
+        BattleDecision decision = endless.decide(ghostBattle(), new SplittableRandom(4));
+
+        assertTrue(Thread.interrupted());
+        assertNotNull(decision);
+        assertEquals(0, endless.getLastMetrics().rollouts());
+        // would wait forever behind the endless workers if they kept the shared pool busy
+        MonteCarloTreeSearchPolicy next = new MonteCarloTreeSearchPolicy(1, 100, Duration.ZERO);
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> next.decide(ghostBattle(), new SplittableRandom(5)));
+    }
+}
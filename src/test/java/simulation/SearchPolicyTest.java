@@ -0,0 +1,91 @@
+package simulation;
+
+import entity.Battle;
+import entity.Move;
+import entity.PokemonTeam;
+import entity.moveyStuff.ForceSwitchBehaviour;
+import entity.moveyStuff.HealBehaviour;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static entity.PokemonFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchPolicyTest {
+
+    @Test
+    void decide_PicksTheMoveThatLandsOverTheStrongerOneThatDoesNot() {
+        PokemonTeam team1 = team(pokemon("gastly", "ghost", 60, physical("lick", "ghost", 30)));
+        PokemonTeam team2 = team(pokemon("rattata", "normal", 60,
+                physical("hyper-fang", "normal", 80), physical("bite", "dark", 60)));
+        Battle battle = new Battle(team1, team2);
+        battle.switchTurn();
+
+        BattleDecision decision = new SearchPolicy().decide(battle, new SplittableRandom(1));
+
+        // normal moves can't touch a ghost
+        assertEquals(BattleDecision.useMove(1), decision);
+    }
+
+    @Test
+    void decide_SwitchesInATeamMateThatCanLandHits() {
+        PokemonTeam team1 = team(pokemon("gastly", "ghost", 60, special("shadow-ball", "ghost", 80)));
+        PokemonTeam team2 = team(
+                pokemon("rattata", "normal", 60, physical("tackle", "normal", 40)),
+                pokemon("ekans", "poison", 30, physical("tackle", "normal", 40)),
+                pokemon("houndour", "dark", 60, physical("crunch", "dark", 80)));
+        Battle battle = new Battle(team1, team2);
+        battle.switchTurn();
+
+        BattleDecision decision = new SearchPolicy().decide(battle, new SplittableRandom(1));
+
+        assertEquals(BattleDecision.switchTo(2), decision);
+    }
+
+    @Test
+    void decide_AnswersWithinTheTurnBudgetOnFullTeams() {
+        String[] types = {"fire", "water", "grass", "electric", "rock", "psychic"};
+        PokemonTeam team1 = new PokemonTeam();
+        PokemonTeam team2 = new PokemonTeam();
+        for (int i = 0; i < 6; i++) {
+            Move roar = new Move("roar", "normal", 20, "", "status", 100, List.of(new ForceSwitchBehaviour()), 0);
+            Move recover = new Move("recover", "normal", 10, "", "status", 100, List.of(new HealBehaviour()), 0);
+            team1.addPokemon(pokemon("a" + i, types[i], 80 + i, physical("tackle", "normal", 40),
+                    special("beam", types[i], 70), roar, recover));
+            team2.addPokemon(pokemon("b" + i, types[5 - i], 80 + i, physical("tackle", "normal", 40),
+                    special("beam", types[5 - i], 70), roar, recover));
+        }
+        Battle battle = new Battle(team1, team2);
+        SearchPolicy policy = new SearchPolicy();
+        policy.decide(battle, new SplittableRandom(1));  // warm up
+
+        long start = System.nanoTime();
+        BattleDecision decision = policy.decide(battle, new SplittableRandom(1));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotNull(decision);
+        assertTrue(elapsedMillis < 100, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void run_BeatsRandomMovesMostOfTheTime() {
+        SearchPolicy policy = new SearchPolicy(Duration.ofMillis(20), 4);
+        int wins = 0;
+        for (int game = 0; game < 10; game++) {
+            PokemonTeam team1 = team(
+                    pokemon("charmander", "fire", 70, physical("scratch", "normal", 40), special("ember", "fire", 60)),
+                    pokemon("squirtle", "water", 70, physical("tackle", "normal", 40), special("bubble", "water", 60)));
+            PokemonTeam team2 = team(
+                    pokemon("charmander", "fire", 70, physical("scratch", "normal", 40), special("ember", "fire", 60)),
+                    pokemon("squirtle", "water", 70, physical("tackle", "normal", 40), special("bubble", "water", 60)));
+
+            BattleResult result = new BattleEngine().run(team1, team2, new RandomMovePolicy(), policy,
+                    new SplittableRandom(game));
+            if (result.winner() == BattleResult.Winner.TEAM2) wins++;
+        }
+        assertTrue(wins >= 8, "won " + wins + " of 10");
+    }
+}
@@ -0,0 +1,70 @@
+package tower;
+
+import entity.Pokemon;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TowerFloorsTest {
+
+    /** Runs queued work only when asked to, so tests can see what is pending. */
+    private static class ManualExecutor implements Executor {
+        final List<Runnable> queued = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queued.add(command);
+        }
+
+        void runAll() {
+            List<Runnable> work = new ArrayList<>(queued);
+            queued.clear();
+            work.forEach(Runnable::run);
+        }
+    }
+
+    @Test
+    void opponentFor_PreparesTheNextFloorsInTheBackground() {
+        ManualExecutor executor = new ManualExecutor();
+        TowerTeamGenerator generator = new TowerTeamGenerator(TowerTeamGeneratorTest.index(), 5);
+        TowerFloors floors = new TowerFloors(generator, 2, executor);
+
+        PokemonTeam first = floors.opponentFor(1);
+        assertEquals(1, first.getTeam().size());
+        assertEquals(2, executor.queued.size());
+        assertFalse(floors.isReady(2));
+
+        executor.runAll();
+        assertTrue(floors.isReady(2));
+        assertTrue(floors.isReady(3));
+
+        PokemonTeam second = floors.opponentFor(2);
+        assertEquals(names(generator.generate(2)), names(second));
+        // floor 3 was already prepared, so only floor 4 is new
+        assertEquals(1, executor.queued.size());
+        assertFalse(floors.isReady(2));
+    }
+
+    @Test
+    void opponentFor_GeneratesOnTheSpotAfterAJump() {
+        ManualExecutor executor = new ManualExecutor();
+        TowerTeamGenerator generator = new TowerTeamGenerator(TowerTeamGeneratorTest.index(), 5);
+        TowerFloors floors = new TowerFloors(generator, 1, executor);
+        floors.opponentFor(1);
+        executor.runAll();
+
+        PokemonTeam team = floors.opponentFor(9);
+
+        assertEquals(names(generator.generate(9)), names(team));
+        assertFalse(floors.isReady(2));
+    }
+
+    private static List<String> names(PokemonTeam team) {
+        return team.getTeam().stream().map(Pokemon::getName).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package tower;
+
+import dataaccess.SpeciesIndex;
+import entity.BaseLevelStats;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import entity.moveyStuff.PhysicalDamageBehaviour;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TowerTeamGeneratorTest {
+
+    /** 40 species whose base stat total grows with their number. */
+    static SpeciesIndex index() {
+        List<Pokemon> species = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            int stat = 20 + 3 * i;
+            BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                    .maxHp(stat).attack(stat).defense(stat).specialAttack(stat).specialDefense(stat).speed(stat)
+                    .build();
+            Pokemon pokemon = new Pokemon("species-" + i, stats, List.of("normal"));
+            pokemon.getMoves()[0] = new Move("tackle", "normal", 35, "", "physical", 100,
+                    List.of(new PhysicalDamageBehaviour()), 40);
+            species.add(pokemon);
+        }
+        return new SpeciesIndex(species);
+    }
+
+    private static double averageStatTotal(PokemonTeam team) {
+        return team.getTeam().stream()
+                .mapToInt(p -> p.getBaseStats().getMaxHp() * 6)
+                .average().orElse(0);
+    }
+
+    @Test
+    void generate_IsTheSameForTheSameSeedAndLevel() {
+        SpeciesIndex index = index();
+        PokemonTeam first = new TowerTeamGenerator(index, 42).generate(7);
+        PokemonTeam second = new TowerTeamGenerator(index, 42).generate(7);
+
+        assertEquals(names(first), names(second));
+        assertNotSame(first.getTeam().get(0), second.getTeam().get(0));
+    }
+
+    @Test
+    void generate_GrowsTheTeamAndItsStrengthWithTheLevel() {
+        TowerTeamGenerator generator = new TowerTeamGenerator(index(), 1);
+
+        assertEquals(1, generator.generate(1).getTeam().size());
+        assertEquals(3, generator.generate(5).getTeam().size());
+        assertEquals(6, generator.generate(11).getTeam().size());
+        assertEquals(6, generator.generate(99).getTeam().size());
+        assertTrue(averageStatTotal(generator.generate(3)) < averageStatTotal(generator.generate(15)));
+        assertTrue(averageStatTotal(generator.generate(15)) < averageStatTotal(generator.generate(30)));
+    }
+
+    @Test
+    void generate_NeverRepeatsASpeciesAndHandsOutFreshPokemon() {
+        TowerTeamGenerator generator = new TowerTeamGenerator(index(), 9);
+        for (int level = 1; level <= 40; level++) {
+            PokemonTeam team = generator.generate(level);
+            Set<String> unique = new HashSet<>(names(team));
+            assertEquals(team.getTeam().size(), unique.size());
+        }
+
+        PokemonTeam team = generator.generate(12);
+        team.getTeam().get(0).takeDamage(1000);
+        Pokemon again = generator.generate(12).getTeam().get(0);
+        assertEquals(again.getBaseStats().getMaxHp(), again.getCurrentHP());
+    }
+
+    private static List<String> names(PokemonTeam team) {
+        return team.getTeam().stream().map(Pokemon::getName).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package use_case.game_state_persistence;
+
+import entity.GameState;
+import entity.PokemonFixtures;
+import entity.PokemonTeam;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySaveFormatTest {
+
+    @Test
+    void decode_ReadsBackEverythingTheJsonSaveHolds() throws IOException {
+        GameState state = PokemonFixtures.savedBattle();
+
+        GameState decoded = BinarySaveFormat.decode(BinarySaveFormat.encode(state));
+
+        assertTrue(SaveGameInteractor.toJson(state).similar(SaveGameInteractor.toJson(decoded)));
+    }
+
+    @Test
+    void decode_HandlesAnEmptyGameWithoutABattle() throws IOException {
+        GameState state = new GameState(GameState.Screen.TEAM_SELECTION, GameState.Player.PLAYER1,
+                new PokemonTeam(), new PokemonTeam(), null, 1, 0);
+
+        GameState decoded = BinarySaveFormat.decode(BinarySaveFormat.encode(state));
+
+        assertNull(decoded.battlePhase());
+        assertTrue(decoded.player1Team().getTeam().isEmpty());
+        assertEquals(GameState.Screen.TEAM_SELECTION, decoded.currentScreen());
+    }
+
+    @Test
+    void encode_IsMuchSmallerThanThePrettyPrintedJson() {
+        GameState state = PokemonFixtures.savedBattle();
+
+        int binary = BinarySaveFormat.encode(state).length;
+        int json = SaveGameInteractor.toJson(state).toString(4).getBytes(StandardCharsets.UTF_8).length;
+
+        assertTrue(binary * 5 < json, binary + " bytes vs " + json);
+    }
+
+    @Test
+    void decode_RejectsAFlippedByte() {
+        byte[] bytes = BinarySaveFormat.encode(PokemonFixtures.savedBattle());
+        bytes[bytes.length / 2] ^= 0x10;
+
+        IOException error = assertThrows(IOException.class, () -> BinarySaveFormat.decode(bytes));
+        assertTrue(error.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void isBinary_TellsTheFormatsApartByHeader() {
+        assertTrue(BinarySaveFormat.isBinary(BinarySaveFormat.encode(PokemonFixtures.savedBattle())));
+        assertFalse(BinarySaveFormat.isBinary("{\"currentScreen\":\"BATTLE\"}".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(BinarySaveFormat.isBinary(new byte[0]));
+    }
+}
@@ -0,0 +1,83 @@
+package use_case.game_state_persistence;
+
+import entity.GameState;
+import entity.PokemonFixtures;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON save path (org.json DOM, pretty-printed with indent 4, as
+ * {@code JsonGameRepository} writes it) with {@link BinarySaveFormat} on a battle with
+ * two full teams. {@link #main} prints both sizes before running; use the GC profiler's
+ * {@code gc.alloc.rate.norm} for the allocation side.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveFormatBenchmark {
+
+    private GameState state;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        state = PokemonFixtures.savedBattle();
+        json = encodeJson(state);
+        binary = BinarySaveFormat.encode(state);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return encodeJson(state);
+    }
+
+    @Benchmark
+    public GameState jsonDecode() {
+        return SaveGameInteractor.fromJson(new JSONObject(new String(json, StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return BinarySaveFormat.encode(state);
+    }
+
+    @Benchmark
+    public GameState binaryDecode() throws IOException {
+        return BinarySaveFormat.decode(binary);
+    }
+
+    private static byte[] encodeJson(GameState state) {
+        return SaveGameInteractor.toJson(state).toString(4).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        GameState state = PokemonFixtures.savedBattle();
+        System.out.println("JSON:   " + encodeJson(state).length + " bytes");
+        System.out.println("binary: " + BinarySaveFormat.encode(state).length + " bytes");
+        new Runner(new OptionsBuilder()
+                .include(SaveFormatBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
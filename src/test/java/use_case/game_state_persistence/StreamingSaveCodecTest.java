@@ -0,0 +1,133 @@
+package use_case.game_state_persistence;
+
+import entity.GameState;
+import entity.PokemonFixtures;
+import entity.Move;
+import entity.PokemonTeam;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingSaveCodecTest {
+
+    private static String write(GameState state, int indent) throws IOException {
+        StringWriter out = new StringWriter();
+        StreamingSaveCodec.write(state, out, indent);
+        return out.toString();
+    }
+
+    @Test
+    void write_ProducesTheSameDocumentAsSaveGameInteractor() throws IOException {
+        GameState state = PokemonFixtures.savedBattle();
+
+        String streamed = write(state, 4);
+
+        assertTrue(SaveGameInteractor.toJson(state).similar(new JSONObject(streamed)));
+        assertTrue(streamed.startsWith("{\n    \"currentScreen\": \"BATTLE\",\n"));
+        assertFalse(write(state, 0).contains("\n"));
+    }
+
+    @Test
+    void read_ReadsSavesWrittenByOrgJson() throws IOException {
+        GameState state = PokemonFixtures.savedBattle();
+        String saved = SaveGameInteractor.toJson(state).toString(4);
+
+        GameState read = StreamingSaveCodec.read(new StringReader(saved));
+
+        assertTrue(SaveGameInteractor.toJson(state).similar(SaveGameInteractor.toJson(read)));
+    }
+
+    @Test
+    void read_AppliesTheSameDefaultsAndSkipsUnknownKeys() throws IOException {
+        String saved = """
+                {"version": {"nested": [1, 2.5e3, true, null, "x"]},
+                 "currentScreen": "TEAM_SELECTION", "activeTeamSelector": "PLAYER1",
+                 "currentTowerLevel": "3", "highScore": 7,
+                 "player2Team": {"pokemons": []},
+                 "player1Team": {"pokemons": [{
+                     "name": "Mr. \\"Mime\\" \\u00e9", "currentHP": 40, "types": ["psychic"],
+                     "baseStats": {"maxHp": 40, "attack": 45, "defense": 65,
+                                   "specialAttack": 100, "specialDefense": 120, "speed": 90},
+                     "moves": [{"moveName": "confusion", "moveType": "psychic", "maxPp": 25}]}]}}
+                """;
+
+        GameState state = StreamingSaveCodec.read(new StringReader(saved));
+
+        assertNull(state.battlePhase());
+        assertEquals(3, state.currentTowerLevel());
+        assertEquals("Mr. \"Mime\" é", state.player1Team().getActivePokemon().getName());
+        Move move = state.player1Team().getActivePokemon().getMoves()[0];
+        assertEquals("confusion move", move.getMoveDescription());
+        assertEquals("physical", move.getMoveClass());
+        assertEquals(25, move.getCurrentPp());
+        assertEquals(100, move.getMoveAccuracy());
+    }
+
+    @Test
+    void read_ReturnsNullForAnEmptyFileAndRejectsBrokenOnes() throws IOException {
+        assertNull(StreamingSaveCodec.read(new StringReader("  \n")));
+
+        String saved = write(new GameState(GameState.Screen.BATTLE, GameState.Player.PLAYER1,
+                new PokemonTeam(), new PokemonTeam(), null, 1, 0), 4);
+        assertThrows(IOException.class,
+                () -> StreamingSaveCodec.read(new StringReader(saved.substring(0, saved.length() / 2))));
+        assertThrows(IOException.class,
+                () -> StreamingSaveCodec.read(new StringReader(saved.replace("\"highScore\": 0", "\"score\": 0"))));
+    }
+
+    @Test
+    void read_PassesOverHugeValuesWithoutBufferingThem() throws IOException {
+        // ~20 MB of an unknown array, produced on the fly so only the parser could hold it
+        String tail = write(new GameState(GameState.Screen.GAME_OVER, GameState.Player.PLAYER1,
+                new PokemonTeam(), new PokemonTeam(), null, 9, 9), 0).substring(1);
+        String head = "{\"archive\":[";
+        long elements = 10_000_000;
+        long length = head.length() + 2 * elements + 3 + tail.length();
+        Reader huge = new Reader() {
+            private long position;
+
+            @Override
+            public int read(char[] buffer, int offset, int count) {
+                if (position == length) {
+                    return -1;
+                }
+                int n = 0;
+                for (; n < count && position < length; n++, position++) {
+                    buffer[offset + n] = charAt(position);
+                }
+                return n;
+            }
+
+            // head, then "0,0,...,0]" with `elements` + 1 zeros, then "," and the real fields
+            private char charAt(long p) {
+                if (p < head.length()) {
+                    return head.charAt((int) p);
+                }
+                long q = p - head.length();
+                if (q < 2 * elements) {
+                    return q % 2 == 0 ? '0' : ',';
+                }
+                q -= 2 * elements;
+                if (q < 3) {
+                    return "0],".charAt((int) q);
+                }
+                return tail.charAt((int) (q - 3));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        GameState state = StreamingSaveCodec.read(huge);
+
+        assertEquals(GameState.Screen.GAME_OVER, state.currentScreen());
+        assertEquals(9, state.highScore());
+    }
+}
@@ -0,0 +1,111 @@
+package use_case.use_move;
+
+import entity.BaseLevelStats;
+import entity.Battle;
+import entity.Move;
+import entity.Pokemon;
+import entity.PokemonTeam;
+import entity.moveyStuff.PhysicalDamageBehaviour;
+import org.junit.jupiter.api.Test;
+import simulation.BattleDecision;
+import simulation.BattlePolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UseMoveInteractorTest {
+
+    private static class CapturingPresenter implements UseMoveOutputBoundary {
+        final List<String> messages = new ArrayList<>();
+        String fail;
+        boolean ended;
+
+        @Override
+        public void prepareSuccessView(UseMoveOutputData outputData) {
+            messages.add(outputData.getMessage());
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            fail = error;
+        }
+
+        @Override
+        public void prepareBattleEndView(UseMoveOutputData outputData) {
+            messages.add(outputData.getMessage());
+            ended = true;
+        }
+    }
+
+    private static PokemonTeam team(String name, int hp) {
+        BaseLevelStats stats = new BaseLevelStats.BaseLevelStatsBuilder()
+                .maxHp(hp).attack(50).defense(50).specialAttack(50).specialDefense(50).speed(50)
+                .build();
+        Pokemon pokemon = new Pokemon(name, stats, List.of("normal"));
+        pokemon.getMoves()[0] = new Move("tackle", "normal", 35, "", "physical", 100,
+                List.of(new PhysicalDamageBehaviour()), 40);
+        PokemonTeam team = new PokemonTeam();
+        team.addPokemon(pokemon);
+        return team;
+    }
+
+    private static Battle battle() {
+        return new Battle(team("pikachu", 100), team("eevee", 100));
+    }
+
+    @Test
+    void execute_WithoutOpponentPolicyWaitsForPlayer2() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        Battle battle = battle();
+
+        new UseMoveInteractor(presenter).execute(
+                new UseMoveInputData(battle, battle.getCurrentTurnPokemon().getMoves()[0], 0));
+
+        assertEquals(1, presenter.messages.size());
+        assertFalse(battle.isTeam1Turn());
+    }
+
+    @Test
+    void execute_OpponentPolicyPlaysPlayer2sTurnRightAway() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        Battle battle = battle();
+        BattlePolicy alwaysTackle = (b, random) -> BattleDecision.useMove(0);
+
+        new UseMoveInteractor(presenter, alwaysTackle).execute(
+                new UseMoveInputData(battle, battle.getCurrentTurnPokemon().getMoves()[0], 0));
+
+        assertEquals(2, presenter.messages.size());
+        assertTrue(presenter.messages.get(1).startsWith("eevee used tackle!"));
+        assertTrue(battle.isTeam1Turn());
+        assertTrue(battle.getTeam1().getActivePokemon().getCurrentHP() < 100);
+    }
+
+    @Test
+    void playOpponentTurn_DoesNothingOnPlayer1sTurn() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        Battle battle = battle();
+        BattlePolicy failing = (b, random) -> fail("policy should not be asked");
+
+        new UseMoveInteractor(presenter, failing).playOpponentTurn(battle);
+
+        assertTrue(presenter.messages.isEmpty());
+        assertTrue(battle.isTeam1Turn());
+    }
+
+    @Test
+    void playOpponentTurn_ReportsASwitchAndPassesTheTurnBack() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        PokemonTeam team2 = team("eevee", 100);
+        team2.addPokemon(team("snorlax", 150).getActivePokemon());
+        Battle battle = new Battle(team("pikachu", 100), team2);
+        battle.switchTurn();
+
+        new UseMoveInteractor(presenter, (b, random) -> BattleDecision.switchTo(1)).playOpponentTurn(battle);
+
+        assertEquals("snorlax", team2.getActivePokemon().getName());
+        assertTrue(presenter.messages.get(0).contains("Go, snorlax!"));
+        assertTrue(battle.isTeam1Turn());
+    }
+}